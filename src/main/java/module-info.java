@@ -17,9 +17,12 @@ module org.eclipse.yasson {
     requires java.logging;
     requires java.sql;
     requires static java.desktop;
+    requires static java.compiler;
     
     exports org.eclipse.yasson;
     exports org.eclipse.yasson.spi;
+    exports org.eclipse.yasson.processor;
     provides javax.json.bind.spi.JsonbProvider with org.eclipse.yasson.JsonBindingProvider;
     uses org.eclipse.yasson.spi.JsonbComponentInstanceCreator;
+    uses org.eclipse.yasson.spi.JsonbClassDescriptorProvider;
 }
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+
+package org.eclipse.yasson;
+
+/**
+ * Snapshot of mapping held by a {@link YassonJsonb} instance.
+ * <p>
+ * Retained size is an estimate computed from average sizes of model objects and cache entries, it is meant
+ * to follow growth of the mapping rather than to account for it exactly.
+ * </p>
+ */
+public final class MappingFootprint {
+
+    private final int classModels;
+
+    private final int propertyModels;
+
+    private final int rootSerializers;
+
+    private final int deserializerPlans;
+
+    private final long evictedClassModels;
+
+    private final long estimatedBytes;
+
+    /**
+     * Creates footprint snapshot.
+     *
+     * @param classModels        Number of class models.
+     * @param propertyModels     Number of property models of the class models.
+     * @param rootSerializers    Number of cached root serializers.
+     * @param deserializerPlans  Number of cached deserializer plans.
+     * @param evictedClassModels Number of class models dropped because of model cache limit.
+     * @param estimatedBytes     Estimated retained size in bytes.
+     */
+    public MappingFootprint(int classModels,
+                            int propertyModels,
+                            int rootSerializers,
+                            int deserializerPlans,
+                            long evictedClassModels,
+                            long estimatedBytes) {
+        this.classModels = classModels;
+        this.propertyModels = propertyModels;
+        this.rootSerializers = rootSerializers;
+        this.deserializerPlans = deserializerPlans;
+        this.evictedClassModels = evictedClassModels;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Number of class models held.
+     *
+     * @return Count of class models.
+     */
+    public int getClassModels() {
+        return classModels;
+    }
+
+    /**
+     * Number of property models of held class models.
+     *
+     * @return Count of property models.
+     */
+    public int getPropertyModels() {
+        return propertyModels;
+    }
+
+    /**
+     * Number of cached root serializers.
+     *
+     * @return Count of root serializers.
+     */
+    public int getRootSerializers() {
+        return rootSerializers;
+    }
+
+    /**
+     * Number of cached deserializer plans.
+     *
+     * @return Count of deserializer plans.
+     */
+    public int getDeserializerPlans() {
+        return deserializerPlans;
+    }
+
+    /**
+     * Number of class models dropped since the instance was created, because of {@link YassonProperties#MODEL_CACHE_LIMIT}.
+     *
+     * @return Count of evicted class models.
+     */
+    public long getEvictedClassModels() {
+        return evictedClassModels;
+    }
+
+    /**
+     * Estimated size of memory retained by the mapping.
+     *
+     * @return Size in bytes.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "MappingFootprint{classModels=" + classModels
+                + ", propertyModels=" + propertyModels
+                + ", rootSerializers=" + rootSerializers
+                + ", deserializerPlans=" + deserializerPlans
+                + ", evictedClassModels=" + evictedClassModels
+                + ", estimatedBytes=" + estimatedBytes + '}';
+    }
+}
@@ -9,7 +9,15 @@
  ******************************************************************************/
 package org.eclipse.yasson;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 import javax.json.JsonStructure;
 import javax.json.bind.JsonbException;
@@ -128,4 +136,156 @@ public interface YassonJsonb extends javax.json.bind.Jsonb {
      * @since JSON Binding 1.0
      */
     JsonStructure toJsonStructure(Object object, Type runtimeType) throws JsonbException;
+
+    /**
+     * Writes the Java object tree with root object {@code object} to a byte array in configured encoding.
+     * With {@link YassonProperties#UTF8_GENERATOR} enabled, UTF-8 bytes are written directly without
+     * intermediate character encoding.
+     *
+     * @param object The root object of the object content tree to be serialized. Must not be null.
+     * @return Serialized JSON bytes.
+     * @throws JsonbException If any unexpected problem occurs during the serialization.
+     */
+    byte[] toJsonBytes(Object object) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from a range of a byte array in configured encoding and return the
+     * resulting content tree. UTF-8 input is tokenized directly from bytes, without decoding it into characters.
+     *
+     * @param bytes       Array containing JSON data.
+     * @param offset      Offset of JSON data in the array.
+     * @param length      Length of JSON data.
+     * @param runtimeType Runtime type of the content tree's root object.
+     * @param <T>         Type of the content tree's root object.
+     * @return the newly created root object of the java content tree
+     * @throws JsonbException If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> T fromJson(byte[] bytes, int offset, int length, Type runtimeType) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from remaining bytes of a buffer in configured encoding and return the
+     * resulting content tree. Position of the buffer is not changed. UTF-8 input is parsed in place,
+     * also from a direct buffer, input in other encodings is copied first.
+     *
+     * @param buffer      Buffer containing JSON data.
+     * @param runtimeType Runtime type of the content tree's root object.
+     * @param <T>         Type of the content tree's root object.
+     * @return the newly created root object of the java content tree
+     * @throws JsonbException If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> T fromJson(ByteBuffer buffer, Type runtimeType) throws JsonbException;
+
+    /**
+     * Writes the Java object tree with root object {@code object} to a byte array in configured encoding.
+     * With {@link YassonProperties#UTF8_GENERATOR} enabled, UTF-8 bytes are written directly without
+     * intermediate character encoding.
+     *
+     * @param object      The root object of the object content tree to be serialized. Must not be null.
+     * @param runtimeType Runtime type of the content tree's root object.
+     * @return Serialized JSON bytes.
+     * @throws JsonbException If any unexpected problem occurs during the serialization.
+     */
+    byte[] toJsonBytes(Object object, Type runtimeType) throws JsonbException;
+
+    /**
+     * Reads in a top level JSON array from a stream in configured encoding and returns a lazy stream of its elements.
+     * Elements are deserialized one by one as the stream is consumed, {@link Stream#iterator()} can be used to
+     * pull them. Input stream is closed when returned stream is closed.
+     *
+     * @param stream      Stream to read JSON array from.
+     * @param elementType Runtime type of array elements.
+     * @param <T>         Type of array elements.
+     * @return Stream of deserialized elements.
+     * @throws JsonbException If JSON is not an array, or any element can't be deserialized.
+     */
+    <T> Stream<T> fromJsonStream(InputStream stream, Type elementType) throws JsonbException;
+
+    /**
+     * Reads in a top level JSON array from a reader and returns a lazy stream of its elements.
+     * Elements are deserialized one by one as the stream is consumed, {@link Stream#iterator()} can be used to
+     * pull them. Reader is closed when returned stream is closed.
+     *
+     * @param reader      Reader to read JSON array from.
+     * @param elementType Runtime type of array elements.
+     * @param <T>         Type of array elements.
+     * @return Stream of deserialized elements.
+     * @throws JsonbException If JSON is not an array, or any element can't be deserialized.
+     */
+    <T> Stream<T> fromJsonStream(Reader reader, Type elementType) throws JsonbException;
+
+    /**
+     * Reads in a JSON array with a specified {@link JsonParser} and returns a lazy stream of its elements.
+     * Parser must be positioned before the array start. Elements are deserialized one by one as the stream is
+     * consumed. Parser is not closed.
+     *
+     * @param jsonParser  The json parser instance to be used to read JSON data.
+     * @param elementType Runtime type of array elements.
+     * @param <T>         Type of array elements.
+     * @return Stream of deserialized elements.
+     * @throws JsonbException If JSON is not an array, or any element can't be deserialized.
+     */
+    <T> Stream<T> fromJsonStream(JsonParser jsonParser, Type elementType) throws JsonbException;
+
+    /**
+     * Reads in JSON Lines (newline delimited JSON) from a stream in configured encoding and returns a lazy stream of
+     * deserialized values, one per non blank line. Input stream is closed when returned stream is closed.
+     *
+     * @param stream Stream to read JSON Lines from.
+     * @param type   Runtime type of values.
+     * @param <T>    Type of values.
+     * @return Stream of deserialized values.
+     * @throws JsonbException If any line can't be deserialized.
+     */
+    <T> Stream<T> fromJsonLines(InputStream stream, Type type) throws JsonbException;
+
+    /**
+     * Writes values as JSON Lines (newline delimited JSON) to a stream in configured encoding, each value on its
+     * own line. Values are never formatted. Output stream is closed when all values are written.
+     *
+     * @param values Values to write.
+     * @param stream Stream to write JSON Lines to.
+     * @throws JsonbException If any value can't be serialized.
+     */
+    void toJsonLines(Iterable<?> values, OutputStream stream) throws JsonbException;
+
+    /**
+     * Writes values as JSON Lines (newline delimited JSON) to a stream in configured encoding, each value on its
+     * own line. Values are never formatted. Output stream is closed when all values are written,
+     * values stream is not closed.
+     *
+     * @param values Values to write.
+     * @param stream Stream to write JSON Lines to.
+     * @throws JsonbException If any value can't be serialized.
+     */
+    void toJsonLines(Stream<?> values, OutputStream stream) throws JsonbException;
+
+    /**
+     * Eagerly builds mapping of given types and of all classes reachable from their properties and creator
+     * parameters, which is otherwise built on the first serialization or deserialization of each class.
+     * Classes are prepared in calling thread.
+     *
+     * @param types Types to prepare.
+     * @return Time spent preparing each class, in order of preparation.
+     * @throws JsonbException If mapping of a class is not valid.
+     */
+    Map<Class<?>, Duration> prepare(Type... types) throws JsonbException;
+
+    /**
+     * Eagerly builds mapping of given types and of all classes reachable from them as {@link #prepare(Type...)},
+     * each class is prepared in its own task on given pool. Returns after all classes are prepared.
+     *
+     * @param pool  Pool to prepare classes on.
+     * @param types Types to prepare.
+     * @return Time spent preparing each class, in order of preparation.
+     * @throws JsonbException If mapping of a class is not valid.
+     */
+    Map<Class<?>, Duration> prepare(ForkJoinPool pool, Type... types) throws JsonbException;
+
+    /**
+     * Reports number of class models and cached serializers and deserializer plans held by this instance,
+     * together with estimate of memory they retain.
+     *
+     * @return Current footprint of mapping.
+     */
+    MappingFootprint getMappingFootprint();
 }
@@ -48,4 +48,56 @@ public class YassonProperties {
      * will be respective parameter.
      */
     public static final String NULL_ROOT_SERIALIZER = "yasson.null-root-serializer";
+
+    /**
+     * Strategy of reading and writing property values. Supported values are {@code "reflection"} (default),
+     * which uses reflection, and {@code "generated"}, which uses accessor classes generated when class model is
+     * built and falls back to reflection for properties which can't be accessed that way.
+     */
+    public static final String PROPERTY_ACCESSOR_STRATEGY = "yasson.property-accessor-strategy";
+
+    /**
+     * Boolean property enabling Yasson's own generator, which writes UTF-8 bytes directly with pre-encoded
+     * property names. Used by {@link javax.json.bind.Jsonb#toJson(Object, java.io.OutputStream)} and
+     * {@link YassonJsonb#toJsonBytes(Object)} when output is not formatted and encoding is UTF-8.
+     * Default value is 'false'.
+     */
+    public static final String UTF8_GENERATOR = "yasson.utf8-generator";
+
+    /**
+     * Mode of detecting recursive references during serialization. Supported values are {@code "identity"} (default),
+     * which tracks objects being serialized by identity without calling their {@code hashCode()} or
+     * {@code equals()}, {@code "depth"}, which only limits nesting by {@link #MAX_DEPTH}, and {@code "off"}.
+     */
+    public static final String CYCLE_DETECTION = "yasson.cycle-detection";
+
+    /**
+     * Integer property limiting nesting of serialized objects when cycle detection is not off.
+     * Default value is 1000 in {@code "depth"} mode, nesting is not limited by default in {@code "identity"} mode.
+     */
+    public static final String MAX_DEPTH = "yasson.max-depth";
+
+    /**
+     * Expected number of entries of deserialized maps per map type. Value is a {@link java.util.Map} of
+     * {@link java.lang.reflect.Type} to Integer, keys are declared map types such as {@code Map<String, Price>}
+     * or their raw classes. {@link java.util.HashMap} and {@link java.util.LinkedHashMap} instances of configured
+     * types are created with capacity for the number of entries, so that large maps are not rehashed while being filled.
+     * Maps of other types are created with default capacity.
+     */
+    public static final String MAP_EXPECTED_SIZE = "yasson.map-expected-size";
+
+    /**
+     * Types which mapping is built when {@link javax.json.bind.Jsonb} instance is created, together with all classes
+     * reachable from them, as by {@link YassonJsonb#prepare(java.lang.reflect.Type...)}. Value is a
+     * {@link java.util.Collection} or an array of {@link java.lang.reflect.Type} instances or class names,
+     * or a String of comma separated class names. Classes are loaded by context class loader of current thread.
+     */
+    public static final String PREPARE_TYPES = "yasson.prepare-types";
+
+    /**
+     * Integer property limiting number of class models kept by {@link javax.json.bind.Jsonb} instance. When the limit
+     * is exceeded, least recently used models are dropped and built again on their next use.
+     * Default value is 0, number of models is not limited.
+     */
+    public static final String MODEL_CACHE_LIMIT = "yasson.model-cache-limit";
 }
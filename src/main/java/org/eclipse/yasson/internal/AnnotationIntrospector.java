@@ -20,8 +20,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
@@ -32,14 +30,11 @@ import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
 
 import javax.json.bind.JsonbException;
@@ -146,8 +141,7 @@ public class AnnotationIntrospector {
      */
     public JsonbCreator getCreator(Class<?> clazz) {
         JsonbCreator jsonbCreator = null;
-        Constructor<?>[] declaredConstructors =
-                AccessController.doPrivileged((PrivilegedAction<Constructor<?>[]>) clazz::getDeclaredConstructors);
+        Constructor<?>[] declaredConstructors = SharedMetadata.getDeclaredConstructors(clazz);
 
         for (Constructor<?> constructor : declaredConstructors) {
             final javax.json.bind.annotation.JsonbCreator annot = findAnnotation(constructor.getDeclaredAnnotations(),
@@ -157,8 +151,7 @@ public class AnnotationIntrospector {
             }
         }
 
-        Method[] declaredMethods =
-                AccessController.doPrivileged((PrivilegedAction<Method[]>) clazz::getDeclaredMethods);
+        Method[] declaredMethods = SharedMetadata.getDeclaredMethods(clazz);
         for (Method method : declaredMethods) {
             final javax.json.bind.annotation.JsonbCreator annot = findAnnotation(method.getDeclaredAnnotations(),
                                                                                  javax.json.bind.annotation.JsonbCreator.class);
@@ -699,15 +692,7 @@ public class AnnotationIntrospector {
      * @return A list of all class interfaces.
      */
     public Set<Class<?>> collectInterfaces(Class<?> cls) {
-        Set<Class<?>> collected = new LinkedHashSet<>();
-        Queue<Class<?>> toScan = new LinkedList<>();
-        toScan.addAll(Arrays.asList(cls.getInterfaces()));
-        Class<?> nextIfc;
-        while ((nextIfc = toScan.poll()) != null) {
-            collected.add(nextIfc);
-            toScan.addAll(Arrays.asList(nextIfc.getInterfaces()));
-        }
-        return collected;
+        return SharedMetadata.getInterfaces(cls);
     }
 
     /**
@@ -743,28 +728,12 @@ public class AnnotationIntrospector {
 
     /**
      * Collect annotations of given class, its interfaces and the package.
+     * Returned element is shared by all Jsonb instances and must not be modified.
      *
      * @param clazz Class to process.
      * @return Element with class and annotations.
      */
     public JsonbAnnotatedElement<Class<?>> collectAnnotations(Class<?> clazz) {
-        JsonbAnnotatedElement<Class<?>> classElement = new JsonbAnnotatedElement<>(clazz);
-
-        for (Class<?> ifc : collectInterfaces(clazz)) {
-            addIfNotPresent(classElement, ifc.getDeclaredAnnotations());
-        }
-
-        if (!clazz.isPrimitive() && !clazz.isArray() && (clazz.getPackage() != null)) {
-            addIfNotPresent(classElement, clazz.getPackage().getAnnotations());
-        }
-        return classElement;
-    }
-
-    private void addIfNotPresent(JsonbAnnotatedElement<?> element, Annotation... annotations) {
-        for (Annotation annotation : annotations) {
-            if (element.getAnnotation(annotation.annotationType()) == null) {
-                element.putAnnotation(annotation);
-            }
-        }
+        return SharedMetadata.getCollectedAnnotations(clazz);
     }
 }
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+/**
+ * Iterator lazily deserializing elements of a top level JSON array.
+ * <p>
+ * Only one element is parsed per {@link #next()} call, so arrays of any size are processed with memory needed
+ * for a single element. Deserializer plan of an element is resolved once and reused while elements start with
+ * the same parser event.
+ * </p>
+ *
+ * @param <T> Type of elements.
+ */
+class ArrayElementIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final JsonbRiParser parser;
+
+    private final RootValueDeserializer elementDeserializer;
+
+    private final boolean closeParser;
+
+    private boolean started;
+
+    private boolean finished;
+
+    /**
+     * Event of an element read by {@link #hasNext()}, which is not deserialized yet.
+     */
+    private JsonParser.Event pendingEvent;
+
+    /**
+     * Creates iterator over array elements.
+     *
+     * @param parser       Parser positioned before the array.
+     * @param jsonbContext Current context.
+     * @param elementType  Type of array elements.
+     * @param closeParser  True if parser is closed when iterator is closed.
+     */
+    ArrayElementIterator(JsonbRiParser parser, JsonbContext jsonbContext, Type elementType, boolean closeParser) {
+        this.parser = parser;
+        this.elementDeserializer = new RootValueDeserializer(jsonbContext, elementType);
+        this.closeParser = closeParser;
+    }
+
+    /**
+     * Creates sequential ordered stream of elements, closing this iterator when stream is closed.
+     *
+     * @return Stream of elements.
+     */
+    Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pendingEvent != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        if (!started) {
+            started = true;
+            final JsonParser.Event first = parser.hasNext() ? parser.next() : null;
+            if (first != JsonParser.Event.START_ARRAY) {
+                finished = true;
+                throw new JsonbException(Messages.getMessage(MessageKeys.STREAM_ROOT_NOT_ARRAY, first));
+            }
+        }
+        final JsonParser.Event event = parser.next();
+        if (event == JsonParser.Event.END_ARRAY) {
+            finished = true;
+            return false;
+        }
+        pendingEvent = event;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final JsonParser.Event event = pendingEvent;
+        pendingEvent = null;
+        try {
+            return (T) elementDeserializer.deserialize(parser, event);
+        } catch (JsonbException e) {
+            finished = true;
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        pendingEvent = null;
+        if (closeParser) {
+            parser.close();
+        }
+    }
+}
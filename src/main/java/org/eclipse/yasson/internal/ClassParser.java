@@ -17,13 +17,12 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.json.bind.JsonbException;
@@ -34,10 +33,12 @@ import org.eclipse.yasson.internal.model.JsonbAnnotatedElement;
 import org.eclipse.yasson.internal.model.JsonbCreator;
 import org.eclipse.yasson.internal.model.Property;
 import org.eclipse.yasson.internal.model.PropertyModel;
+import org.eclipse.yasson.internal.model.PropertyValuePropagation;
 import org.eclipse.yasson.internal.model.ReflectionPropagation;
 import org.eclipse.yasson.internal.model.customization.CreatorCustomization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
+import org.eclipse.yasson.spi.JsonbClassDescriptor;
 
 /**
  * Created a class internal model.
@@ -85,6 +86,39 @@ class ClassParser {
         sortedPropertyModels.addAll(jsonbContext.getConfigProperties().getPropertyOrdering()
                                             .orderProperties(classPropertyModels, classModel));
 
+        setProperties(classModel, sortedPropertyModels);
+    }
+
+    /**
+     * Creates properties described by a class descriptor, in place of parsing fields and methods.
+     * Properties inherited from parent are first, unless the descriptor declares them.
+     */
+    void parseDescriptor(ClassModel classModel, JsonbClassDescriptor<?> descriptor) {
+        final List<PropertyModel> classPropertyModels = descriptor.getProperties().stream()
+                .map(property -> new PropertyModel(classModel, property, jsonbContext))
+                .collect(Collectors.toList());
+        final Set<String> describedNames = classPropertyModels.stream()
+                .map(PropertyModel::getPropertyName)
+                .collect(Collectors.toSet());
+
+        final List<PropertyModel> sortedPropertyModels = new ArrayList<>();
+        if (classModel.getParentClassModel() != null) {
+            for (PropertyModel parentProp : classModel.getParentClassModel().getSortedProperties()) {
+                if (!describedNames.contains(parentProp.getPropertyName())) {
+                    sortedPropertyModels.add(parentProp);
+                }
+            }
+        }
+        final List<PropertyModel> unsortedMerged = new ArrayList<>(sortedPropertyModels);
+        unsortedMerged.addAll(classPropertyModels);
+        checkPropertyNameClash(unsortedMerged, classModel.getType());
+
+        sortedPropertyModels.addAll(jsonbContext.getConfigProperties().getPropertyOrdering()
+                                            .orderProperties(classPropertyModels, classModel));
+        setProperties(classModel, sortedPropertyModels);
+    }
+
+    private void setProperties(ClassModel classModel, List<PropertyModel> sortedPropertyModels) {
         //reference property to creator parameter by name to merge configuration in runtime
         JsonbCreator creator = classModel.getClassCustomization().getCreator();
         if (creator != null) {
@@ -99,7 +133,6 @@ class ClassParser {
         }
 
         classModel.setProperties(sortedPropertyModels);
-
     }
 
     private void mergePropertyModels(List<PropertyModel> unsortedMerged) {
@@ -128,7 +161,7 @@ class ClassParser {
     private void parseIfaceMethodAnnotations(Class<?> ifc,
                                              JsonbAnnotatedElement<Class<?>> classElement,
                                              Map<String, Property> classProperties) {
-        Method[] declaredMethods = AccessController.doPrivileged((PrivilegedAction<Method[]>) ifc::getDeclaredMethods);
+        Method[] declaredMethods = SharedMetadata.getDeclaredMethods(ifc);
         for (Method method : declaredMethods) {
             final String methodName = method.getName();
             if (!isPropertyMethod(method)) {
@@ -189,7 +222,7 @@ class ClassParser {
     private void parseMethods(Class<?> clazz,
                               JsonbAnnotatedElement<Class<?>> classElement,
                               Map<String, Property> classProperties) {
-        Method[] declaredMethods = AccessController.doPrivileged((PrivilegedAction<Method[]>) clazz::getDeclaredMethods);
+        Method[] declaredMethods = SharedMetadata.getDeclaredMethods(clazz);
         for (Method method : declaredMethods) {
             String name = method.getName();
             //isBridge method filters out methods inherited from interfaces
@@ -257,8 +290,7 @@ class ClassParser {
     }
 
     private void parseFields(JsonbAnnotatedElement<Class<?>> classElement, Map<String, Property> classProperties) {
-        Field[] declaredFields = AccessController.doPrivileged(
-                (PrivilegedAction<Field[]>) () -> classElement.getElement().getDeclaredFields());
+        Field[] declaredFields = SharedMetadata.getDeclaredFields(classElement.getElement());
         for (Field field : declaredFields) {
             final String name = field.getName();
             if (field.isSynthetic()) {
@@ -303,6 +335,8 @@ class ClassParser {
                                                           JsonbAnnotatedElement<Class<?>> classElement,
                                                           Map<String, Property> classProperties) {
         List<PropertyModel> sortedProperties = new ArrayList<>();
+        //members of a described parent, parsed only if some of its properties is merged
+        Map<String, Property> parentMembers = null;
         //Pull properties from parent
         if (classModel.getParentClassModel() != null) {
             for (PropertyModel parentProp : classModel.getParentClassModel().getSortedProperties()) {
@@ -312,7 +346,14 @@ class ClassParser {
                     sortedProperties.add(parentProp);
                 } else {
                     //merge
-                    final Property merged = mergeProperty(current, parentProp, classElement);
+                    Property parentMember = toProperty(parentProp);
+                    if (parentMember == null) {
+                        if (parentMembers == null) {
+                            parentMembers = parseDescribedMembers(parentProp.getClassModel().getType());
+                        }
+                        parentMember = parentMembers.get(parentProp.getPropertyName());
+                    }
+                    final Property merged = mergeProperty(current, parentProp.getPropertyName(), parentMember, classElement);
                     ReflectionPropagation propagation = new ReflectionPropagation(current,
                                                                                   classModel.getClassCustomization()
                                                                                           .getPropertyVisibilityStrategy());
@@ -356,15 +397,53 @@ class ClassParser {
                                 && !parent.isDefault() ? parent : current) : parent);
     }
 
-    private Property mergeProperty(Property current, PropertyModel parentProp, JsonbAnnotatedElement<Class<?>> classElement) {
-        Field field = current.getField() != null
-                ? current.getField() : parentProp.getPropagation().getField();
+    /**
+     * Members of a reflectively parsed parent property, null for a described one, which has no members.
+     */
+    private Property toProperty(PropertyModel parentProp) {
+        final PropertyValuePropagation propagation = parentProp.getPropagation();
+        if (propagation.getField() == null && propagation.getGetter() == null && propagation.getSetter() == null) {
+            return null;
+        }
+        Property property = new Property(parentProp.getPropertyName(), null);
+        if (propagation.getField() != null) {
+            property.setField(propagation.getField());
+        }
+        if (propagation.getGetter() != null) {
+            property.setGetter(propagation.getGetter());
+        }
+        if (propagation.getSetter() != null) {
+            property.setSetter(propagation.getSetter());
+        }
+        return property;
+    }
+
+    /**
+     * Parses members of a class built from its descriptor, so that its properties can be merged
+     * with the ones overridden by a reflectively parsed subclass. Properties of a described class
+     * are all declared by the class itself.
+     */
+    private Map<String, Property> parseDescribedMembers(Class<?> describedClass) {
+        final Map<String, Property> members = new HashMap<>();
+        final JsonbAnnotatedElement<Class<?>> describedElement = jsonbContext.getAnnotationIntrospector()
+                .collectAnnotations(describedClass);
+        parseFields(describedElement, members);
+        parseClassAndInterfaceMethods(describedElement, members);
+        return members;
+    }
+
+    private Property mergeProperty(Property current,
+                                   String propertyName,
+                                   Property parent,
+                                   JsonbAnnotatedElement<Class<?>> classElement) {
+        Field field = current.getField() != null || parent == null
+                ? current.getField() : parent.getField();
         Method getter = selectMostSpecificNonDefaultMethod(current.getGetter(),
-                                                           parentProp.getPropagation().getGetter());
+                                                           parent == null ? null : parent.getGetter());
         Method setter = selectMostSpecificNonDefaultMethod(current.getSetter(),
-                                                           parentProp.getPropagation().getSetter());
+                                                           parent == null ? null : parent.getSetter());
 
-        Property merged = new Property(parentProp.getPropertyName(), classElement);
+        Property merged = new Property(propertyName, classElement);
         if (field != null) {
             merged.setField(field);
         }
@@ -15,6 +15,8 @@ package org.eclipse.yasson.internal;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,6 +37,12 @@ import org.eclipse.yasson.internal.model.customization.ComponentBoundCustomizati
 
 /**
  * Searches for a registered components or Serializer for a given type.
+ * <p>
+ * Components registered in {@link JsonbConfig} are searched in order of their registration, component bound exactly
+ * to searched type takes precedence over components bound to its supertypes. Components found for a runtime type,
+ * including none, are resolved once and then looked up by the type. Resolved components are held by a class of
+ * the type loaded by the most specific class loader, so they don't keep the type from unloading.
+ * </p>
  */
 public class ComponentMatcher {
 
@@ -47,6 +55,19 @@ public class ComponentMatcher {
 
     private final ConcurrentMap<Type, ComponentBindings> userComponents;
 
+    /**
+     * Registered components in order of registration.
+     */
+    private final List<ComponentBindings> registeredComponents;
+
+    private final ClassValue<ConcurrentMap<Type, ResolvedBindings>> resolvedBindings =
+            new ClassValue<ConcurrentMap<Type, ResolvedBindings>>() {
+                @Override
+                protected ConcurrentMap<Type, ResolvedBindings> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     /**
      * Create component matcher.
      *
@@ -56,6 +77,7 @@ public class ComponentMatcher {
         Objects.requireNonNull(context);
         this.jsonbContext = context;
         userComponents = new ConcurrentHashMap<>();
+        registeredComponents = new ArrayList<>();
         init();
     }
 
@@ -95,6 +117,7 @@ public class ComponentMatcher {
                 return bindings;
             }
             registerGeneric(bindingType);
+            registeredComponents.add(new ComponentBindings(bindingType, serializer, null, null));
             return new ComponentBindings(bindingType, serializer, bindings.getDeserializer(), bindings.getAdapterInfo());
         });
     }
@@ -105,6 +128,7 @@ public class ComponentMatcher {
                 return bindings;
             }
             registerGeneric(bindingType);
+            registeredComponents.add(new ComponentBindings(bindingType, null, deserializer, null));
             return new ComponentBindings(bindingType, bindings.getSerializer(), deserializer, bindings.getAdapterInfo());
         });
     }
@@ -115,6 +139,7 @@ public class ComponentMatcher {
                 return bindings;
             }
             registerGeneric(bindingType);
+            registeredComponents.add(new ComponentBindings(bindingType, null, null, adapter));
             return new ComponentBindings(bindingType, bindings.getSerializer(), bindings.getDeserializer(), adapter);
         });
     }
@@ -142,7 +167,7 @@ public class ComponentMatcher {
                                                                ComponentBoundCustomization customization) {
 
         if (customization == null || customization.getSerializerBinding() == null) {
-            return searchComponentBinding(propertyRuntimeType, ComponentBindings::getSerializer);
+            return resolveBindings(propertyRuntimeType).serializer;
         }
         return Optional.of(customization.getSerializerBinding());
     }
@@ -158,7 +183,7 @@ public class ComponentMatcher {
     public Optional<DeserializerBinding<?>> getDeserializerBinding(Type propertyRuntimeType,
                                                                    ComponentBoundCustomization customization) {
         if (customization == null || customization.getDeserializerBinding() == null) {
-            return searchComponentBinding(propertyRuntimeType, ComponentBindings::getDeserializer);
+            return resolveBindings(propertyRuntimeType).deserializer;
         }
         return Optional.of(customization.getDeserializerBinding());
     }
@@ -174,7 +199,7 @@ public class ComponentMatcher {
     public Optional<AdapterBinding> getSerializeAdapterBinding(Type propertyRuntimeType,
                                                                ComponentBoundCustomization customization) {
         if (customization == null || customization.getSerializeAdapterBinding() == null) {
-            return searchComponentBinding(propertyRuntimeType, ComponentBindings::getAdapterInfo);
+            return resolveBindings(propertyRuntimeType).adapter;
         }
         return Optional.of(customization.getSerializeAdapterBinding());
     }
@@ -190,19 +215,48 @@ public class ComponentMatcher {
     public Optional<AdapterBinding> getDeserializeAdapterBinding(Type propertyRuntimeType,
                                                                  ComponentBoundCustomization customization) {
         if (customization == null || customization.getDeserializeAdapterBinding() == null) {
-            return searchComponentBinding(propertyRuntimeType, ComponentBindings::getAdapterInfo);
+            return resolveBindings(propertyRuntimeType).adapter;
         }
         return Optional.of(customization.getDeserializeAdapterBinding());
     }
 
-    private <T extends AbstractComponentBinding> Optional<T> searchComponentBinding(Type runtimeType, Function<ComponentBindings, T> supplier) {
-        for (ComponentBindings componentBindings : userComponents.values()) {
+    private ResolvedBindings resolveBindings(Type runtimeType) {
+        if (registeredComponents.isEmpty()) {
+            return ResolvedBindings.NONE;
+        }
+        final Class<?> owner = ReflectionUtils.findMostSpecificClass(runtimeType);
+        final ConcurrentMap<Type, ResolvedBindings> resolved = owner == null ? null : resolvedBindings.get(owner);
+        final ResolvedBindings cached = resolved == null ? null : resolved.get(runtimeType);
+        if (cached != null) {
+            return cached;
+        }
+        final ResolvedBindings newResolved = new ResolvedBindings(
+                this.<SerializerBinding<?>>searchComponentBinding(runtimeType, ComponentBindings::getSerializer),
+                this.<DeserializerBinding<?>>searchComponentBinding(runtimeType, ComponentBindings::getDeserializer),
+                searchComponentBinding(runtimeType, ComponentBindings::getAdapterInfo));
+        if (resolved == null) {
+            return newResolved;
+        }
+        final ResolvedBindings previous = resolved.putIfAbsent(runtimeType, newResolved);
+        return previous != null ? previous : newResolved;
+    }
+
+    private <T extends AbstractComponentBinding> Optional<T> searchComponentBinding(Type runtimeType,
+                                                                                    Function<ComponentBindings, T> supplier) {
+        T assignable = null;
+        for (ComponentBindings componentBindings : registeredComponents) {
             final T component = supplier.apply(componentBindings);
-            if (component != null && matches(runtimeType, componentBindings.getBindingType())) {
+            if (component == null) {
+                continue;
+            }
+            if (componentBindings.getBindingType().equals(runtimeType)) {
                 return Optional.of(component);
             }
+            if (assignable == null && matches(runtimeType, componentBindings.getBindingType())) {
+                assignable = component;
+            }
         }
-        return Optional.empty();
+        return Optional.ofNullable(assignable);
     }
 
     private boolean matches(Type runtimeType, Type componentBindingType) {
@@ -325,4 +379,25 @@ public class ComponentMatcher {
         }
     }
 
+    /**
+     * Components resolved for a runtime type.
+     */
+    private static final class ResolvedBindings {
+
+        private static final ResolvedBindings NONE = new ResolvedBindings(Optional.empty(), Optional.empty(), Optional.empty());
+
+        private final Optional<SerializerBinding<?>> serializer;
+
+        private final Optional<DeserializerBinding<?>> deserializer;
+
+        private final Optional<AdapterBinding> adapter;
+
+        private ResolvedBindings(Optional<SerializerBinding<?>> serializer,
+                                 Optional<DeserializerBinding<?>> deserializer,
+                                 Optional<AdapterBinding> adapter) {
+            this.serializer = serializer;
+            this.deserializer = deserializer;
+            this.adapter = adapter;
+        }
+    }
 }
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import java.util.Locale;
+
+/**
+ * Mode of detecting recursive references during serialization, configured by
+ * {@link org.eclipse.yasson.YassonProperties#CYCLE_DETECTION}.
+ */
+public enum CycleDetectionMode {
+
+    /**
+     * Objects being serialized are kept in a stack and compared by identity. Stack is scanned only when
+     * serialization gets deeper than a threshold. Nesting is limited only by explicitly configured maximal depth.
+     */
+    IDENTITY,
+
+    /**
+     * Only nesting of serialized objects is limited by maximal depth.
+     */
+    DEPTH,
+
+    /**
+     * No detection.
+     */
+    OFF;
+
+    /**
+     * Finds mode by its case insensitive name.
+     *
+     * @param name Name of the mode.
+     * @return Mode or null if there is no such mode.
+     */
+    public static CycleDetectionMode forName(String name) {
+        for (CycleDetectionMode mode : values()) {
+            if (mode.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return mode;
+            }
+        }
+        return null;
+    }
+}
@@ -12,8 +12,15 @@
  ******************************************************************************/
 package org.eclipse.yasson.internal;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -22,9 +29,16 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.Supplier;
 
+import javax.json.bind.JsonbException;
+
 /**
- * Creates instances for known types, caches constructors of unknown.
- * (Constructors of parsed types are stored in {@link org.eclipse.yasson.internal.model.ClassModel}).
+ * Creates instances for known types, caches instantiators of unknown.
+ * <p>
+ * Instantiators are held in a {@link ClassValue}, so they are created once per class without any locking
+ * on the hot path. Public no-argument constructors of public classes visible to Yasson are called through
+ * {@link LambdaMetafactory} generated suppliers, other constructors are called by reflection. Classes of other
+ * class loaders are always called by reflection, generated supplier would keep them from being unloaded.
+ * </p>
  */
 public class InstanceCreator {
 
@@ -34,15 +48,51 @@ public class InstanceCreator {
         return INSTANCE;
     }
 
-    private static final Map<Class, Supplier> CREATORS = new HashMap<>();
+    private static final Map<Class<?>, Supplier<?>> CREATORS;
+
+    private static final ClassValue<Supplier<?>> INSTANTIATORS = new ClassValue<Supplier<?>>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            final Supplier<?> creator = CREATORS.get(type);
+            return creator != null ? creator : createInstantiator(type);
+        }
+    };
+
+    //Class.getModule, Module.isExported and Module.addReads, null on Java 8
+    private static final MethodHandle GET_MODULE;
+
+    private static final MethodHandle IS_EXPORTED;
+
+    private static final MethodHandle ADD_READS;
 
     static {
-        CREATORS.put(ArrayList.class, ArrayList::new);
-        CREATORS.put(LinkedList.class, LinkedList::new);
-        CREATORS.put(HashSet.class, HashSet::new);
-        CREATORS.put(TreeSet.class, TreeSet::new);
-        CREATORS.put(HashMap.class, HashMap::new);
-        CREATORS.put(TreeMap.class, TreeMap::new);
+        final Map<Class<?>, Supplier<?>> creators = new HashMap<>();
+        creators.put(ArrayList.class, ArrayList::new);
+        creators.put(LinkedList.class, LinkedList::new);
+        creators.put(HashSet.class, HashSet::new);
+        creators.put(TreeSet.class, TreeSet::new);
+        creators.put(HashMap.class, HashMap::new);
+        creators.put(TreeMap.class, TreeMap::new);
+        CREATORS = Collections.unmodifiableMap(creators);
+
+        MethodHandle getModule = null;
+        MethodHandle isExported = null;
+        MethodHandle addReads = null;
+        try {
+            final Class<?> moduleClass = Class.forName("java.lang.Module");
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            getModule = lookup.findVirtual(Class.class, "getModule", MethodType.methodType(moduleClass));
+            isExported = lookup.findVirtual(moduleClass, "isExported",
+                                            MethodType.methodType(boolean.class, String.class, moduleClass));
+            addReads = lookup.findVirtual(moduleClass, "addReads", MethodType.methodType(moduleClass, moduleClass));
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            //no modules, all classes are readable
+            getModule = null;
+            isExported = null;
+        }
+        GET_MODULE = getModule;
+        IS_EXPORTED = isExported;
+        ADD_READS = addReads;
     }
 
     private InstanceCreator() {
@@ -60,15 +110,89 @@ public class InstanceCreator {
      */
     @SuppressWarnings("unchecked")
     public static <T> T createInstance(Class<T> tClass) {
-        Supplier<T> creator = CREATORS.get(tClass);
-        //No worries for race conditions here, instance may be replaced during first attempt.
-        if (creator == null) {
-            Constructor<T> constructor = ReflectionUtils.getDefaultConstructor(tClass, true);
-            creator = () -> ReflectionUtils.createNoArgConstructorInstance(constructor);
-            CREATORS.put(tClass, creator);
+        return (T) INSTANTIATORS.get(tClass).get();
+    }
+
+    private static Supplier<?> createInstantiator(Class<?> type) {
+        final Constructor<?> constructor = ReflectionUtils.getDefaultConstructor(type, true);
+        final Supplier<?> generated = generateInstantiator(type, constructor);
+        if (generated != null) {
+            return () -> {
+                try {
+                    return generated.get();
+                } catch (RuntimeException e) {
+                    throw new JsonbException("Can't create instance", e);
+                }
+            };
+        }
+        return () -> ReflectionUtils.createNoArgConstructorInstance(constructor);
+    }
+
+    /**
+     * Generates supplier calling the constructor directly, if it is accessible from Yasson.
+     *
+     * @return supplier or null, if the constructor has to be called by reflection
+     */
+    private static Supplier<?> generateInstantiator(Class<?> type, Constructor<?> constructor) {
+        if (!Modifier.isPublic(constructor.getModifiers())
+                || Modifier.isAbstract(type.getModifiers())
+                || !isPublic(type)
+                || !isVisibleToYasson(type)
+                || !isReadableByYasson(type)) {
+            return null;
+        }
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final CallSite site = LambdaMetafactory.metafactory(lookup,
+                                                               "get",
+                                                               MethodType.methodType(Supplier.class),
+                                                               MethodType.methodType(Object.class),
+                                                               lookup.unreflectConstructor(constructor),
+                                                               MethodType.methodType(type));
+            return (Supplier<?>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            //reflection is used instead
+            return null;
+        }
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getDeclaringClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisibleToYasson(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, InstanceCreator.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
         }
+    }
 
-        return creator.get();
+    /**
+     * Generated supplier is linked in Yasson module, which has to read the module of the class.
+     */
+    private static boolean isReadableByYasson(Class<?> type) {
+        if (GET_MODULE == null) {
+            return true;
+        }
+        final String className = type.getName();
+        final String packageName = className.lastIndexOf('.') < 0 ? "" : className.substring(0, className.lastIndexOf('.'));
+        try {
+            final Object yassonModule = GET_MODULE.invoke(InstanceCreator.class);
+            final Object module = GET_MODULE.invoke(type);
+            if (!(boolean) IS_EXPORTED.invoke(module, packageName, yassonModule)) {
+                return false;
+            }
+            ADD_READS.invoke(yassonModule, module);
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
     }
 
 }
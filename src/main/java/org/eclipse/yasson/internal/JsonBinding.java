@@ -12,25 +12,41 @@
  ******************************************************************************/
 package org.eclipse.yasson.internal;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 import javax.json.JsonStructure;
 import javax.json.bind.JsonbConfig;
 import javax.json.bind.JsonbException;
-import javax.json.spi.JsonProvider;
 import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
 import javax.json.stream.JsonParser;
 
+import org.eclipse.yasson.MappingFootprint;
 import org.eclipse.yasson.YassonJsonb;
 import org.eclipse.yasson.internal.jsonstructure.JsonGeneratorToStructureAdapter;
 import org.eclipse.yasson.internal.jsonstructure.JsonStructureToParserAdapter;
@@ -45,7 +61,11 @@ public class JsonBinding implements YassonJsonb {
     private final JsonbContext jsonbContext;
 
     JsonBinding(JsonBindingBuilder builder) {
-        this.jsonbContext = new JsonbContext(builder.getConfig(), builder.getProvider().orElseGet(JsonProvider::provider));
+        this.jsonbContext = new JsonbContext(builder.getConfig(), builder.getProvider().orElseGet(SharedMetadata::getJsonProvider));
+        final List<Type> prepareTypes = jsonbContext.getConfigProperties().getPrepareTypes();
+        if (!prepareTypes.isEmpty()) {
+            new MappingPreparer(jsonbContext).prepare(prepareTypes);
+        }
     }
 
     private <T> T deserialize(final Type type, final JsonParser parser, final Unmarshaller unmarshaller) {
@@ -104,12 +124,108 @@ public class JsonBinding implements YassonJsonb {
         return deserialize(runtimeType, parser, new Unmarshaller(jsonbContext));
     }
 
-    private JsonParser inputStreamParser(InputStream stream) {
+    @Override
+    public <T> T fromJson(byte[] bytes, int offset, int length, Type runtimeType) throws JsonbException {
+        return deserialize(runtimeType, bytesParser(bytes, offset, length), new Unmarshaller(jsonbContext));
+    }
+
+    @Override
+    public <T> T fromJson(ByteBuffer buffer, Type runtimeType) throws JsonbException {
+        final JsonParser parser;
+        if (buffer.hasArray()) {
+            parser = bytesParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else if (StandardCharsets.UTF_8.equals(configuredCharset())) {
+            parser = new JsonbRiParser(new JsonbUtf8Parser(buffer, jsonbContext.getJsonProvider(), jsonbContext.getKeyNameCache()));
+        } else {
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            parser = inputStreamParser(new ByteArrayInputStream(bytes));
+        }
+        return deserialize(runtimeType, parser, new Unmarshaller(jsonbContext));
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonStream(InputStream stream, Type elementType) throws JsonbException {
+        return arrayStream(inputStreamParser(stream), elementType, true);
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonStream(Reader reader, Type elementType) throws JsonbException {
+        return arrayStream(new JsonbRiParser(jsonbContext.getJsonProvider().createParser(reader)), elementType, true);
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonStream(JsonParser jsonParser, Type elementType) throws JsonbException {
+        return arrayStream(new JsonbRiParser(jsonParser), elementType, false);
+    }
+
+    private <T> Stream<T> arrayStream(JsonbRiParser parser, Type elementType, boolean closeParser) {
+        return new ArrayElementIterator<T>(parser, jsonbContext, elementType, closeParser).stream();
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonLines(InputStream stream, Type type) throws JsonbException {
+        return new JsonLinesIterator<T>(stream, configuredCharset(), jsonbContext, type).stream();
+    }
+
+    @Override
+    public void toJsonLines(Iterable<?> values, OutputStream stream) throws JsonbException {
+        writeLines(values.iterator(), stream);
+    }
+
+    @Override
+    public void toJsonLines(Stream<?> values, OutputStream stream) throws JsonbException {
+        writeLines(values.iterator(), stream);
+    }
+
+    private void writeLines(Iterator<?> values, OutputStream stream) {
+        final Marshaller marshaller = new Marshaller(jsonbContext);
+        final Charset charset = configuredCharset();
+        try (OutputStream output = stream) {
+            if (StandardCharsets.UTF_8.equals(charset)) {
+                final JsonbUtf8Generator generator = new JsonbUtf8Generator(output);
+                while (values.hasNext()) {
+                    marshaller.marshallWithoutClose(values.next(), generator);
+                    generator.writeLineSeparator();
+                }
+                generator.flush();
+                return;
+            }
+            //values are never formatted, line breaks would split them
+            final JsonGeneratorFactory factory = jsonbContext.getJsonProvider().createGeneratorFactory(Collections.emptyMap());
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(output, charset));
+            final Writer valueWriter = new FilterWriter(writer) {
+                @Override
+                public void close() {
+                    //generator of each value closes its writer
+                }
+            };
+            while (values.hasNext()) {
+                marshaller.marshall(values.next(), factory.createGenerator(valueWriter));
+                writer.write('\n');
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new JsonbException(e.getMessage(), e);
+        }
+    }
+
+    private Charset configuredCharset() {
+        return Charset.forName((String) jsonbContext.getConfig().getProperty(JsonbConfig.ENCODING).orElse("UTF-8"));
+    }
+
+    private JsonParser bytesParser(byte[] bytes, int offset, int length) {
+        if (!StandardCharsets.UTF_8.equals(configuredCharset())) {
+            return inputStreamParser(new ByteArrayInputStream(bytes, offset, length));
+        }
+        return new JsonbRiParser(new JsonbUtf8Parser(bytes, offset, length,
+                                                     jsonbContext.getJsonProvider(), jsonbContext.getKeyNameCache()));
+    }
+
+    private JsonbRiParser inputStreamParser(InputStream stream) {
         return new JsonbRiParser(jsonbContext.getJsonProvider()
                                          .createParserFactory(createJsonpProperties(jsonbContext.getConfig()))
-                                         .createParser(stream,
-                                                       Charset.forName((String) jsonbContext.getConfig()
-                                                               .getProperty(JsonbConfig.ENCODING).orElse("UTF-8"))));
+                                         .createParser(stream, configuredCharset()));
     }
 
     @Override
@@ -200,11 +316,49 @@ public class JsonBinding implements YassonJsonb {
         return structureGenerator.getRootStructure();
     }
 
+    @Override
+    public byte[] toJsonBytes(Object object) throws JsonbException {
+        return toJsonBytes(new Marshaller(jsonbContext), object);
+    }
+
+    @Override
+    public byte[] toJsonBytes(Object object, Type runtimeType) throws JsonbException {
+        return toJsonBytes(new Marshaller(jsonbContext, runtimeType), object);
+    }
+
+    private byte[] toJsonBytes(Marshaller marshaller, Object object) {
+        if (jsonbContext.getConfigProperties().isUtf8Generator()) {
+            final JsonbUtf8Generator generator = new JsonbUtf8Generator();
+            marshaller.marshall(object, generator);
+            return generator.toByteArray();
+        }
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        marshaller.marshall(object, streamGenerator(stream));
+        return stream.toByteArray();
+    }
+
     private JsonGenerator streamGenerator(OutputStream stream) {
+        if (jsonbContext.getConfigProperties().isUtf8Generator()) {
+            return new JsonbUtf8Generator(stream);
+        }
         Map<String, ?> factoryProperties = createJsonpProperties(jsonbContext.getConfig());
-        final String encoding = (String) jsonbContext.getConfig().getProperty(JsonbConfig.ENCODING).orElse("UTF-8");
         return jsonbContext.getJsonProvider().createGeneratorFactory(factoryProperties)
-                .createGenerator(stream, Charset.forName(encoding));
+                .createGenerator(stream, configuredCharset());
+    }
+
+    @Override
+    public Map<Class<?>, Duration> prepare(Type... types) throws JsonbException {
+        return new MappingPreparer(jsonbContext).prepare(Arrays.asList(types));
+    }
+
+    @Override
+    public Map<Class<?>, Duration> prepare(ForkJoinPool pool, Type... types) throws JsonbException {
+        return new MappingPreparer(jsonbContext).prepare(Arrays.asList(types), pool);
+    }
+
+    @Override
+    public MappingFootprint getMappingFootprint() {
+        return jsonbContext.getMappingContext().getFootprint();
     }
 
     @Override
@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.json.bind.JsonbException;
+import javax.json.spi.JsonProvider;
+
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+/**
+ * Iterator lazily deserializing values of JSON Lines (newline delimited JSON) input.
+ * <p>
+ * UTF-8 input is split into lines directly in a byte buffer and every line is parsed by the same
+ * {@link JsonbUtf8Parser} and {@link JsonbRiParser} pair, which are reset between lines. Input in other
+ * encodings is decoded line by line and parsed by the JSONP provider. Blank lines are skipped.
+ * </p>
+ *
+ * @param <T> Type of values.
+ */
+class JsonLinesIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream input;
+
+    private final BufferedReader reader;
+
+    private final JsonProvider jsonProvider;
+
+    private final RootValueDeserializer valueDeserializer;
+
+    private JsonbUtf8Parser utf8Parser;
+
+    private JsonbRiParser utf8RiParser;
+
+    private byte[] buffer;
+
+    /**
+     * Number of valid bytes in the buffer.
+     */
+    private int filled;
+
+    private int lineStart;
+
+    private int lineEnd;
+
+    private String line;
+
+    private boolean lineReady;
+
+    private boolean finished;
+
+    /**
+     * Creates iterator over values of JSON Lines input.
+     *
+     * @param input        Input stream.
+     * @param charset      Encoding of the input.
+     * @param jsonbContext Current context.
+     * @param type         Type of values.
+     */
+    JsonLinesIterator(InputStream input, Charset charset, JsonbContext jsonbContext, Type type) {
+        this.jsonProvider = jsonbContext.getJsonProvider();
+        this.valueDeserializer = new RootValueDeserializer(jsonbContext, type);
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            this.input = input;
+            this.reader = null;
+            this.buffer = new byte[BUFFER_SIZE];
+            this.utf8Parser = new JsonbUtf8Parser(buffer, 0, 0, jsonProvider, jsonbContext.getKeyNameCache());
+            this.utf8RiParser = new JsonbRiParser(utf8Parser);
+        } else {
+            this.input = null;
+            this.reader = new BufferedReader(new InputStreamReader(input, charset));
+        }
+    }
+
+    /**
+     * Creates sequential ordered stream of values, closing this iterator when stream is closed.
+     *
+     * @return Stream of values.
+     */
+    Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (lineReady) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            lineReady = reader == null ? readByteLine() : readCharLine();
+        } catch (IOException e) {
+            finished = true;
+            throw new UncheckedIOException(e);
+        }
+        finished = !lineReady;
+        return lineReady;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        lineReady = false;
+        final JsonbRiParser parser;
+        if (reader == null) {
+            utf8Parser.reset(buffer, lineStart, lineEnd - lineStart);
+            utf8RiParser.reset();
+            parser = utf8RiParser;
+        } else {
+            parser = new JsonbRiParser(jsonProvider.createParser(new StringReader(line)));
+        }
+        try {
+            final Object value = valueDeserializer.deserialize(parser, parser.next());
+            //rest of the line must be blank
+            parser.hasNext();
+            return (T) value;
+        } catch (JsonbException e) {
+            finished = true;
+            throw e;
+        } catch (Exception e) {
+            finished = true;
+            throw new JsonbException(Messages.getMessage(MessageKeys.INTERNAL_ERROR, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        lineReady = false;
+        try {
+            if (reader != null) {
+                reader.close();
+            } else {
+                input.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean readCharLine() throws IOException {
+        while ((line = reader.readLine()) != null) {
+            if (!line.trim().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean readByteLine() throws IOException {
+        while (true) {
+            int scan = lineEnd < filled && buffer[lineEnd] == '\n' ? lineEnd + 1 : lineEnd;
+            lineStart = scan;
+            while (true) {
+                while (scan < filled && buffer[scan] != '\n') {
+                    scan++;
+                }
+                if (scan < filled) {
+                    break;
+                }
+                //line is not complete, make room and read more
+                final int scanned = scan - lineStart;
+                if (lineStart > 0) {
+                    System.arraycopy(buffer, lineStart, buffer, 0, filled - lineStart);
+                    filled -= lineStart;
+                    lineStart = 0;
+                } else if (filled == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                scan = scanned;
+                final int read = input.read(buffer, filled, buffer.length - filled);
+                if (read < 0) {
+                    break;
+                }
+                filled += read;
+            }
+            lineEnd = scan;
+            if (lineStart == lineEnd && scan >= filled) {
+                return false;
+            }
+            if (!isBlank(lineStart, lineEnd)) {
+                return true;
+            }
+            if (scan >= filled) {
+                return false;
+            }
+        }
+    }
+
+    private boolean isBlank(int from, int to) {
+        for (int i = from; i < to; i++) {
+            final byte b = buffer[i];
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
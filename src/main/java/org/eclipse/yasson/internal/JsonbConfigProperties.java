@@ -14,9 +14,14 @@
  ******************************************************************************/
 package org.eclipse.yasson.internal;
 
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -36,6 +41,7 @@ import javax.json.bind.config.PropertyVisibilityStrategy;
 import javax.json.bind.serializer.JsonbSerializer;
 
 import org.eclipse.yasson.YassonProperties;
+import org.eclipse.yasson.internal.model.PropertyAccessorStrategy;
 import org.eclipse.yasson.internal.model.PropertyModel;
 import org.eclipse.yasson.internal.model.ReverseTreeMap;
 import org.eclipse.yasson.internal.model.customization.PropertyOrdering;
@@ -78,6 +84,20 @@ public class JsonbConfigProperties {
 
     private final JsonbSerializer<Object> nullSerializer;
 
+    private final PropertyAccessorStrategy propertyAccessorStrategy;
+
+    private final boolean utf8Generator;
+
+    private final CycleDetectionMode cycleDetectionMode;
+
+    private final int maxDepth;
+
+    private final Map<Type, Integer> mapExpectedSizes;
+
+    private final List<Type> prepareTypes;
+
+    private final int modelCacheLimit;
+
     /**
      * Creates new resolved JSONB config.
      *
@@ -98,6 +118,13 @@ public class JsonbConfigProperties {
         this.zeroTimeDefaulting = initZeroTimeDefaultingForJavaTime();
         this.defaultMapImplType = initDefaultMapImplType();
         this.nullSerializer = initNullSerializer();
+        this.propertyAccessorStrategy = initPropertyAccessorStrategy();
+        this.utf8Generator = initUtf8Generator();
+        this.cycleDetectionMode = initCycleDetectionMode();
+        this.maxDepth = initMaxDepth();
+        this.mapExpectedSizes = initMapExpectedSizes();
+        this.prepareTypes = initPrepareTypes();
+        this.modelCacheLimit = initModelCacheLimit();
     }
 
     private Class<?> initDefaultMapImplType() {
@@ -246,6 +273,131 @@ public class JsonbConfigProperties {
         return (JsonbSerializer<Object>) nullSerializer;
     }
 
+    private PropertyAccessorStrategy initPropertyAccessorStrategy() {
+        Optional<Object> property = jsonbConfig.getProperty(YassonProperties.PROPERTY_ACCESSOR_STRATEGY);
+        if (!property.isPresent()) {
+            return PropertyAccessorStrategy.REFLECTION;
+        }
+        Object strategyName = property.get();
+        PropertyAccessorStrategy strategy = strategyName instanceof String
+                ? PropertyAccessorStrategy.forName((String) strategyName)
+                : null;
+        if (strategy == null) {
+            throw new JsonbException("YassonConfig.PROPERTY_ACCESSOR_STRATEGY must be one of \"reflection\", \"generated\", "
+                                             + "but was: " + strategyName);
+        }
+        return strategy;
+    }
+
+    private boolean initUtf8Generator() {
+        if (!getBooleanConfigProperty(YassonProperties.UTF8_GENERATOR, false)) {
+            return false;
+        }
+        //invalid formatting value is reported when JSONP generator is created
+        final boolean formatting = !Boolean.FALSE.equals(jsonbConfig.getProperty(JsonbConfig.FORMATTING).orElse(Boolean.FALSE));
+        final Object encoding = jsonbConfig.getProperty(JsonbConfig.ENCODING).orElse(StandardCharsets.UTF_8.name());
+        return !formatting && StandardCharsets.UTF_8.name().equalsIgnoreCase(String.valueOf(encoding));
+    }
+
+    private CycleDetectionMode initCycleDetectionMode() {
+        Optional<Object> property = jsonbConfig.getProperty(YassonProperties.CYCLE_DETECTION);
+        if (!property.isPresent()) {
+            return CycleDetectionMode.IDENTITY;
+        }
+        Object modeName = property.get();
+        CycleDetectionMode mode = modeName instanceof String ? CycleDetectionMode.forName((String) modeName) : null;
+        if (mode == null) {
+            throw new JsonbException("YassonConfig.CYCLE_DETECTION must be one of \"identity\", \"depth\", \"off\", "
+                                             + "but was: " + modeName);
+        }
+        return mode;
+    }
+
+    private int initMaxDepth() {
+        Optional<Object> property = jsonbConfig.getProperty(YassonProperties.MAX_DEPTH);
+        if (!property.isPresent()) {
+            //identity detection finds recursive references, acyclic graphs are not limited
+            return cycleDetectionMode == CycleDetectionMode.DEPTH ? ProcessingContext.DEFAULT_MAX_DEPTH : Integer.MAX_VALUE;
+        }
+        Object maxDepth = property.get();
+        if (!(maxDepth instanceof Integer) || (Integer) maxDepth <= 0) {
+            throw new JsonbException("YassonConfig.MAX_DEPTH must be a positive Integer, but was: " + maxDepth);
+        }
+        return (Integer) maxDepth;
+    }
+
+    private Map<Type, Integer> initMapExpectedSizes() {
+        Optional<Object> property = jsonbConfig.getProperty(YassonProperties.MAP_EXPECTED_SIZE);
+        if (!property.isPresent()) {
+            return Collections.emptyMap();
+        }
+        Object expectedSizes = property.get();
+        if (!(expectedSizes instanceof Map)) {
+            throw new JsonbException("YassonConfig.MAP_EXPECTED_SIZE must be a Map of Types to non-negative Integers, "
+                                             + "but was: " + expectedSizes);
+        }
+        final Map<Type, Integer> result = new HashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) expectedSizes).entrySet()) {
+            if (!(entry.getKey() instanceof Type) || !(entry.getValue() instanceof Integer) || (Integer) entry.getValue() < 0) {
+                throw new JsonbException("YassonConfig.MAP_EXPECTED_SIZE must be a Map of Types to non-negative Integers, "
+                                                 + "but was: " + expectedSizes);
+            }
+            result.put((Type) entry.getKey(), (Integer) entry.getValue());
+        }
+        return result;
+    }
+
+    private int initModelCacheLimit() {
+        Optional<Object> property = jsonbConfig.getProperty(YassonProperties.MODEL_CACHE_LIMIT);
+        if (!property.isPresent()) {
+            return 0;
+        }
+        Object limit = property.get();
+        if (!(limit instanceof Integer) || (Integer) limit < 0) {
+            throw new JsonbException("YassonConfig.MODEL_CACHE_LIMIT must be a non-negative Integer, but was: " + limit);
+        }
+        return (Integer) limit;
+    }
+
+    private List<Type> initPrepareTypes() {
+        Optional<Object> property = jsonbConfig.getProperty(YassonProperties.PREPARE_TYPES);
+        if (!property.isPresent()) {
+            return Collections.emptyList();
+        }
+        Object value = property.get();
+        final Collection<?> entries;
+        if (value instanceof String) {
+            entries = Arrays.asList(((String) value).split(","));
+        } else if (value instanceof Collection) {
+            entries = (Collection<?>) value;
+        } else if (value instanceof Object[]) {
+            entries = Arrays.asList((Object[]) value);
+        } else {
+            throw new JsonbException("YassonConfig.PREPARE_TYPES must be a Collection or an array of types or class names, "
+                                             + "or a String of comma separated class names, but was: " + value);
+        }
+        final List<Type> types = new ArrayList<>(entries.size());
+        for (Object entry : entries) {
+            if (entry instanceof Type) {
+                types.add((Type) entry);
+            } else if (entry instanceof String && !((String) entry).trim().isEmpty()) {
+                types.add(loadClass(((String) entry).trim()));
+            } else {
+                throw new JsonbException("YassonConfig.PREPARE_TYPES entry must be a type or a class name, but was: " + entry);
+            }
+        }
+        return Collections.unmodifiableList(types);
+    }
+
+    private static Class<?> loadClass(String className) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            return Class.forName(className, false, classLoader != null ? classLoader : JsonbConfigProperties.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new JsonbException("YassonConfig.PREPARE_TYPES class not found: " + className, e);
+        }
+    }
+
     /**
      * Gets nullable from {@link JsonbConfig}.
      * If true null values are serialized to json.
@@ -406,4 +558,76 @@ public class JsonbConfigProperties {
     public JsonbSerializer<Object> getNullSerializer() {
         return nullSerializer;
     }
+
+    /**
+     * Strategy of reading and writing property values.
+     *
+     * @return property accessor strategy
+     */
+    public PropertyAccessorStrategy getPropertyAccessorStrategy() {
+        return propertyAccessorStrategy;
+    }
+
+    /**
+     * Whether Yasson's UTF-8 generator should be used for byte output.
+     *
+     * @return true if {@link JsonbUtf8Generator} is enabled and output is neither formatted, nor in other encoding
+     */
+    public boolean isUtf8Generator() {
+        return utf8Generator;
+    }
+
+    /**
+     * Mode of detecting recursive references during serialization.
+     *
+     * @return cycle detection mode
+     */
+    public CycleDetectionMode getCycleDetectionMode() {
+        return cycleDetectionMode;
+    }
+
+    /**
+     * Maximal nesting of serialized objects.
+     *
+     * @return maximal depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Expected number of entries of deserialized maps of given type, 0 if maps are created with default capacity.
+     * Size configured for the type is preferred to the size configured for its raw class.
+     *
+     * @param mapType runtime type of deserialized map
+     * @return expected map size
+     */
+    public int getMapExpectedSize(Type mapType) {
+        if (mapExpectedSizes.isEmpty()) {
+            return 0;
+        }
+        Integer expectedSize = mapExpectedSizes.get(mapType);
+        if (expectedSize == null) {
+            expectedSize = mapExpectedSizes.get(ReflectionUtils.getRawType(mapType));
+        }
+        return expectedSize == null ? 0 : expectedSize;
+    }
+
+    /**
+     * Types which mapping is prepared when Jsonb instance is created.
+     *
+     * @return types to prepare, empty if none
+     */
+    public List<Type> getPrepareTypes() {
+        return prepareTypes;
+    }
+
+    /**
+     * Maximal number of kept class models, 0 if not limited.
+     *
+     * @return model cache limit
+     */
+    public int getModelCacheLimit() {
+        return modelCacheLimit;
+    }
 }
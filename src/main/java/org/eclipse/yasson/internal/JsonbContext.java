@@ -16,8 +16,11 @@ package org.eclipse.yasson.internal;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.logging.Logger;
@@ -26,6 +29,9 @@ import javax.json.bind.JsonbConfig;
 import javax.json.spi.JsonProvider;
 
 import org.eclipse.yasson.internal.components.JsonbComponentInstanceCreatorFactory;
+import org.eclipse.yasson.internal.serializer.NumberFormatCache;
+import org.eclipse.yasson.spi.JsonbClassDescriptor;
+import org.eclipse.yasson.spi.JsonbClassDescriptorProvider;
 import org.eclipse.yasson.spi.JsonbComponentInstanceCreator;
 
 /**
@@ -51,6 +57,12 @@ public class JsonbContext {
 
     private final InstanceCreator instanceCreator;
 
+    private final KeyNameCache keyNameCache;
+
+    private final NumberFormatCache numberFormatCache;
+
+    private final Map<Class<?>, JsonbClassDescriptor<?>> classDescriptors;
+
     /**
      * Creates and initialize context.
      *
@@ -67,6 +79,9 @@ public class JsonbContext {
         this.annotationIntrospector = new AnnotationIntrospector(this);
         this.jsonProvider = jsonProvider;
         this.configProperties = new JsonbConfigProperties(jsonbConfig);
+        this.keyNameCache = new KeyNameCache();
+        this.numberFormatCache = new NumberFormatCache();
+        this.classDescriptors = SharedMetadata.getClassDescriptors(this::initClassDescriptors);
     }
 
     /**
@@ -136,6 +151,50 @@ public class JsonbContext {
         return instanceCreator;
     }
 
+    /**
+     * Returns cache of property names read by {@link JsonbUtf8Parser}.
+     *
+     * @return Property name cache.
+     */
+    public KeyNameCache getKeyNameCache() {
+        return keyNameCache;
+    }
+
+    /**
+     * Returns cache of compiled number formats.
+     *
+     * @return Number format cache.
+     */
+    public NumberFormatCache getNumberFormatCache() {
+        return numberFormatCache;
+    }
+
+    /**
+     * Returns descriptor of a class provided by {@link JsonbClassDescriptorProvider} services.
+     *
+     * @param clazz Class to find descriptor of.
+     * @return Class descriptor or null if the class is not described.
+     */
+    public JsonbClassDescriptor<?> getClassDescriptor(Class<?> clazz) {
+        return classDescriptors.get(clazz);
+    }
+
+    private Map<Class<?>, JsonbClassDescriptor<?>> initClassDescriptors() {
+        ServiceLoader<JsonbClassDescriptorProvider> loader = AccessController
+                .doPrivileged((PrivilegedAction<ServiceLoader<JsonbClassDescriptorProvider>>) () -> ServiceLoader
+                        .load(JsonbClassDescriptorProvider.class));
+        Map<Class<?>, JsonbClassDescriptor<?>> descriptors = new HashMap<>();
+        for (JsonbClassDescriptorProvider provider : loader) {
+            for (JsonbClassDescriptor<?> descriptor : provider.getClassDescriptors()) {
+                descriptors.put(descriptor.getType(), descriptor);
+            }
+        }
+        if (!descriptors.isEmpty()) {
+            LOGGER.finest("Class descriptors: " + descriptors.keySet());
+        }
+        return descriptors.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(descriptors);
+    }
+
     private JsonbComponentInstanceCreator initComponentInstanceCreator(InstanceCreator instanceCreator) {
         ServiceLoader<JsonbComponentInstanceCreator> loader = AccessController
                 .doPrivileged((PrivilegedAction<ServiceLoader<JsonbComponentInstanceCreator>>) () -> ServiceLoader
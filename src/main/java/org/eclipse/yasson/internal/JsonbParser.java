@@ -53,4 +53,26 @@ public interface JsonbParser extends JsonParser {
      * If current event is START_ARRAY or START_OBJECT, whole structure is skipped to end.
      */
     void skipJsonStructure();
+
+    /**
+     * Returns current integral number as long, failing if it doesn't fit into long without loss of precision.
+     *
+     * @return Number value.
+     * @throws ArithmeticException if number has nonzero fractional part or is out of long range.
+     */
+    long getLongValueExact();
+
+    /**
+     * Returns current number as double, rounded the same way as by {@link Double#parseDouble}.
+     *
+     * @return Number value.
+     */
+    double getDoubleValue();
+
+    /**
+     * Returns current number as float, rounded the same way as by {@link Float#parseFloat}.
+     *
+     * @return Number value.
+     */
+    float getFloatValue();
 }
@@ -14,9 +14,7 @@
 package org.eclipse.yasson.internal;
 
 import java.math.BigDecimal;
-import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.Deque;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -38,9 +36,14 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
 
     /**
      * State holder for current json structure level.
+     * <p>
+     * Level contexts are reused by the parser for all structures on the same nesting depth, so an instance
+     * describes the structure being parsed on its depth, until next structure on that depth is started.
+     * </p>
      */
     public static class LevelContext {
         private final LevelContext parent;
+        private final JsonbRiParser owner;
         private JsonParser.Event lastEvent;
         private String lastKeyName;
         private boolean parsed;
@@ -51,7 +54,12 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
          * @param parent Parent context.
          */
         public LevelContext(LevelContext parent) {
+            this(parent, null);
+        }
+
+        private LevelContext(LevelContext parent, JsonbRiParser owner) {
             this.parent = parent;
+            this.owner = owner;
         }
 
         /**
@@ -73,6 +81,9 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
          * @return Last key name.
          */
         public String getLastKeyName() {
+            if (owner != null && owner.pendingKeyLevel == this) {
+                owner.readPendingKey();
+            }
             return lastKeyName;
         }
 
@@ -105,11 +116,32 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
             }
             parsed = true;
         }
+
+        private void reuse() {
+            lastEvent = null;
+            lastKeyName = null;
+            parsed = false;
+        }
     }
 
     private final JsonParser jsonParser;
 
-    private final Deque<LevelContext> level = new ArrayDeque<>();
+    /**
+     * Level contexts indexed by nesting depth, root level at index 0.
+     */
+    private LevelContext[] levels = new LevelContext[16];
+
+    private int depth;
+
+    /**
+     * Level which key name was reported by the last {@link Event#KEY_NAME} event and is not read yet.
+     */
+    private LevelContext pendingKeyLevel;
+
+    /**
+     * True while a structure is skipped, key names are not read.
+     */
+    private boolean skipping;
 
     /**
      * Creates a parser.
@@ -119,11 +151,21 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
     public JsonbRiParser(JsonParser jsonParser) {
         this.jsonParser = jsonParser;
         //root level
-        this.level.push(new LevelContext(null));
+        this.levels[0] = new LevelContext(null, this);
+    }
+
+    /**
+     * Resets level tracking to start of a new root value, after the delegate parser was reset.
+     */
+    void reset() {
+        depth = 0;
+        pendingKeyLevel = null;
+        levels[0].reuse();
     }
 
     @Override
     public boolean hasNext() {
+        readPendingKey();
         return jsonParser.hasNext();
     }
 
@@ -139,21 +181,20 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
 
     @Override
     public JsonParser.Event next() {
+        readPendingKey();
         final JsonParser.Event next = jsonParser.next();
-        level.peek().setLastEvent(next);
+        levels[depth].setLastEvent(next);
         switch (next) {
         case START_ARRAY:
         case START_OBJECT:
-            final LevelContext newLevel = new LevelContext(level.peek());
-            newLevel.setLastEvent(next);
-            level.push(newLevel);
+            push().setLastEvent(next);
             break;
         case END_ARRAY:
         case END_OBJECT:
-            level.pop().finish();
+            pop().finish();
             break;
         case KEY_NAME:
-            getCurrentLevel().setLastKeyName(jsonParser.getString());
+            pendingKeyLevel = levels[depth];
             break;
         default:
             break;
@@ -161,6 +202,41 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
         return next;
     }
 
+    /**
+     * Key name is read when requested, or when parser is going to move from it if the level is not being skipped.
+     * Delegate may invalidate current string already in {@link #hasNext()}, which reads ahead.
+     */
+    private void readPendingKey() {
+        if (pendingKeyLevel != null) {
+            if (!skipping) {
+                pendingKeyLevel.setLastKeyName(jsonParser.getString());
+            }
+            pendingKeyLevel = null;
+        }
+    }
+
+    private LevelContext push() {
+        depth++;
+        if (depth == levels.length) {
+            levels = Arrays.copyOf(levels, depth * 2);
+        }
+        LevelContext newLevel = levels[depth];
+        if (newLevel == null) {
+            newLevel = new LevelContext(levels[depth - 1], this);
+            levels[depth] = newLevel;
+        } else {
+            newLevel.reuse();
+        }
+        return newLevel;
+    }
+
+    private LevelContext pop() {
+        if (pendingKeyLevel == levels[depth]) {
+            pendingKeyLevel = null;
+        }
+        return levels[depth--];
+    }
+
     @Override
     public boolean isIntegralNumber() {
         return jsonParser.isIntegralNumber();
@@ -188,7 +264,7 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
 
     @Override
     public void moveTo(JsonParser.Event required) {
-        if (!level.isEmpty() && level.peek().getLastEvent() == required) {
+        if (getCurrentLevel().getLastEvent() == required) {
             return;
         }
 
@@ -212,8 +288,9 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
     }
 
     private Event moveTo(Event... events) {
-        if (!level.isEmpty() && contains(events, level.peek().getLastEvent())) {
-            return level.peek().getLastEvent();
+        final Event lastEvent = getCurrentLevel().getLastEvent();
+        if (contains(events, lastEvent)) {
+            return lastEvent;
         }
 
         final Event next = next();
@@ -245,17 +322,51 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
 
     @Override
     public LevelContext getCurrentLevel() {
-        return level.peek();
+        return levels[depth];
+    }
+
+    @Override
+    public long getLongValueExact() {
+        if (jsonParser instanceof JsonbUtf8Parser) {
+            return ((JsonbUtf8Parser) jsonParser).getLongValueExact();
+        }
+        //numbers up to 18 characters fit into long, getLong() of longer ones may wrap
+        if (jsonParser.isIntegralNumber() && jsonParser.getString().length() <= 18) {
+            return jsonParser.getLong();
+        }
+        return jsonParser.getBigDecimal().longValueExact();
+    }
+
+    @Override
+    public double getDoubleValue() {
+        if (jsonParser instanceof JsonbUtf8Parser) {
+            return ((JsonbUtf8Parser) jsonParser).getDoubleValue();
+        }
+        return Double.parseDouble(jsonParser.getString());
+    }
+
+    @Override
+    public float getFloatValue() {
+        if (jsonParser instanceof JsonbUtf8Parser) {
+            return ((JsonbUtf8Parser) jsonParser).getFloatValue();
+        }
+        return Float.parseFloat(jsonParser.getString());
     }
 
     @Override
     public void skipJsonStructure() {
-        final LevelContext currentLevel = level.peek();
+        final LevelContext currentLevel = getCurrentLevel();
         switch (currentLevel.getLastEvent()) {
         case START_ARRAY:
         case START_OBJECT:
-            while (!currentLevel.isParsed()) {
-                next();
+            final int skippedDepth = depth;
+            skipping = true;
+            try {
+                while (depth >= skippedDepth) {
+                    next();
+                }
+            } finally {
+                skipping = false;
             }
             return;
         default:
@@ -266,7 +377,7 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
     @Override
     public JsonObject getObject() {
         JsonObject object = jsonParser.getObject();
-        level.pop();
+        pop();
         return object;
     }
 
@@ -278,7 +389,7 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
     @Override
     public JsonArray getArray() {
         JsonArray result = jsonParser.getArray();
-        level.pop();
+        pop();
         return result;
     }
 
@@ -300,16 +411,16 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
     @Override
     public void skipArray() {
         jsonParser.skipArray();
-        level.pop();
+        pop();
     }
 
     @Override
     public void skipObject() {
         jsonParser.skipObject();
-        level.pop();
+        pop();
     }
 
     public JsonParser.Event getLastEvent() {
-        return level.peek().getLastEvent();
+        return levels[depth].getLastEvent();
     }
 }
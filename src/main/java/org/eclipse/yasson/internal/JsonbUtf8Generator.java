@@ -0,0 +1,574 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.stream.JsonGenerationException;
+import javax.json.stream.JsonGenerator;
+
+/**
+ * JSON generator writing UTF-8 encoded bytes directly into a byte buffer.
+ * <p>
+ * Output is not pretty printed. Buffer is flushed into an output stream when full, or grown when generator
+ * has no output stream and result is obtained with {@link #toByteArray()}. Property names may be written
+ * pre-encoded with {@link #writeKey(byte[])}, see {@link #encodeKey(String)}.
+ * </p>
+ */
+public class JsonbUtf8Generator implements JsonGenerator {
+
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    private static final int BYTES_BUFFER_SIZE = 512;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream out;
+
+    private byte[] buffer;
+
+    private int position;
+
+    /**
+     * Scope of each nesting level, true for object, false for array.
+     */
+    private boolean[] objectScope = new boolean[16];
+
+    /**
+     * True if a value was already written at nesting level.
+     */
+    private boolean[] hasValue = new boolean[16];
+
+    private int depth;
+
+    private boolean afterKey;
+
+    private boolean rootWritten;
+
+    /**
+     * Creates generator writing into given output stream.
+     *
+     * @param out Output stream, not null.
+     */
+    public JsonbUtf8Generator(OutputStream out) {
+        this.out = out;
+        this.buffer = new byte[STREAM_BUFFER_SIZE];
+    }
+
+    /**
+     * Creates generator writing into growing byte buffer, result is obtained by {@link #toByteArray()}.
+     */
+    public JsonbUtf8Generator() {
+        this.out = null;
+        this.buffer = new byte[BYTES_BUFFER_SIZE];
+    }
+
+    /**
+     * Encodes property name as quoted and escaped UTF-8 bytes followed by colon.
+     *
+     * @param name Property name.
+     * @return Encoded name to use with {@link #writeKey(byte[])}.
+     */
+    public static byte[] encodeKey(String name) {
+        JsonbUtf8Generator generator = new JsonbUtf8Generator();
+        generator.writeQuoted(name);
+        generator.writeByte((byte) ':');
+        return generator.toByteArray();
+    }
+
+    /**
+     * Encodes string value as quoted and escaped UTF-8 bytes.
+     *
+     * @param value String value.
+     * @return Encoded value to use with {@link #writeEncoded(byte[])}.
+     */
+    public static byte[] encodeString(String value) {
+        JsonbUtf8Generator generator = new JsonbUtf8Generator();
+        generator.writeQuoted(value);
+        return generator.toByteArray();
+    }
+
+    /**
+     * Returns generated bytes of generator without output stream.
+     *
+     * @return Generated bytes.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * Ends completely written JSON value with a new line, after which another root value can be written.
+     * Used to generate JSON Lines.
+     *
+     * @return this generator
+     */
+    public JsonGenerator writeLineSeparator() {
+        if (depth != 0 || !rootWritten) {
+            throw new JsonGenerationException("Generating incomplete JSON");
+        }
+        writeByte((byte) '\n');
+        rootWritten = false;
+        return this;
+    }
+
+    /**
+     * Writes property name encoded by {@link #encodeKey(String)}.
+     *
+     * @param encodedKey Encoded property name.
+     * @return this generator
+     */
+    public JsonGenerator writeKey(byte[] encodedKey) {
+        prepareKey();
+        ensureCapacity(encodedKey.length);
+        System.arraycopy(encodedKey, 0, buffer, position, encodedKey.length);
+        position += encodedKey.length;
+        return this;
+    }
+
+    /**
+     * Writes string value encoded by {@link #encodeString(String)}.
+     *
+     * @param encodedValue Encoded string value.
+     * @return this generator
+     */
+    public JsonGenerator writeEncoded(byte[] encodedValue) {
+        prepareValue();
+        ensureCapacity(encodedValue.length);
+        System.arraycopy(encodedValue, 0, buffer, position, encodedValue.length);
+        position += encodedValue.length;
+        return this;
+    }
+
+    /**
+     * Writes integral number as property name, without creating its string.
+     *
+     * @param name Property name.
+     * @return this generator
+     */
+    public JsonGenerator writeKey(long name) {
+        prepareKey();
+        writeByte((byte) '"');
+        writeLong(name);
+        ensureCapacity(2);
+        buffer[position++] = '"';
+        buffer[position++] = ':';
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeKey(String name) {
+        prepareKey();
+        writeQuoted(name);
+        writeByte((byte) ':');
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject() {
+        prepareValue();
+        push(true);
+        writeByte((byte) '{');
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject(String name) {
+        writeKey(name);
+        return writeStartObject();
+    }
+
+    @Override
+    public JsonGenerator writeStartArray() {
+        prepareValue();
+        push(false);
+        writeByte((byte) '[');
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray(String name) {
+        writeKey(name);
+        return writeStartArray();
+    }
+
+    @Override
+    public JsonGenerator write(String name, JsonValue value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, String value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigInteger value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigDecimal value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, int value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, long value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, double value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, boolean value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator writeNull(String name) {
+        writeKey(name);
+        return writeNull();
+    }
+
+    @Override
+    public JsonGenerator writeEnd() {
+        if (depth == 0 || afterKey) {
+            throw new JsonGenerationException("Illegal method in current context: writeEnd()");
+        }
+        writeByte(objectScope[--depth] ? (byte) '}' : (byte) ']');
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(JsonValue value) {
+        switch (value.getValueType()) {
+        case ARRAY:
+            writeStartArray();
+            for (JsonValue item : (JsonArray) value) {
+                write(item);
+            }
+            return writeEnd();
+        case OBJECT:
+            writeStartObject();
+            for (Map.Entry<String, JsonValue> entry : ((JsonObject) value).entrySet()) {
+                write(entry.getKey(), entry.getValue());
+            }
+            return writeEnd();
+        case STRING:
+            return write(((JsonString) value).getString());
+        case NUMBER:
+            prepareValue();
+            writeAscii(((JsonNumber) value).toString());
+            return this;
+        case TRUE:
+            return write(true);
+        case FALSE:
+            return write(false);
+        default:
+            return writeNull();
+        }
+    }
+
+    @Override
+    public JsonGenerator write(String value) {
+        prepareValue();
+        writeQuoted(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(BigDecimal value) {
+        prepareValue();
+        writeAscii(value.toString());
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(BigInteger value) {
+        prepareValue();
+        writeAscii(value.toString());
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(int value) {
+        prepareValue();
+        writeLong(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(long value) {
+        prepareValue();
+        writeLong(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(double value) {
+        if (Double.isInfinite(value) || Double.isNaN(value)) {
+            throw new NumberFormatException("Non-finite double numbers are not supported: " + value);
+        }
+        prepareValue();
+        writeAscii(String.valueOf(value));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(boolean value) {
+        prepareValue();
+        writeBytes(value ? TRUE : FALSE);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeNull() {
+        prepareValue();
+        writeBytes(NULL);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (out != null) {
+                flushBuffer();
+                out.close();
+            }
+        } catch (IOException e) {
+            throw new JsonException("I/O error while closing JSON generator", e);
+        }
+        if (depth != 0 || !rootWritten) {
+            throw new JsonGenerationException("Generating incomplete JSON");
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (out == null) {
+            return;
+        }
+        try {
+            flushBuffer();
+            out.flush();
+        } catch (IOException e) {
+            throw new JsonException("I/O error while flushing JSON generator", e);
+        }
+    }
+
+    private void prepareKey() {
+        if (depth == 0 || !objectScope[depth - 1] || afterKey) {
+            throw new JsonGenerationException("Illegal method in current context: writeKey()");
+        }
+        if (hasValue[depth - 1]) {
+            writeByte((byte) ',');
+        }
+        hasValue[depth - 1] = true;
+        afterKey = true;
+    }
+
+    private void prepareValue() {
+        if (afterKey) {
+            afterKey = false;
+            return;
+        }
+        if (depth == 0) {
+            if (rootWritten) {
+                throw new JsonGenerationException("Illegal method in current context, JSON value is already written");
+            }
+            rootWritten = true;
+            return;
+        }
+        if (objectScope[depth - 1]) {
+            throw new JsonGenerationException("Illegal method in current context, property name is expected");
+        }
+        if (hasValue[depth - 1]) {
+            writeByte((byte) ',');
+        }
+        hasValue[depth - 1] = true;
+    }
+
+    private void push(boolean object) {
+        if (depth == objectScope.length) {
+            objectScope = Arrays.copyOf(objectScope, depth * 2);
+            hasValue = Arrays.copyOf(hasValue, depth * 2);
+        }
+        objectScope[depth] = object;
+        hasValue[depth] = false;
+        depth++;
+    }
+
+    private void writeQuoted(String value) {
+        ensureCapacity(2);
+        buffer[position++] = '"';
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (position + 6 > buffer.length) {
+                ensureCapacity(6);
+            }
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    buffer[position++] = (byte) c;
+                } else {
+                    writeEscaped(c);
+                }
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                //unpaired surrogate is replaced the same way as by UTF-8 charset encoder
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        ensureCapacity(1);
+        buffer[position++] = '"';
+    }
+
+    private void writeEscaped(char c) {
+        buffer[position++] = '\\';
+        switch (c) {
+        case '"':
+        case '\\':
+            buffer[position++] = (byte) c;
+            break;
+        case '\b':
+            buffer[position++] = 'b';
+            break;
+        case '\f':
+            buffer[position++] = 'f';
+            break;
+        case '\n':
+            buffer[position++] = 'n';
+            break;
+        case '\r':
+            buffer[position++] = 'r';
+            break;
+        case '\t':
+            buffer[position++] = 't';
+            break;
+        default:
+            buffer[position++] = 'u';
+            buffer[position++] = '0';
+            buffer[position++] = '0';
+            buffer[position++] = HEX[c >> 4];
+            buffer[position++] = HEX[c & 0xF];
+        }
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long limit = 10; digits < 19 && value >= limit; limit *= 10) {
+            digits++;
+        }
+        int index = position + digits;
+        position = index;
+        do {
+            buffer[--index] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+    }
+
+    private void writeAscii(String value) {
+        final int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeByte(byte b) {
+        ensureCapacity(1);
+        buffer[position++] = b;
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length <= buffer.length) {
+            return;
+        }
+        if (out != null) {
+            try {
+                flushBuffer();
+            } catch (IOException e) {
+                throw new JsonException("I/O error while writing JSON", e);
+            }
+            if (length <= buffer.length) {
+                return;
+            }
+        }
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
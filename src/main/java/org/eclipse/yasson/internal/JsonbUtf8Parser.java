@@ -0,0 +1,803 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonLocation;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParsingException;
+
+/**
+ * JSON parser tokenizing UTF-8 encoded bytes directly, without decoding input into characters first.
+ * <p>
+ * Strings and numbers are decoded only when their value is requested. Short ASCII property names are
+ * resolved through {@link KeyNameCache}. Input is either a byte array or a {@link ByteBuffer}, which is read
+ * by absolute {@link ByteBuffer#get(int)} in place, so a direct buffer is not copied to the heap.
+ * </p>
+ */
+public class JsonbUtf8Parser implements JsonParser {
+
+    /**
+     * Nothing parsed yet on nesting level.
+     */
+    private static final byte STATE_START = 0;
+
+    /**
+     * Property name parsed, value is expected.
+     */
+    private static final byte STATE_AFTER_KEY = 1;
+
+    /**
+     * Value parsed, comma or end of structure is expected.
+     */
+    private static final byte STATE_AFTER_VALUE = 2;
+
+    private byte[] data;
+
+    /**
+     * Input buffer, null if input is {@link #data}.
+     */
+    private ByteBuffer buffer;
+
+    private int start;
+
+    private int end;
+
+    private final JsonProvider jsonProvider;
+
+    private final KeyNameCache keyNameCache;
+
+    private int position;
+
+    private boolean[] objectScope = new boolean[16];
+
+    private byte[] state = new byte[16];
+
+    private int depth;
+
+    private boolean rootParsed;
+
+    private Event event;
+
+    /**
+     * Range of current string or number token, string range excludes quotes.
+     */
+    private int tokenStart;
+
+    private int tokenEnd;
+
+    private boolean tokenEscaped;
+
+    private boolean tokenIntegral;
+
+    private char[] chars = new char[64];
+
+    /**
+     * Copy of short property name read from {@link #buffer}, which is looked up in {@link #keyNameCache}.
+     */
+    private byte[] keyBytes;
+
+    /**
+     * Creates parser of UTF-8 bytes in given range.
+     *
+     * @param data         Input bytes.
+     * @param offset       Offset of JSON in the input.
+     * @param length       Length of JSON in the input.
+     * @param jsonProvider Provider used to create {@link JsonValue} instances.
+     * @param keyNameCache Cache of property names, may be null.
+     */
+    public JsonbUtf8Parser(byte[] data, int offset, int length, JsonProvider jsonProvider, KeyNameCache keyNameCache) {
+        this.jsonProvider = jsonProvider;
+        this.keyNameCache = keyNameCache;
+        reset(data, offset, length);
+    }
+
+    /**
+     * Creates parser of UTF-8 bytes remaining in a buffer. Buffer is read in place from its position
+     * to its limit, neither of them is changed by the parser.
+     *
+     * @param buffer       Input buffer.
+     * @param jsonProvider Provider used to create {@link JsonValue} instances.
+     * @param keyNameCache Cache of property names, may be null.
+     */
+    public JsonbUtf8Parser(ByteBuffer buffer, JsonProvider jsonProvider, KeyNameCache keyNameCache) {
+        this.jsonProvider = jsonProvider;
+        this.keyNameCache = keyNameCache;
+        this.buffer = buffer;
+        reset(buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Resets the parser to parse another JSON value, reusing its buffers.
+     *
+     * @param data   Input bytes.
+     * @param offset Offset of JSON in the input.
+     * @param length Length of JSON in the input.
+     */
+    void reset(byte[] data, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > data.length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + data.length);
+        }
+        this.data = data;
+        this.buffer = null;
+        reset(offset, offset + length);
+    }
+
+    private void reset(int start, int end) {
+        this.start = start;
+        this.end = end;
+        this.position = start;
+        this.depth = 0;
+        this.rootParsed = false;
+        this.event = null;
+        //skip UTF-8 byte order mark
+        if (end - start >= 3 && at(start) == (byte) 0xEF && at(start + 1) == (byte) 0xBB && at(start + 2) == (byte) 0xBF) {
+            position += 3;
+        }
+    }
+
+    /**
+     * Byte of the input at given index.
+     */
+    private byte at(int index) {
+        return data != null ? data[index] : buffer.get(index);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (depth > 0) {
+            return true;
+        }
+        skipWhitespace();
+        if (!rootParsed) {
+            return position < end;
+        }
+        if (position < end) {
+            throw parsingException("Expected end of input, but found: " + describe(position));
+        }
+        return false;
+    }
+
+    @Override
+    public Event next() {
+        event = nextEvent();
+        return event;
+    }
+
+    private Event nextEvent() {
+        skipWhitespace();
+        if (depth == 0) {
+            if (rootParsed) {
+                throw new NoSuchElementException("No more JSON events");
+            }
+            rootParsed = true;
+            return readValue();
+        }
+        final int level = depth - 1;
+        if (objectScope[level]) {
+            switch (state[level]) {
+            case STATE_START:
+                if (peek() == '}') {
+                    return endStructure();
+                }
+                return readKey();
+            case STATE_AFTER_KEY:
+                state[level] = STATE_AFTER_VALUE;
+                return readValue();
+            default:
+                if (peek() == '}') {
+                    return endStructure();
+                }
+                expect(',');
+                skipWhitespace();
+                return readKey();
+            }
+        }
+        if (state[level] == STATE_START) {
+            if (peek() == ']') {
+                return endStructure();
+            }
+        } else {
+            if (peek() == ']') {
+                return endStructure();
+            }
+            expect(',');
+            skipWhitespace();
+        }
+        state[level] = STATE_AFTER_VALUE;
+        return readValue();
+    }
+
+    @Override
+    public String getString() {
+        switch (event) {
+        case KEY_NAME:
+            return keyName();
+        case VALUE_STRING:
+            return decodeString();
+        case VALUE_NUMBER:
+            return asciiChars(tokenStart, tokenEnd);
+        default:
+            throw new IllegalStateException("getString() is not supported for event: " + event);
+        }
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        checkNumber();
+        return tokenIntegral;
+    }
+
+    @Override
+    public int getInt() {
+        checkNumber();
+        if (tokenIntegral && tokenEnd - tokenStart <= 9) {
+            return (int) parseSmallLong();
+        }
+        return getBigDecimal().intValue();
+    }
+
+    @Override
+    public long getLong() {
+        checkNumber();
+        if (tokenIntegral && tokenEnd - tokenStart <= 18) {
+            return parseSmallLong();
+        }
+        return getBigDecimal().longValue();
+    }
+
+    /**
+     * Returns current number as long, without decoding integral numbers into {@link BigDecimal}.
+     *
+     * @return number value
+     * @throws ArithmeticException if number has nonzero fractional part or is out of long range
+     */
+    public long getLongValueExact() {
+        checkNumber();
+        if (!tokenIntegral) {
+            return getBigDecimal().longValueExact();
+        }
+        if (tokenEnd - tokenStart <= 18) {
+            return parseSmallLong();
+        }
+        return parseLongExact();
+    }
+
+    /**
+     * Returns current number as double, rounded the same way as by {@link Double#parseDouble}.
+     *
+     * @return number value
+     */
+    public double getDoubleValue() {
+        checkNumber();
+        //integers below 2^53 are exact doubles
+        if (tokenIntegral && tokenEnd - tokenStart <= 15) {
+            final long value = parseSmallLong();
+            return value == 0 && at(tokenStart) == '-' ? -0.0 : value;
+        }
+        return Double.parseDouble(asciiChars(tokenStart, tokenEnd));
+    }
+
+    /**
+     * Returns current number as float, rounded the same way as by {@link Float#parseFloat}.
+     *
+     * @return number value
+     */
+    public float getFloatValue() {
+        checkNumber();
+        //integers below 2^24 are exact floats
+        if (tokenIntegral && tokenEnd - tokenStart <= 7) {
+            final long value = parseSmallLong();
+            return value == 0 && at(tokenStart) == '-' ? -0.0f : value;
+        }
+        return Float.parseFloat(asciiChars(tokenStart, tokenEnd));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+        checkNumber();
+        final int length = tokenEnd - tokenStart;
+        final char[] buffer = charBuffer(length);
+        for (int i = 0; i < length; i++) {
+            buffer[i] = (char) at(tokenStart + i);
+        }
+        return new BigDecimal(buffer, 0, length);
+    }
+
+    @Override
+    public JsonLocation getLocation() {
+        return location(position);
+    }
+
+    @Override
+    public JsonObject getObject() {
+        if (event != Event.START_OBJECT) {
+            throw new IllegalStateException("getObject() is not supported for event: " + event);
+        }
+        return readObject();
+    }
+
+    @Override
+    public JsonArray getArray() {
+        if (event != Event.START_ARRAY) {
+            throw new IllegalStateException("getArray() is not supported for event: " + event);
+        }
+        return readArray();
+    }
+
+    @Override
+    public JsonValue getValue() {
+        switch (event) {
+        case START_OBJECT:
+            return readObject();
+        case START_ARRAY:
+            return readArray();
+        case VALUE_STRING:
+        case KEY_NAME:
+            return jsonProvider.createValue(getString());
+        case VALUE_NUMBER:
+            if (tokenIntegral && tokenEnd - tokenStart <= 9) {
+                return jsonProvider.createValue(getInt());
+            } else if (tokenIntegral && tokenEnd - tokenStart <= 18) {
+                return jsonProvider.createValue(getLong());
+            }
+            return jsonProvider.createValue(getBigDecimal());
+        case VALUE_TRUE:
+            return JsonValue.TRUE;
+        case VALUE_FALSE:
+            return JsonValue.FALSE;
+        case VALUE_NULL:
+            return JsonValue.NULL;
+        default:
+            throw new IllegalStateException("getValue() is not supported for event: " + event);
+        }
+    }
+
+    @Override
+    public void skipArray() {
+        if (event == Event.START_ARRAY) {
+            skipStructure();
+        }
+    }
+
+    @Override
+    public void skipObject() {
+        if (event == Event.START_OBJECT) {
+            skipStructure();
+        }
+    }
+
+    @Override
+    public void close() {
+        //nothing to release, input is owned by caller
+    }
+
+    private JsonObject readObject() {
+        final JsonObjectBuilder builder = jsonProvider.createObjectBuilder();
+        while (next() != Event.END_OBJECT) {
+            final String key = getString();
+            next();
+            builder.add(key, getValue());
+        }
+        return builder.build();
+    }
+
+    private JsonArray readArray() {
+        final JsonArrayBuilder builder = jsonProvider.createArrayBuilder();
+        while (next() != Event.END_ARRAY) {
+            builder.add(getValue());
+        }
+        return builder.build();
+    }
+
+    private void skipStructure() {
+        final int targetDepth = depth - 1;
+        while (depth > targetDepth) {
+            next();
+        }
+    }
+
+    private Event readKey() {
+        if (peek() != '"') {
+            throw parsingException("Expected property name, but found: " + describe(position));
+        }
+        readString();
+        skipWhitespace();
+        expect(':');
+        state[depth - 1] = STATE_AFTER_KEY;
+        return Event.KEY_NAME;
+    }
+
+    private Event readValue() {
+        final byte b = peek();
+        switch (b) {
+        case '{':
+            position++;
+            push(true);
+            return Event.START_OBJECT;
+        case '[':
+            position++;
+            push(false);
+            return Event.START_ARRAY;
+        case '"':
+            readString();
+            return Event.VALUE_STRING;
+        case 't':
+            readLiteral("true");
+            return Event.VALUE_TRUE;
+        case 'f':
+            readLiteral("false");
+            return Event.VALUE_FALSE;
+        case 'n':
+            readLiteral("null");
+            return Event.VALUE_NULL;
+        default:
+            if (b == '-' || (b >= '0' && b <= '9')) {
+                readNumber();
+                return Event.VALUE_NUMBER;
+            }
+            throw parsingException("Unexpected character: " + describe(position));
+        }
+    }
+
+    private Event endStructure() {
+        final boolean object = objectScope[--depth];
+        position++;
+        return object ? Event.END_OBJECT : Event.END_ARRAY;
+    }
+
+    private void push(boolean object) {
+        if (depth == objectScope.length) {
+            objectScope = Arrays.copyOf(objectScope, depth * 2);
+            state = Arrays.copyOf(state, depth * 2);
+        }
+        objectScope[depth] = object;
+        state[depth] = STATE_START;
+        depth++;
+    }
+
+    private void readString() {
+        int i = position + 1;
+        boolean escaped = false;
+        while (true) {
+            if (i >= end) {
+                throw parsingException("Unexpected end of input in string");
+            }
+            final byte b = at(i);
+            if (b == '"') {
+                break;
+            } else if (b == '\\') {
+                escaped = true;
+                i += 2;
+                continue;
+            } else if (b >= 0 && b < 0x20) {
+                throw parsingException("Unescaped control character in string: " + describe(i));
+            }
+            i++;
+        }
+        tokenStart = position + 1;
+        tokenEnd = i;
+        tokenEscaped = escaped;
+        position = i + 1;
+    }
+
+    private void readNumber() {
+        int i = position;
+        boolean integral = true;
+        if (at(i) == '-') {
+            i++;
+        }
+        final int intStart = i;
+        i = digits(i);
+        if (i == intStart || (at(intStart) == '0' && i - intStart > 1)) {
+            throw parsingException("Invalid number: " + describe(position));
+        }
+        if (i < end && at(i) == '.') {
+            integral = false;
+            final int fractionStart = ++i;
+            i = digits(i);
+            if (i == fractionStart) {
+                throw parsingException("Invalid number: " + describe(position));
+            }
+        }
+        if (i < end && (at(i) == 'e' || at(i) == 'E')) {
+            integral = false;
+            i++;
+            if (i < end && (at(i) == '+' || at(i) == '-')) {
+                i++;
+            }
+            final int exponentStart = i;
+            i = digits(i);
+            if (i == exponentStart) {
+                throw parsingException("Invalid number: " + describe(position));
+            }
+        }
+        tokenStart = position;
+        tokenEnd = i;
+        tokenIntegral = integral;
+        position = i;
+    }
+
+    private int digits(int i) {
+        while (i < end && at(i) >= '0' && at(i) <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    private void readLiteral(String literal) {
+        final int length = literal.length();
+        if (position + length > end) {
+            throw parsingException("Unexpected end of input, expected: " + literal);
+        }
+        for (int i = 0; i < length; i++) {
+            if (at(position + i) != literal.charAt(i)) {
+                throw parsingException("Unexpected character: " + describe(position + i) + ", expected: " + literal);
+            }
+        }
+        position += length;
+    }
+
+    private String keyName() {
+        final int length = tokenEnd - tokenStart;
+        if (keyNameCache == null || tokenEscaped || length > KeyNameCache.MAX_NAME_LENGTH) {
+            return decodeString();
+        }
+        byte[] key = data;
+        int keyStart = tokenStart;
+        if (key == null) {
+            if (keyBytes == null) {
+                keyBytes = new byte[KeyNameCache.MAX_NAME_LENGTH];
+            }
+            key = keyBytes;
+            keyStart = 0;
+            for (int i = 0; i < length; i++) {
+                key[i] = buffer.get(tokenStart + i);
+            }
+        }
+        final String cached = keyNameCache.get(key, keyStart, keyStart + length);
+        if (cached != null) {
+            return cached;
+        }
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            if (at(i) < 0) {
+                return decodeString();
+            }
+        }
+        final String name = asciiChars(tokenStart, tokenEnd);
+        keyNameCache.put(key, keyStart, keyStart + length, name);
+        return name;
+    }
+
+    private String asciiChars(int from, int to) {
+        final char[] buffer = charBuffer(to - from);
+        for (int i = from; i < to; i++) {
+            buffer[i - from] = (char) at(i);
+        }
+        return new String(buffer, 0, to - from);
+    }
+
+    private String decodeString() {
+        final char[] buffer = charBuffer(tokenEnd - tokenStart);
+        int length = 0;
+        int i = tokenStart;
+        while (i < tokenEnd) {
+            final int b = at(i);
+            if (b == '\\') {
+                final byte escape = at(i + 1);
+                i += 2;
+                switch (escape) {
+                case '"':
+                case '\\':
+                case '/':
+                    buffer[length++] = (char) escape;
+                    break;
+                case 'b':
+                    buffer[length++] = '\b';
+                    break;
+                case 'f':
+                    buffer[length++] = '\f';
+                    break;
+                case 'n':
+                    buffer[length++] = '\n';
+                    break;
+                case 'r':
+                    buffer[length++] = '\r';
+                    break;
+                case 't':
+                    buffer[length++] = '\t';
+                    break;
+                case 'u':
+                    buffer[length++] = (char) hexValue(i);
+                    i += 4;
+                    break;
+                default:
+                    throw parsingException("Invalid escape sequence: \\" + (char) escape);
+                }
+            } else if (b >= 0) {
+                buffer[length++] = (char) b;
+                i++;
+            } else if ((b & 0xE0) == 0xC0 && i + 1 < tokenEnd) {
+                buffer[length++] = (char) (((b & 0x1F) << 6) | (at(i + 1) & 0x3F));
+                i += 2;
+            } else if ((b & 0xF0) == 0xE0 && i + 2 < tokenEnd) {
+                buffer[length++] = (char) (((b & 0x0F) << 12) | ((at(i + 1) & 0x3F) << 6) | (at(i + 2) & 0x3F));
+                i += 3;
+            } else if ((b & 0xF8) == 0xF0 && i + 3 < tokenEnd) {
+                final int codePoint = ((b & 0x07) << 18) | ((at(i + 1) & 0x3F) << 12)
+                        | ((at(i + 2) & 0x3F) << 6) | (at(i + 3) & 0x3F);
+                buffer[length++] = Character.highSurrogate(codePoint);
+                buffer[length++] = Character.lowSurrogate(codePoint);
+                i += 4;
+            } else {
+                //malformed input is replaced the same way as by UTF-8 charset decoder
+                buffer[length++] = '\uFFFD';
+                i++;
+            }
+        }
+        return new String(buffer, 0, length);
+    }
+
+    private int hexValue(int index) {
+        if (index + 4 > tokenEnd) {
+            throw parsingException("Invalid unicode escape sequence");
+        }
+        int value = 0;
+        for (int i = index; i < index + 4; i++) {
+            final int digit = Character.digit(at(i), 16);
+            if (digit < 0) {
+                throw parsingException("Invalid unicode escape sequence");
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private long parseSmallLong() {
+        int i = tokenStart;
+        final boolean negative = at(i) == '-';
+        if (negative) {
+            i++;
+        }
+        long value = 0;
+        for (; i < tokenEnd; i++) {
+            value = value * 10 + (at(i) - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses integral token of any length, accumulating negatively to cover {@link Long#MIN_VALUE}.
+     */
+    private long parseLongExact() {
+        int i = tokenStart;
+        final boolean negative = at(i) == '-';
+        if (negative) {
+            i++;
+        }
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10;
+        long value = 0;
+        for (; i < tokenEnd; i++) {
+            final int digit = at(i) - '0';
+            if (value < multiplyLimit || value * 10 < limit + digit) {
+                throw new ArithmeticException("Overflow");
+            }
+            value = value * 10 - digit;
+        }
+        return negative ? value : -value;
+    }
+
+    private void checkNumber() {
+        if (event != Event.VALUE_NUMBER) {
+            throw new IllegalStateException("Number value is not available for event: " + event);
+        }
+    }
+
+    private char[] charBuffer(int length) {
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        return chars;
+    }
+
+    private byte peek() {
+        if (position >= end) {
+            throw parsingException("Unexpected end of input");
+        }
+        return at(position);
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw parsingException("Expected '" + c + "', but found: " + describe(position));
+        }
+        position++;
+        skipWhitespace();
+    }
+
+    private void skipWhitespace() {
+        while (position < end) {
+            final byte b = at(position);
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private String describe(int index) {
+        return index < end ? "'" + (char) (at(index) & 0xFF) + "'" : "end of input";
+    }
+
+    private JsonParsingException parsingException(String message) {
+        final JsonLocation location = location(position);
+        return new JsonParsingException(message + " " + location, location);
+    }
+
+    private JsonLocation location(int index) {
+        long line = 1;
+        long column = 1;
+        for (int i = start; i < index && i < end; i++) {
+            if (at(i) == '\n') {
+                line++;
+                column = 1;
+            } else {
+                column++;
+            }
+        }
+        return new Utf8Location(line, column, index - start);
+    }
+
+    private static final class Utf8Location implements JsonLocation {
+
+        private final long line;
+
+        private final long column;
+
+        private final long offset;
+
+        private Utf8Location(long line, long column, long offset) {
+            this.line = line;
+            this.column = column;
+            this.offset = offset;
+        }
+
+        @Override
+        public long getLineNumber() {
+            return line;
+        }
+
+        @Override
+        public long getColumnNumber() {
+            return column;
+        }
+
+        @Override
+        public long getStreamOffset() {
+            return offset;
+        }
+
+        @Override
+        public String toString() {
+            return "(line no=" + line + ", column no=" + column + ", offset=" + offset + ")";
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+/**
+ * Cache of short ASCII JSON property names decoded from UTF-8 input.
+ * <p>
+ * Names are matched against encoded bytes, so a repeated property name is returned without decoding and
+ * allocating a new {@link String}. Returned strings have their hash code already computed, which makes
+ * the following lookup of property model cheap. Cache is a fixed size table, which is safely shared between
+ * threads without locking, since strings are immutable and a lost update only causes another decoding.
+ * </p>
+ */
+public class KeyNameCache {
+
+    /**
+     * Longest name kept in the cache.
+     */
+    static final int MAX_NAME_LENGTH = 32;
+
+    private static final int SIZE = 1024;
+
+    private final String[] names = new String[SIZE];
+
+    /**
+     * Returns cached name equal to ASCII bytes in given range or null if such name is not cached.
+     *
+     * @param data  Input bytes.
+     * @param start Start of the name, inclusive.
+     * @param end   End of the name, exclusive.
+     * @return Cached name or null.
+     */
+    String get(byte[] data, int start, int end) {
+        final String name = names[slot(data, start, end)];
+        if (name == null || name.length() != end - start) {
+            return null;
+        }
+        for (int i = start; i < end; i++) {
+            if (name.charAt(i - start) != data[i]) {
+                return null;
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Caches decoded name of ASCII bytes in given range.
+     *
+     * @param data  Input bytes.
+     * @param start Start of the name, inclusive.
+     * @param end   End of the name, exclusive.
+     * @param name  Decoded name.
+     */
+    void put(byte[] data, int start, int end, String name) {
+        name.hashCode();
+        names[slot(data, start, end)] = name;
+    }
+
+    private static int slot(byte[] data, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + data[i];
+        }
+        return (hash ^ (hash >>> 16)) & (SIZE - 1);
+    }
+}
@@ -13,29 +13,104 @@
  ******************************************************************************/
 package org.eclipse.yasson.internal;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Deque;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+import javax.json.bind.JsonbException;
+import javax.json.bind.serializer.JsonbSerializer;
+import javax.json.stream.JsonParser;
+
+import org.eclipse.yasson.MappingFootprint;
 import org.eclipse.yasson.internal.model.ClassModel;
 import org.eclipse.yasson.internal.model.JsonbAnnotatedElement;
 import org.eclipse.yasson.internal.model.customization.ClassCustomization;
+import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.serializer.ContainerSerializerProvider;
+import org.eclipse.yasson.internal.serializer.DeserializerPlan;
+import org.eclipse.yasson.internal.serializer.EnumCodec;
+import org.eclipse.yasson.spi.JsonbClassDescriptor;
 
 /**
  * JSONB mappingContext. Created once per {@link javax.json.bind.Jsonb} instance. Represents a global scope.
  * Holds internal model.
+ * <p>
+ * Class models, serializer providers, enum codecs, root serializers and deserializer plans are held
+ * in a {@link ClassValue}, so they don't keep classes from unloading. Serializers and plans are held by a class
+ * loaded by the most specific class loader of their types. Number of class models may be limited, least recently
+ * used models are then dropped, together with all cached serializers and plans, which may reference them.
+ * Held values must not reference the context, otherwise classes outliving the context, such as classes of the JDK,
+ * would keep it alive through this {@link ClassValue}.
+ * </p>
  *
  * Thread safe.
  */
 public class MappingContext {
+
+    /**
+     * Maximal number of root serializers kept in the cache. When the limit is reached,
+     * serializers for new root types are still built, but not cached.
+     */
+    static final int ROOT_SERIALIZER_CACHE_LIMIT = 2048;
+
+    /**
+     * Maximal number of deserializer plans kept in the cache.
+     */
+    static final int DESERIALIZER_PLAN_CACHE_LIMIT = 4096;
+
+    /**
+     * Average sizes of held objects in bytes, used to estimate footprint.
+     */
+    private static final int ESTIMATED_CLASS_MODEL_SIZE = 512;
+
+    private static final int ESTIMATED_PROPERTY_MODEL_SIZE = 768;
+
+    private static final int ESTIMATED_CACHE_ENTRY_SIZE = 256;
+
     private final JsonbContext jsonbContext;
 
-    private final ConcurrentHashMap<Class<?>, ClassModel> classes = new ConcurrentHashMap<>();
+    private final ClassValue<ClassEntry> classes = new ClassValue<ClassEntry>() {
+        @Override
+        protected ClassEntry computeValue(Class<?> type) {
+            return new ClassEntry();
+        }
+    };
+
+    /**
+     * Entries holding a class model, root serializers or deserializer plans, entries of unloaded classes
+     * are collected.
+     */
+    private final Set<EntryReference> heldEntries = ConcurrentHashMap.newKeySet();
+
+    private final ReferenceQueue<ClassEntry> collectedEntries = new ReferenceQueue<>();
+
+    private final AtomicInteger classModelCount = new AtomicInteger();
+
+    private final AtomicInteger rootSerializerCount = new AtomicInteger();
+
+    private final AtomicInteger deserializerPlanCount = new AtomicInteger();
+
+    private final LongAdder evictedModels = new LongAdder();
+
+    private final ConcurrentHashMap<Class<?>, PendingClassModel> pendingClassModels = new ConcurrentHashMap<>();
+
+    private final LongAdder rootSerializerHits = new LongAdder();
 
-    private final ConcurrentHashMap<Class<?>, ContainerSerializerProvider> serializers = new ConcurrentHashMap<>();
+    private final LongAdder rootSerializerMisses = new LongAdder();
 
     private final ClassParser classParser;
 
@@ -58,7 +133,7 @@ public class MappingContext {
      * @return {@link ClassModel} for given class.
      */
     public ClassModel getOrCreateClassModel(Class<?> clazz) {
-        ClassModel classModel = classes.get(clazz);
+        ClassModel classModel = getClassModel(clazz);
         if (classModel != null) {
             return classModel;
         }
@@ -71,31 +146,66 @@ public class MappingContext {
             newClassModels.push(classToParse);
         }
         if (clazz == Object.class) {
-            return classes.computeIfAbsent(clazz, (c) -> new ClassModel(c, null, null, null));
+            //trivial model, concurrently created models are equal
+            classModel = new ClassModel(clazz, null, null, null);
+            publishClassModel(classes.get(clazz), classModel);
+            return classModel;
         }
 
         ClassModel parentClassModel = null;
         while (!newClassModels.isEmpty()) {
-            Class<?> toParse = newClassModels.pop();
-            parentClassModel = classes
-                    .computeIfAbsent(toParse, createParseClassModelFunction(parentClassModel, classParser, jsonbContext));
-        }
-        return classes.get(clazz);
-    }
-
-    private static Function<Class<?>, ClassModel> createParseClassModelFunction(ClassModel parentClassModel,
-                                                                                ClassParser classParser,
-                                                                                JsonbContext jsonbContext) {
-        return aClass -> {
-            JsonbAnnotatedElement<Class<?>> clsElement = jsonbContext.getAnnotationIntrospector().collectAnnotations(aClass);
-            ClassCustomization customization = jsonbContext.getAnnotationIntrospector().introspectCustomization(clsElement);
-            ClassModel newClassModel = new ClassModel(aClass,
-                                                      customization,
-                                                      parentClassModel,
-                                                      jsonbContext.getConfigProperties().getPropertyNamingStrategy());
-            classParser.parseProperties(newClassModel, clsElement);
+            parentClassModel = getOrParseClassModel(newClassModels.pop(), parentClassModel);
+        }
+        return parentClassModel;
+    }
+
+    /**
+     * Returns model of a class, whose superclasses are already parsed. Model is parsed outside of any lock,
+     * so different classes are parsed in parallel. Threads requesting a class, which is being parsed by another
+     * thread, wait for that class only.
+     */
+    private ClassModel getOrParseClassModel(Class<?> clazz, ClassModel parentClassModel) {
+        final ClassModel classModel = getClassModel(clazz);
+        if (classModel != null) {
+            return classModel;
+        }
+        final PendingClassModel pending = new PendingClassModel();
+        final PendingClassModel parsing = pendingClassModels.putIfAbsent(clazz, pending);
+        if (parsing != null) {
+            return parsing.await(clazz);
+        }
+        try {
+            //model may have been published by another thread, before this one registered as pending
+            ClassModel newClassModel = getClassModel(clazz);
+            if (newClassModel == null) {
+                newClassModel = parseClassModel(clazz, parentClassModel);
+                publishClassModel(classes.get(clazz), newClassModel);
+            }
+            pending.result.complete(newClassModel);
             return newClassModel;
-        };
+        } catch (RuntimeException | Error e) {
+            pending.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingClassModels.remove(clazz, pending);
+        }
+    }
+
+    private ClassModel parseClassModel(Class<?> aClass, ClassModel parentClassModel) {
+        JsonbAnnotatedElement<Class<?>> clsElement = jsonbContext.getAnnotationIntrospector().collectAnnotations(aClass);
+        ClassCustomization customization = jsonbContext.getAnnotationIntrospector().introspectCustomization(clsElement);
+        ClassModel newClassModel = new ClassModel(aClass,
+                                                  customization,
+                                                  parentClassModel,
+                                                  jsonbContext.getConfigProperties().getPropertyNamingStrategy());
+        JsonbClassDescriptor<?> descriptor = jsonbContext.getClassDescriptor(aClass);
+        //descriptors assume default visibility of members
+        if (descriptor != null && customization.getPropertyVisibilityStrategy() == null) {
+            classParser.parseDescriptor(newClassModel, descriptor);
+        } else {
+            classParser.parseProperties(newClassModel, clsElement);
+        }
+        return newClassModel;
     }
 
     /**
@@ -105,7 +215,142 @@ public class MappingContext {
      * @return Model of a class if found.
      */
     public ClassModel getClassModel(Class<?> clazz) {
-        return classes.get(clazz);
+        final ClassEntry entry = classes.get(clazz);
+        final ClassModel classModel = entry.classModel;
+        if (classModel != null && getModelCacheLimit() > 0) {
+            entry.lastAccess = System.nanoTime();
+        }
+        return classModel;
+    }
+
+    private void publishClassModel(ClassEntry entry, ClassModel classModel) {
+        synchronized (entry) {
+            if (entry.classModel == null) {
+                hold(entry).classModel = true;
+                classModelCount.incrementAndGet();
+            }
+            entry.classModel = classModel;
+            entry.lastAccess = System.nanoTime();
+        }
+        expungeCollectedEntries();
+        final int modelCacheLimit = getModelCacheLimit();
+        if (modelCacheLimit > 0 && classModelCount.get() > modelCacheLimit) {
+            evictColdModels(modelCacheLimit);
+        }
+    }
+
+    private int getModelCacheLimit() {
+        return jsonbContext.getConfigProperties().getModelCacheLimit();
+    }
+
+    /**
+     * Registers entry as holding mapping, must be called with entry lock held.
+     */
+    private EntryReference hold(ClassEntry entry) {
+        if (entry.reference == null) {
+            entry.reference = new EntryReference(entry, collectedEntries);
+            heldEntries.add(entry.reference);
+        }
+        return entry.reference;
+    }
+
+    private void expungeCollectedEntries() {
+        Reference<? extends ClassEntry> collected = collectedEntries.poll();
+        while (collected != null) {
+            if (heldEntries.remove(collected)) {
+                final EntryReference reference = (EntryReference) collected;
+                if (reference.classModel) {
+                    classModelCount.decrementAndGet();
+                }
+                rootSerializerCount.addAndGet(-reference.rootSerializers);
+                deserializerPlanCount.addAndGet(-reference.deserializerPlans);
+            }
+            collected = collectedEntries.poll();
+        }
+    }
+
+    /**
+     * Drops least recently used models over the limit, together with a tenth of the limit,
+     * so that models are not sorted on every new class. Cached serializers and plans are dropped too,
+     * since they may reference dropped models.
+     */
+    private synchronized void evictColdModels(int modelCacheLimit) {
+        final List<ClassEntry> entries = new ArrayList<>(heldEntries.size());
+        for (EntryReference reference : heldEntries) {
+            final ClassEntry entry = reference.get();
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        final List<ClassEntry> modelEntries = new ArrayList<>(entries.size());
+        for (ClassEntry entry : entries) {
+            if (entry.classModel != null) {
+                modelEntries.add(entry);
+            }
+        }
+        final int toEvict = modelEntries.size() - modelCacheLimit + modelCacheLimit / 10;
+        if (modelEntries.size() <= modelCacheLimit || toEvict <= 0) {
+            return;
+        }
+        modelEntries.sort(Comparator.comparingLong(entry -> entry.lastAccess));
+        for (ClassEntry entry : modelEntries.subList(0, Math.min(toEvict, modelEntries.size()))) {
+            synchronized (entry) {
+                if (entry.classModel != null) {
+                    entry.classModel = null;
+                    entry.reference.classModel = false;
+                    classModelCount.decrementAndGet();
+                    evictedModels.increment();
+                }
+            }
+        }
+        for (ClassEntry entry : entries) {
+            synchronized (entry) {
+                final EntryReference reference = entry.reference;
+                if (reference == null) {
+                    continue;
+                }
+                entry.rootSerializers = null;
+                entry.deserializerPlans = null;
+                rootSerializerCount.addAndGet(-reference.rootSerializers);
+                deserializerPlanCount.addAndGet(-reference.deserializerPlans);
+                reference.rootSerializers = 0;
+                reference.deserializerPlans = 0;
+                if (!reference.classModel) {
+                    heldEntries.remove(reference);
+                    entry.reference = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reports number of held models and cached items, together with estimate of retained memory.
+     *
+     * @return Current footprint.
+     */
+    public MappingFootprint getFootprint() {
+        expungeCollectedEntries();
+        int classModels = 0;
+        int propertyModels = 0;
+        for (EntryReference reference : heldEntries) {
+            final ClassEntry entry = reference.get();
+            final ClassModel classModel = entry == null ? null : entry.classModel;
+            if (classModel != null) {
+                classModels++;
+                propertyModels += classModel.getProperties().size();
+            }
+        }
+        final int rootSerializers = rootSerializerCount.get();
+        final int deserializerPlans = deserializerPlanCount.get();
+        final long estimatedBytes = (long) classModels * ESTIMATED_CLASS_MODEL_SIZE
+                + (long) propertyModels * ESTIMATED_PROPERTY_MODEL_SIZE
+                + (long) (rootSerializers + deserializerPlans) * ESTIMATED_CACHE_ENTRY_SIZE;
+        return new MappingFootprint(classModels,
+                                    propertyModels,
+                                    rootSerializers,
+                                    deserializerPlans,
+                                    evictedModels.sum(),
+                                    estimatedBytes);
     }
 
     /**
@@ -115,7 +360,7 @@ public class MappingContext {
      * @return Serializer provider.
      */
     public ContainerSerializerProvider getSerializerProvider(Class<?> clazz) {
-        return serializers.get(clazz);
+        return classes.get(clazz).serializerProvider;
     }
 
     /**
@@ -125,6 +370,313 @@ public class MappingContext {
      * @param serializerProvider Serializer provider to add.
      */
     public void addSerializerProvider(Class<?> clazz, ContainerSerializerProvider serializerProvider) {
-        serializers.putIfAbsent(clazz, serializerProvider);
+        final ClassEntry entry = classes.get(clazz);
+        if (entry.serializerProvider == null) {
+            entry.serializerProvider = serializerProvider;
+        }
+    }
+
+    /**
+     * Gets cached root serializer for given root class and runtime type.
+     * Root serializers are immutable and can be shared between marshaller instances.
+     *
+     * @param rootClazz   Class of the root object, not null.
+     * @param runtimeType Runtime type of the root object, may be null.
+     * @return Cached serializer or null if not yet cached.
+     */
+    public JsonbSerializer<?> getRootSerializer(Class<?> rootClazz, Type runtimeType) {
+        final Class<?> owner = ReflectionUtils.findMostSpecificClass(rootClazz, runtimeType);
+        final Map<RootSerializerKey, JsonbSerializer<?>> cache = owner == null ? null : classes.get(owner).rootSerializers;
+        final JsonbSerializer<?> serializer = cache == null ? null : cache.get(new RootSerializerKey(rootClazz, runtimeType));
+        if (serializer == null) {
+            rootSerializerMisses.increment();
+        } else {
+            rootSerializerHits.increment();
+        }
+        return serializer;
+    }
+
+    /**
+     * Caches root serializer for given root class and runtime type.
+     * Serializer is not cached if the cache already reached its size limit, or if the types are loaded
+     * by unrelated class loaders.
+     *
+     * @param rootClazz   Class of the root object, not null.
+     * @param runtimeType Runtime type of the root object, may be null.
+     * @param serializer  Serializer to cache, not null.
+     */
+    public void addRootSerializer(Class<?> rootClazz, Type runtimeType, JsonbSerializer<?> serializer) {
+        Objects.requireNonNull(serializer);
+        final Class<?> owner = ReflectionUtils.findMostSpecificClass(rootClazz, runtimeType);
+        if (owner == null || rootSerializerCount.get() >= ROOT_SERIALIZER_CACHE_LIMIT) {
+            return;
+        }
+        final ClassEntry entry = classes.get(owner);
+        synchronized (entry) {
+            if (entry.rootSerializers == null) {
+                entry.rootSerializers = new ConcurrentHashMap<>();
+            }
+            if (entry.rootSerializers.putIfAbsent(new RootSerializerKey(rootClazz, runtimeType), serializer) == null) {
+                hold(entry).rootSerializers++;
+                rootSerializerCount.incrementAndGet();
+            }
+        }
+        expungeCollectedEntries();
+    }
+
+    /**
+     * Number of root serializer lookups satisfied from the cache.
+     *
+     * @return Count of cache hits.
+     */
+    public long getRootSerializerCacheHits() {
+        return rootSerializerHits.sum();
+    }
+
+    /**
+     * Number of root serializer lookups which had to build a new serializer.
+     *
+     * @return Count of cache misses.
+     */
+    public long getRootSerializerCacheMisses() {
+        return rootSerializerMisses.sum();
+    }
+
+    /**
+     * Number of currently cached root serializers.
+     *
+     * @return Size of root serializer cache.
+     */
+    public int getRootSerializerCacheSize() {
+        expungeCollectedEntries();
+        return rootSerializerCount.get();
+    }
+
+    /**
+     * Gets cached deserializer plan for a resolved type.
+     * Plans are immutable and shared between unmarshaller instances.
+     *
+     * @param type          Resolved deserialized type, not null.
+     * @param customization Customization of deserialized item, may be null.
+     * @param event         JSON event starting deserialized value, not null.
+     * @param wrapperClass  Class of the item wrapping deserialized value, which may own the customization,
+     *                      null if none.
+     * @return Cached plan or null if not yet cached.
+     */
+    public DeserializerPlan getDeserializerPlan(Type type,
+                                                Customization customization,
+                                                JsonParser.Event event,
+                                                Class<?> wrapperClass) {
+        final Class<?> owner = ReflectionUtils.findMostSpecificClass(type, wrapperClass);
+        final Map<DeserializerPlanKey, DeserializerPlan> cache = owner == null ? null : classes.get(owner).deserializerPlans;
+        return cache == null ? null : cache.get(new DeserializerPlanKey(type, customization, event));
+    }
+
+    /**
+     * Caches deserializer plan for a resolved type.
+     * Plan is not cached if the cache already reached its size limit, or if the classes are loaded
+     * by unrelated class loaders.
+     *
+     * @param type          Resolved deserialized type, not null.
+     * @param customization Customization of deserialized item, may be null.
+     * @param event         JSON event starting deserialized value, not null.
+     * @param wrapperClass  Class of the item wrapping deserialized value, which may own the customization,
+     *                      null if none.
+     * @param plan          Plan to cache, not null.
+     */
+    public void addDeserializerPlan(Type type,
+                                    Customization customization,
+                                    JsonParser.Event event,
+                                    Class<?> wrapperClass,
+                                    DeserializerPlan plan) {
+        Objects.requireNonNull(plan);
+        final Class<?> owner = ReflectionUtils.findMostSpecificClass(type, wrapperClass);
+        if (owner == null || deserializerPlanCount.get() >= DESERIALIZER_PLAN_CACHE_LIMIT) {
+            return;
+        }
+        final ClassEntry entry = classes.get(owner);
+        synchronized (entry) {
+            if (entry.deserializerPlans == null) {
+                entry.deserializerPlans = new ConcurrentHashMap<>();
+            }
+            if (entry.deserializerPlans.putIfAbsent(new DeserializerPlanKey(type, customization, event), plan) == null) {
+                hold(entry).deserializerPlans++;
+                deserializerPlanCount.incrementAndGet();
+            }
+        }
+        expungeCollectedEntries();
+    }
+
+    /**
+     * Number of currently cached deserializer plans.
+     *
+     * @return Size of deserializer plan cache.
+     */
+    public int getDeserializerPlanCacheSize() {
+        expungeCollectedEntries();
+        return deserializerPlanCount.get();
+    }
+
+    /**
+     * Gets names of constants of given enum type, creating them on first use.
+     *
+     * @param enumClass Enum type, not null.
+     * @param <E>       Enum type.
+     * @return Codec of the enum type.
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Enum<E>> EnumCodec<E> getEnumCodec(Class<E> enumClass) {
+        final ClassEntry entry = classes.get(enumClass);
+        EnumCodec<?> codec = entry.enumCodec;
+        if (codec == null) {
+            //concurrently created codecs are equal
+            codec = new EnumCodec<>(enumClass);
+            entry.enumCodec = codec;
+        }
+        return (EnumCodec<E>) codec;
+    }
+
+    /**
+     * Mapping of a class held by this context.
+     */
+    private static final class ClassEntry {
+
+        private volatile ClassModel classModel;
+
+        private volatile long lastAccess;
+
+        private volatile ContainerSerializerProvider serializerProvider;
+
+        private volatile EnumCodec<?> enumCodec;
+
+        //created on first use, guarded by this entry
+        private volatile Map<RootSerializerKey, JsonbSerializer<?>> rootSerializers;
+
+        private volatile Map<DeserializerPlanKey, DeserializerPlan> deserializerPlans;
+
+        //guarded by this entry
+        private EntryReference reference;
+    }
+
+    /**
+     * Reference of an entry holding mapping, which doesn't keep the entry and its class from unloading.
+     * Counts of held items are guarded by the entry and are read once the entry is collected.
+     */
+    private static final class EntryReference extends WeakReference<ClassEntry> {
+
+        private boolean classModel;
+
+        private int rootSerializers;
+
+        private int deserializerPlans;
+
+        private EntryReference(ClassEntry entry, ReferenceQueue<ClassEntry> queue) {
+            super(entry, queue);
+        }
+    }
+
+    /**
+     * Class model being parsed by a thread.
+     */
+    private static final class PendingClassModel {
+
+        private final Thread owner = Thread.currentThread();
+
+        private final CompletableFuture<ClassModel> result = new CompletableFuture<>();
+
+        /**
+         * Waits for the model parsed by owner thread. Failure of parsing is rethrown, the class is parsed again
+         * on next request.
+         */
+        private ClassModel await(Class<?> clazz) {
+            if (owner == Thread.currentThread()) {
+                throw new JsonbException("Recursive creation of class model: " + clazz.getName());
+            }
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Key of root serializer cache. Runtime type is null if not provided to marshaller.
+     */
+    private static final class RootSerializerKey {
+
+        private final Class<?> rootClass;
+
+        private final Type runtimeType;
+
+        private final int hashCode;
+
+        private RootSerializerKey(Class<?> rootClass, Type runtimeType) {
+            this.rootClass = Objects.requireNonNull(rootClass);
+            this.runtimeType = runtimeType;
+            this.hashCode = 31 * rootClass.hashCode() + Objects.hashCode(runtimeType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RootSerializerKey that = (RootSerializerKey) o;
+            return rootClass == that.rootClass && Objects.equals(runtimeType, that.runtimeType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Key of deserializer plan cache. Customizations are compared by identity,
+     * since they are bound to class and property models.
+     */
+    private static final class DeserializerPlanKey {
+
+        private final Type type;
+
+        private final Customization customization;
+
+        private final JsonParser.Event event;
+
+        private final int hashCode;
+
+        private DeserializerPlanKey(Type type, Customization customization, JsonParser.Event event) {
+            this.type = Objects.requireNonNull(type);
+            this.customization = customization;
+            this.event = Objects.requireNonNull(event);
+            this.hashCode = 31 * (31 * type.hashCode() + System.identityHashCode(customization)) + event.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DeserializerPlanKey that = (DeserializerPlanKey) o;
+            return customization == that.customization && event == that.event && type.equals(that.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import javax.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.model.ClassModel;
+import org.eclipse.yasson.internal.model.CreatorModel;
+import org.eclipse.yasson.internal.model.JsonbCreator;
+import org.eclipse.yasson.internal.model.PropertyModel;
+import org.eclipse.yasson.internal.model.customization.ComponentBoundCustomization;
+import org.eclipse.yasson.internal.model.customization.Customization;
+import org.eclipse.yasson.internal.serializer.DefaultSerializers;
+import org.eclipse.yasson.internal.serializer.DeserializerBuilder;
+
+/**
+ * Eagerly builds mapping of classes reachable from given types, which is otherwise built on the first
+ * serialization or deserialization of each class.
+ * <p>
+ * For every class which is not a known value or container type, its class model is created together with
+ * property serializers, root serializer and root deserializer plan is cached, and deserializer plans of
+ * object and array properties are cached. Plans are not prepared for interfaces and abstract classes without
+ * a user deserializer or adapter, these are only deserializable with a mapped implementation, which may not exist
+ * when the type is only serialized. Classes are then followed through types of properties and creator
+ * parameters, including type arguments and array components. Each preparation runs on its own instance.
+ * </p>
+ */
+class MappingPreparer {
+
+    private final JsonbContext jsonbContext;
+
+    private final Set<Class<?>> visited = ConcurrentHashMap.newKeySet();
+
+    private final Map<Class<?>, Duration> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Creates preparer of mapping in given context.
+     *
+     * @param jsonbContext context to prepare mapping in
+     */
+    MappingPreparer(JsonbContext jsonbContext) {
+        this.jsonbContext = jsonbContext;
+    }
+
+    /**
+     * Prepares mapping of given types in calling thread.
+     *
+     * @param types types to prepare
+     * @return time spent on each prepared class, in order of preparation
+     */
+    Map<Class<?>, Duration> prepare(Collection<? extends Type> types) {
+        final Deque<Class<?>> pending = new ArrayDeque<>(reachableClasses(types));
+        while (!pending.isEmpty()) {
+            pending.addAll(prepareClass(pending.poll()));
+        }
+        return getTimings();
+    }
+
+    /**
+     * Prepares mapping of given types in parallel on given pool.
+     *
+     * @param types types to prepare
+     * @param pool  pool to prepare classes on
+     * @return time spent on each prepared class, in order of preparation
+     */
+    Map<Class<?>, Duration> prepare(Collection<? extends Type> types, ForkJoinPool pool) {
+        pool.invoke(new PrepareTask(reachableClasses(types)));
+        return getTimings();
+    }
+
+    private Map<Class<?>, Duration> getTimings() {
+        synchronized (timings) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(timings));
+        }
+    }
+
+    /**
+     * Prepares mapping of a class.
+     *
+     * @return classes reachable from the class, which were not visited yet
+     */
+    private List<Class<?>> prepareClass(Class<?> clazz) {
+        final long start = System.nanoTime();
+        final MappingContext mappingContext = jsonbContext.getMappingContext();
+        final ClassModel classModel = mappingContext.getOrCreateClassModel(clazz);
+        new Marshaller(jsonbContext).prepareRootSerializer(clazz);
+        if (isDeserializable(clazz, clazz, null)) {
+            new Unmarshaller(jsonbContext).rootPlan(clazz, JsonParser.Event.START_OBJECT);
+        }
+
+        final List<Type> reachableTypes = new ArrayList<>();
+        for (PropertyModel property : classModel.getSortedProperties()) {
+            reachableTypes.add(property.getPropertySerializationType());
+            reachableTypes.add(property.getPropertyDeserializationType());
+            preparePlan(property.getPropertyDeserializationType(), property.getCustomization());
+        }
+        final JsonbCreator creator = classModel.getClassCustomization().getCreator();
+        if (creator != null) {
+            for (CreatorModel param : creator.getParams()) {
+                reachableTypes.add(param.getType());
+                preparePlan(param.getType(), param.getCustomization());
+            }
+        }
+        timings.put(clazz, Duration.ofNanos(System.nanoTime() - start));
+        return reachableClasses(reachableTypes);
+    }
+
+    /**
+     * Caches deserializer plan of a property, if its type is resolved and its JSON value is an object or array.
+     * Plans of other values depend on the actual JSON value and are cheap to build.
+     */
+    private void preparePlan(Type type, Customization customization) {
+        if (!ReflectionUtils.isResolvedType(type)) {
+            return;
+        }
+        final Class<?> rawType = ReflectionUtils.getRawType(type);
+        final JsonParser.Event event;
+        if (rawType.isArray() || Collection.class.isAssignableFrom(rawType)) {
+            event = JsonParser.Event.START_ARRAY;
+        } else if (Map.class.isAssignableFrom(rawType)) {
+            event = JsonParser.Event.START_OBJECT;
+        } else if (!DefaultSerializers.getInstance().isKnownType(rawType) && isDeserializable(type, rawType, customization)) {
+            event = JsonParser.Event.START_OBJECT;
+        } else {
+            return;
+        }
+        new DeserializerBuilder(jsonbContext)
+                .withType(type)
+                .withCustomization(customization)
+                .withJsonValueType(event)
+                .buildPlan();
+    }
+
+    /**
+     * Checks if an object type is instantiable, or if it has a user deserializer or adapter.
+     */
+    private boolean isDeserializable(Type type, Class<?> rawType, Customization customization) {
+        if (!rawType.isInterface() && !Modifier.isAbstract(rawType.getModifiers())) {
+            return true;
+        }
+        final ComponentBoundCustomization componentCustomization = customization instanceof ComponentBoundCustomization
+                ? (ComponentBoundCustomization) customization
+                : null;
+        final ComponentMatcher componentMatcher = jsonbContext.getComponentMatcher();
+        return componentMatcher.getDeserializerBinding(type, componentCustomization).isPresent()
+                || componentMatcher.getDeserializeAdapterBinding(type, componentCustomization).isPresent();
+    }
+
+    private List<Class<?>> reachableClasses(Collection<? extends Type> types) {
+        final List<Class<?>> classes = new ArrayList<>();
+        for (Type type : types) {
+            collectClasses(type, classes);
+        }
+        return classes;
+    }
+
+    private void collectClasses(Type type, List<Class<?>> classes) {
+        if (type instanceof Class) {
+            final Class<?> clazz = (Class<?>) type;
+            if (clazz.isArray()) {
+                collectClasses(clazz.getComponentType(), classes);
+            } else if (!clazz.isPrimitive()
+                    && !DefaultSerializers.getInstance().isKnownType(clazz)
+                    && visited.add(clazz)) {
+                classes.add(clazz);
+            }
+        } else if (type instanceof ParameterizedType) {
+            collectClasses(((ParameterizedType) type).getRawType(), classes);
+            for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                collectClasses(argument, classes);
+            }
+        } else if (type instanceof GenericArrayType) {
+            collectClasses(((GenericArrayType) type).getGenericComponentType(), classes);
+        }
+    }
+
+    /**
+     * Prepares classes and forks preparation of classes reachable from them.
+     */
+    private final class PrepareTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Class<?>> classes;
+
+        private PrepareTask(List<Class<?>> classes) {
+            this.classes = classes;
+        }
+
+        @Override
+        protected void compute() {
+            //single class is prepared, several classes are forked to prepare each of them
+            final List<Class<?>> next = classes.size() == 1 ? prepareClass(classes.get(0)) : classes;
+            final List<PrepareTask> tasks = new ArrayList<>(next.size());
+            for (Class<?> clazz : next) {
+                tasks.add(new PrepareTask(Collections.singletonList(clazz)));
+            }
+            invokeAll(tasks);
+        }
+    }
+}
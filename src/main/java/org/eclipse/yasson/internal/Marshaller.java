@@ -147,7 +147,26 @@ public class Marshaller extends ProcessingContext implements SerializationContex
         rootSerializer.serialize(root, generator, this);
     }
 
+    /**
+     * Builds and caches serializer of root values of given class, unless it is cached already.
+     *
+     * @param rootClazz Class of root values.
+     */
+    void prepareRootSerializer(Class<?> rootClazz) {
+        getRootSerializer(rootClazz);
+    }
+
     private JsonbSerializer<?> getRootSerializer(Class<?> rootClazz) {
+        final MappingContext mappingContext = getMappingContext();
+        JsonbSerializer<?> rootSerializer = mappingContext.getRootSerializer(rootClazz, runtimeType);
+        if (rootSerializer == null) {
+            rootSerializer = buildRootSerializer(rootClazz);
+            mappingContext.addRootSerializer(rootClazz, runtimeType, rootSerializer);
+        }
+        return rootSerializer;
+    }
+
+    private JsonbSerializer<?> buildRootSerializer(Class<?> rootClazz) {
         final ContainerSerializerProvider serializerProvider = getMappingContext().getSerializerProvider(rootClazz);
         if (serializerProvider != null) {
             return serializerProvider
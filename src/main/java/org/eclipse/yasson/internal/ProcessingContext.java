@@ -13,8 +13,12 @@
  ******************************************************************************/
 package org.eclipse.yasson.internal;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
+
+import javax.json.bind.JsonbException;
+
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
 
 /**
  * Jsonb processing (serializing/deserializing) context.
@@ -22,13 +26,31 @@ import java.util.Set;
  */
 public abstract class ProcessingContext {
 
+    /**
+     * Default maximal nesting of processed objects, when only depth is checked.
+     */
+    static final int DEFAULT_MAX_DEPTH = 1000;
+
+    /**
+     * Depth up to which processed objects are not compared. Shallow object graphs are common and a recursive
+     * reference is still found once nesting exceeds this depth.
+     */
+    private static final int SCAN_THRESHOLD = 16;
+
     private final JsonbContext jsonbContext;
 
+    private final CycleDetectionMode cycleDetectionMode;
+
+    private final int maxDepth;
+
     /**
      * Used to avoid StackOverflowError, when adapted / serialized object
      * contains contains instance of its type inside it or when object has recursive reference.
+     * Objects are compared by identity, so their {@code hashCode()} and {@code equals()} are never called.
      */
-    private final Set<Object> currentlyProcessedObjects = new HashSet<>();
+    private Object[] currentlyProcessedObjects = new Object[SCAN_THRESHOLD];
+
+    private int depth;
 
     /**
      * Parent instance for marshaller and unmarshaller.
@@ -37,6 +59,8 @@ public abstract class ProcessingContext {
      */
     public ProcessingContext(JsonbContext jsonbContext) {
         this.jsonbContext = jsonbContext;
+        this.cycleDetectionMode = jsonbContext.getConfigProperties().getCycleDetectionMode();
+        this.maxDepth = jsonbContext.getConfigProperties().getMaxDepth();
     }
 
     /**
@@ -58,23 +82,48 @@ public abstract class ProcessingContext {
     }
 
     /**
-     * Adds currently processed object to the {@link Set}.
+     * Adds currently processed object to the stack of processed objects.
+     * Object is not added if it is already being processed deeper than directly by the caller.
+     * Exceeding maximal depth fails with {@link JsonbException}, as it is not a recursive reference.
      *
      * @param object processed object
      * @return if object was added
      */
     public boolean addProcessedObject(Object object) {
-        return this.currentlyProcessedObjects.add(object);
+        if (cycleDetectionMode == CycleDetectionMode.OFF) {
+            return true;
+        }
+        if (depth >= maxDepth) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.MAX_DEPTH_EXCEEDED,
+                                                         String.valueOf(maxDepth), object.getClass()));
+        }
+        if (cycleDetectionMode == CycleDetectionMode.IDENTITY && depth > SCAN_THRESHOLD) {
+            //object directly on top may be wrapped by adapter or user serializer
+            for (int i = depth - 2; i >= 0; i--) {
+                if (currentlyProcessedObjects[i] == object) {
+                    return false;
+                }
+            }
+        }
+        if (depth == currentlyProcessedObjects.length) {
+            currentlyProcessedObjects = Arrays.copyOf(currentlyProcessedObjects, depth * 2);
+        }
+        currentlyProcessedObjects[depth++] = object;
+        return true;
     }
 
     /**
-     * Removes processed object from the {@link Set}.
+     * Removes processed object from the top of the stack of processed objects.
      *
      * @param object processed object
      * @return if object was removed
      */
     public boolean removeProcessedObject(Object object) {
-        return currentlyProcessedObjects.remove(object);
+        if (depth == 0 || currentlyProcessedObjects[depth - 1] != object) {
+            return false;
+        }
+        currentlyProcessedObjects[--depth] = null;
+        return true;
     }
 
 }
@@ -13,7 +13,9 @@
 package org.eclipse.yasson.internal;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.GenericDeclaration;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -22,7 +24,9 @@ import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -266,7 +270,7 @@ public class ReflectionUtils {
     public static ParameterizedType findParameterizedType(Class<?> classToSearch, Class<?> parameterizedInterface) {
         Class current = classToSearch;
         while (current != Object.class) {
-            for (Type currentInterface : current.getGenericInterfaces()) {
+            for (Type currentInterface : SharedMetadata.getGenericInterfaces(current)) {
                 if (currentInterface instanceof ParameterizedType
                         && parameterizedInterface.isAssignableFrom(
                         ReflectionUtils.getRawType(((ParameterizedType) currentInterface).getRawType()))) {
@@ -297,6 +301,70 @@ public class ReflectionUtils {
         return type instanceof Class<?>;
     }
 
+    /**
+     * Finds a class of given types, whose class loader sees all classes the types consist of. Values held by
+     * such class, e.g. in a {@link ClassValue}, don't prevent other class loaders of the types from unloading.
+     *
+     * @param types Types to search, null types are skipped.
+     * @return Class loaded by the most specific class loader, null if there is no class in the types,
+     * or if the classes are loaded by unrelated class loaders.
+     */
+    public static Class<?> findMostSpecificClass(Type... types) {
+        final Deque<Type> toScan = new ArrayDeque<>();
+        for (Type type : types) {
+            if (type != null) {
+                toScan.push(type);
+            }
+        }
+        Class<?> result = null;
+        while (!toScan.isEmpty()) {
+            final Type type = toScan.pop();
+            if (type instanceof Class) {
+                Class<?> clazz = (Class<?>) type;
+                while (clazz.isArray()) {
+                    clazz = clazz.getComponentType();
+                }
+                if (result == null || isAncestorLoader(result.getClassLoader(), clazz.getClassLoader())) {
+                    result = clazz;
+                } else if (!isAncestorLoader(clazz.getClassLoader(), result.getClassLoader())) {
+                    return null;
+                }
+            } else if (type instanceof ParameterizedType) {
+                final ParameterizedType parameterizedType = (ParameterizedType) type;
+                toScan.push(parameterizedType.getRawType());
+                if (parameterizedType.getOwnerType() != null) {
+                    toScan.push(parameterizedType.getOwnerType());
+                }
+                toScan.addAll(Arrays.asList(parameterizedType.getActualTypeArguments()));
+            } else if (type instanceof GenericArrayType) {
+                toScan.push(((GenericArrayType) type).getGenericComponentType());
+            } else if (type instanceof WildcardType) {
+                toScan.addAll(Arrays.asList(((WildcardType) type).getUpperBounds()));
+                toScan.addAll(Arrays.asList(((WildcardType) type).getLowerBounds()));
+            } else if (type instanceof TypeVariable) {
+                //bounds may be recursive, declaration sees all of them
+                final GenericDeclaration declaration = ((TypeVariable<?>) type).getGenericDeclaration();
+                toScan.push(declaration instanceof Executable
+                                    ? ((Executable) declaration).getDeclaringClass()
+                                    : (Class<?>) declaration);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isAncestorLoader(ClassLoader ancestor, ClassLoader loader) {
+        if (ancestor == null) {
+            //bootstrap class loader
+            return true;
+        }
+        for (ClassLoader current = loader; current != null; current = current.getParent()) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static ParameterizedType findParameterizedSuperclass(Type type) {
         if (type == null || type instanceof ParameterizedType) {
             return (ParameterizedType) type;
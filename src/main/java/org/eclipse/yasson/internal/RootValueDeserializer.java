@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import java.lang.reflect.Type;
+
+import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+import org.eclipse.yasson.internal.serializer.DeserializerPlan;
+
+/**
+ * Deserializes a sequence of root values of the same type with one {@link Unmarshaller}.
+ * Deserializer plan is resolved once and reused while values start with the same parser event.
+ */
+class RootValueDeserializer {
+
+    private final Unmarshaller unmarshaller;
+
+    private final Type type;
+
+    private DeserializerPlan plan;
+
+    private JsonParser.Event planEvent;
+
+    /**
+     * Creates new root value deserializer.
+     *
+     * @param jsonbContext Current context.
+     * @param type         Type of values.
+     */
+    RootValueDeserializer(JsonbContext jsonbContext, Type type) {
+        this.unmarshaller = new Unmarshaller(jsonbContext);
+        this.type = type;
+    }
+
+    /**
+     * Deserializes value which first event was already read from the parser.
+     *
+     * @param parser Parser positioned at the first event of the value.
+     * @param event  First event of the value.
+     * @return Deserialized value.
+     */
+    Object deserialize(JsonbRiParser parser, JsonParser.Event event) {
+        if (event == JsonParser.Event.VALUE_NULL) {
+            return null;
+        }
+        try {
+            if (plan == null || planEvent != event) {
+                plan = unmarshaller.rootPlan(type, event);
+                planEvent = event;
+            }
+            return plan.newDeserializer(unmarshaller.getJsonbContext(), null).deserialize(parser, unmarshaller, type);
+        } catch (JsonbException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.INTERNAL_ERROR, e.getMessage()), e);
+        }
+    }
+}
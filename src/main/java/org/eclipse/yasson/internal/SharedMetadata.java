@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import javax.json.spi.JsonProvider;
+
+import org.eclipse.yasson.internal.model.JsonbAnnotatedElement;
+import org.eclipse.yasson.spi.JsonbClassDescriptor;
+
+/**
+ * Metadata shared by all Jsonb instances, which doesn't depend on their configuration.
+ * <p>
+ * Declared members, interfaces, generic interfaces and collected annotations of a class are held in a {@link ClassValue},
+ * so they are read by reflection once per class and are released together with the class. Returned arrays and annotated
+ * elements are shared and must not be modified.
+ * JSON-P provider and class descriptors are cached per context class loader, they are only weakly referenced,
+ * so they are reused while a Jsonb instance using them is alive.
+ * </p>
+ * <p>
+ * Shared fields, methods and constructors are made accessible by any Jsonb instance, which maps them.
+ * It is safe to share the accessible flag. Visibility of a member is decided by each instance from its modifiers and
+ * the configured visibility strategy, never from the flag, so the flag only skips access checks of members an instance
+ * has already decided to use.
+ * </p>
+ */
+final class SharedMetadata {
+
+    private static final ClassValue<ClassMembers> MEMBERS = new ClassValue<ClassMembers>() {
+        @Override
+        protected ClassMembers computeValue(Class<?> type) {
+            return new ClassMembers(type);
+        }
+    };
+
+    private static final Map<ClassLoader, WeakReference<JsonProvider>> JSON_PROVIDERS = new WeakHashMap<>();
+
+    private static final Map<ClassLoader, WeakReference<Map<Class<?>, JsonbClassDescriptor<?>>>> CLASS_DESCRIPTORS =
+            new WeakHashMap<>();
+
+    private SharedMetadata() {
+        throw new IllegalStateException("Utility classes should not be instantiated.");
+    }
+
+    /**
+     * Fields declared by a class.
+     *
+     * @param clazz class to get fields of
+     * @return shared array of declared fields
+     */
+    static Field[] getDeclaredFields(Class<?> clazz) {
+        return MEMBERS.get(clazz).getFields();
+    }
+
+    /**
+     * Methods declared by a class.
+     *
+     * @param clazz class to get methods of
+     * @return shared array of declared methods
+     */
+    static Method[] getDeclaredMethods(Class<?> clazz) {
+        return MEMBERS.get(clazz).getMethods();
+    }
+
+    /**
+     * Constructors declared by a class.
+     *
+     * @param clazz class to get constructors of
+     * @return shared array of declared constructors
+     */
+    static Constructor<?>[] getDeclaredConstructors(Class<?> clazz) {
+        return MEMBERS.get(clazz).getConstructors();
+    }
+
+    /**
+     * Interfaces implemented by a class directly or by its interfaces, in breadth first order.
+     *
+     * @param clazz class to get interfaces of
+     * @return unmodifiable set of interfaces
+     */
+    static Set<Class<?>> getInterfaces(Class<?> clazz) {
+        return MEMBERS.get(clazz).getInterfaces();
+    }
+
+    /**
+     * Generic interfaces directly implemented by a class.
+     *
+     * @param clazz class to get generic interfaces of
+     * @return shared array of generic interfaces
+     */
+    static Type[] getGenericInterfaces(Class<?> clazz) {
+        return MEMBERS.get(clazz).getGenericInterfaces();
+    }
+
+    /**
+     * Annotations of a class, its interfaces and its package.
+     *
+     * @param clazz class to get annotations of
+     * @return shared element with collected annotations
+     */
+    static JsonbAnnotatedElement<Class<?>> getCollectedAnnotations(Class<?> clazz) {
+        return MEMBERS.get(clazz).getCollectedAnnotations();
+    }
+
+    /**
+     * JSON-P provider of context class loader of current thread.
+     *
+     * @return shared provider
+     */
+    static JsonProvider getJsonProvider() {
+        return getForContextClassLoader(JSON_PROVIDERS, JsonProvider::provider);
+    }
+
+    /**
+     * Class descriptors provided by services of context class loader of current thread.
+     *
+     * @param loader loads descriptors if they are not loaded yet
+     * @return shared descriptors by their classes
+     */
+    static Map<Class<?>, JsonbClassDescriptor<?>> getClassDescriptors(Supplier<Map<Class<?>, JsonbClassDescriptor<?>>> loader) {
+        return getForContextClassLoader(CLASS_DESCRIPTORS, loader);
+    }
+
+    private static <T> T getForContextClassLoader(Map<ClassLoader, WeakReference<T>> cache, Supplier<T> loader) {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        synchronized (cache) {
+            final WeakReference<T> cached = cache.get(classLoader);
+            final T value = cached == null ? null : cached.get();
+            if (value != null) {
+                return value;
+            }
+        }
+        //loaded outside of the lock, concurrent loading is harmless
+        final T value = loader.get();
+        synchronized (cache) {
+            cache.put(classLoader, new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    /**
+     * Lazily read members of a class.
+     */
+    private static final class ClassMembers {
+
+        private final Class<?> type;
+
+        private volatile Field[] fields;
+
+        private volatile Method[] methods;
+
+        private volatile Constructor<?>[] constructors;
+
+        private volatile Set<Class<?>> interfaces;
+
+        private volatile Type[] genericInterfaces;
+
+        private volatile JsonbAnnotatedElement<Class<?>> collectedAnnotations;
+
+        private ClassMembers(Class<?> type) {
+            this.type = type;
+        }
+
+        private Field[] getFields() {
+            Field[] result = fields;
+            if (result == null) {
+                result = AccessController.doPrivileged((PrivilegedAction<Field[]>) type::getDeclaredFields);
+                fields = result;
+            }
+            return result;
+        }
+
+        private Method[] getMethods() {
+            Method[] result = methods;
+            if (result == null) {
+                result = AccessController.doPrivileged((PrivilegedAction<Method[]>) type::getDeclaredMethods);
+                methods = result;
+            }
+            return result;
+        }
+
+        private Constructor<?>[] getConstructors() {
+            Constructor<?>[] result = constructors;
+            if (result == null) {
+                result = AccessController.doPrivileged((PrivilegedAction<Constructor<?>[]>) type::getDeclaredConstructors);
+                constructors = result;
+            }
+            return result;
+        }
+
+        private Set<Class<?>> getInterfaces() {
+            Set<Class<?>> result = interfaces;
+            if (result == null) {
+                final Set<Class<?>> collected = new LinkedHashSet<>();
+                final Deque<Class<?>> toScan = new ArrayDeque<>(Arrays.asList(type.getInterfaces()));
+                while (!toScan.isEmpty()) {
+                    final Class<?> nextIfc = toScan.poll();
+                    collected.add(nextIfc);
+                    toScan.addAll(Arrays.asList(nextIfc.getInterfaces()));
+                }
+                result = Collections.unmodifiableSet(collected);
+                interfaces = result;
+            }
+            return result;
+        }
+
+        private Type[] getGenericInterfaces() {
+            Type[] result = genericInterfaces;
+            if (result == null) {
+                result = type.getGenericInterfaces();
+                genericInterfaces = result;
+            }
+            return result;
+        }
+
+        private JsonbAnnotatedElement<Class<?>> getCollectedAnnotations() {
+            JsonbAnnotatedElement<Class<?>> result = collectedAnnotations;
+            if (result == null) {
+                result = new JsonbAnnotatedElement<>(type);
+                for (Class<?> ifc : getInterfaces()) {
+                    addIfNotPresent(result, ifc.getDeclaredAnnotations());
+                }
+                if (!type.isPrimitive() && !type.isArray() && (type.getPackage() != null)) {
+                    addIfNotPresent(result, type.getPackage().getAnnotations());
+                }
+                collectedAnnotations = result;
+            }
+            return result;
+        }
+
+        private static void addIfNotPresent(JsonbAnnotatedElement<?> element, Annotation... annotations) {
+            for (Annotation annotation : annotations) {
+                if (element.getAnnotation(annotation.annotationType()) == null) {
+                    element.putAnnotation(annotation);
+                }
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
 import org.eclipse.yasson.internal.serializer.DefaultSerializers;
 import org.eclipse.yasson.internal.serializer.DeserializerBuilder;
+import org.eclipse.yasson.internal.serializer.DeserializerPlan;
 
 /**
  * JSONB unmarshaller.
@@ -55,15 +56,7 @@ public class Unmarshaller extends ProcessingContext implements DeserializationCo
     @SuppressWarnings("unchecked")
     private <T> T deserializeItem(Type type, JsonParser parser) {
         try {
-            DeserializerBuilder deserializerBuilder = new DeserializerBuilder(getJsonbContext())
-                    .withType(type).withJsonValueType(getRootEvent(parser));
-            Class<?> rawType = ReflectionUtils.getRawType(type);
-            if (!DefaultSerializers.getInstance().isKnownType(rawType)) {
-                ClassModel classModel = getMappingContext().getOrCreateClassModel(rawType);
-                deserializerBuilder.withCustomization(classModel.getClassCustomization());
-            }
-
-            return (T) deserializerBuilder.build().deserialize(parser, this, type);
+            return (T) rootPlan(type, getRootEvent(parser)).newDeserializer(getJsonbContext(), null).deserialize(parser, this, type);
         } catch (JsonbException e) {
             LOGGER.severe(e.getMessage());
             throw e;
@@ -73,6 +66,24 @@ public class Unmarshaller extends ProcessingContext implements DeserializationCo
         }
     }
 
+    /**
+     * Resolves deserializer plan of a root value.
+     *
+     * @param type  Type of the root value.
+     * @param event First parser event of the root value.
+     * @return Deserializer plan.
+     */
+    DeserializerPlan rootPlan(Type type, JsonParser.Event event) {
+        DeserializerBuilder deserializerBuilder = new DeserializerBuilder(getJsonbContext())
+                .withType(type).withJsonValueType(event);
+        Class<?> rawType = ReflectionUtils.getRawType(type);
+        if (!DefaultSerializers.getInstance().isKnownType(rawType)) {
+            ClassModel classModel = getMappingContext().getOrCreateClassModel(rawType);
+            deserializerBuilder.withCustomization(classModel.getClassCustomization());
+        }
+        return deserializerBuilder.buildPlan();
+    }
+
     /**
      * Get root value event, either for new deserialization process, or deserialization sub-process invoked from
      * custom user deserializer.
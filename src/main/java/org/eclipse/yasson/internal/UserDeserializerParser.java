@@ -147,6 +147,21 @@ public class UserDeserializerParser implements JsonbParser {
         jsonbParser.skipJsonStructure();
     }
 
+    @Override
+    public long getLongValueExact() {
+        return jsonbParser.getLongValueExact();
+    }
+
+    @Override
+    public double getDoubleValue() {
+        return jsonbParser.getDoubleValue();
+    }
+
+    @Override
+    public float getFloatValue() {
+        return jsonbParser.getFloatValue();
+    }
+
     @Override
     public JsonObject getObject() {
         return jsonbParser.getObject();
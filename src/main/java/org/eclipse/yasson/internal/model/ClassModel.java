@@ -49,6 +49,11 @@ public class ClassModel {
      */
     private PropertyModel[] sortedProperties;
 
+    /**
+     * Index of properties by JSON read name. Used for deserialization.
+     */
+    private PropertyNameIndex readNameIndex;
+
     private final PropertyNamingStrategy propertyNamingStrategy;
 
     /**
@@ -89,37 +94,7 @@ public class ClassModel {
      */
     public PropertyModel findPropertyModelByJsonReadName(String jsonReadName) {
         Objects.requireNonNull(jsonReadName);
-        return searchProperty(this, jsonReadName);
-    }
-
-    private PropertyModel searchProperty(ClassModel classModel, String jsonReadName) {
-        //Standard javabean properties without overridden name (most of the cases)
-        final PropertyModel result = classModel.getPropertyModel(jsonReadName);
-        if (result != null && result.getPropertyName().equals(result.getReadName())) {
-            return result;
-        }
-        //Search for overridden name on setter with @JsonbProperty annotation
-        for (PropertyModel propertyModel : properties.values()) {
-            if (equalsReadName(jsonReadName, propertyModel)) {
-                return propertyModel;
-            }
-        }
-        //property not found
-        return null;
-    }
-
-    /**
-     * Check if name is equal according to property strategy. In case of {@link CaseInsensitiveStrategy} ignore case.
-     * User can provide own strategy implementation, cast to custom interface is not an option.
-     *
-     * @return True if names are equal.
-     */
-    private boolean equalsReadName(String jsonName, PropertyModel propertyModel) {
-        final String propertyReadName = propertyModel.getReadName();
-        if (propertyNamingStrategy == StrategiesProvider.CASE_INSENSITIVE_STRATEGY) {
-            return jsonName.equalsIgnoreCase(propertyReadName);
-        }
-        return jsonName.equals(propertyReadName);
+        return readNameIndex.get(jsonReadName);
     }
 
     /**
@@ -166,6 +141,8 @@ public class ClassModel {
     public void setProperties(List<PropertyModel> parsedProperties) {
         sortedProperties = parsedProperties.toArray(new PropertyModel[] {});
         this.properties = parsedProperties.stream().collect(Collectors.toMap(PropertyModel::getPropertyName, (mod) -> mod));
+        this.readNameIndex = new PropertyNameIndex(sortedProperties,
+                                                   propertyNamingStrategy == StrategiesProvider.CASE_INSENSITIVE_STRATEGY);
     }
 
     /**
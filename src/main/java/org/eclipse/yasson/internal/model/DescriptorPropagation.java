@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.model;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javax.json.bind.JsonbException;
+
+import org.eclipse.yasson.spi.JsonbClassDescriptor;
+
+/**
+ * Propagation of a property described by {@link JsonbClassDescriptor}, which calls its accessors directly.
+ * A described accessor may be replaced by a reflective one for any mode, in that case the member is accessed
+ * in the same way as by {@link ReflectionPropagation}.
+ */
+class DescriptorPropagation extends PropertyValuePropagation {
+
+    private GetValueCommand getValueCommand;
+
+    private SetValueCommand setValueCommand;
+
+    /**
+     * Creates propagation of a described property.
+     *
+     * @param property described property
+     */
+    @SuppressWarnings("unchecked")
+    DescriptorPropagation(JsonbClassDescriptor.Property<?> property) {
+        super(property.getGetter() != null, property.getSetter() != null);
+        final Function<Object, ?> getter = (Function<Object, ?>) property.getGetter();
+        final BiConsumer<Object, Object> setter = (BiConsumer<Object, Object>) property.getSetter();
+        if (getter != null) {
+            this.getValueCommand = getter::apply;
+        }
+        if (setter != null) {
+            this.setValueCommand = setter::accept;
+        }
+    }
+
+    @Override
+    protected void acceptMethod(Method method, OperationMode mode) {
+        Objects.requireNonNull(method);
+
+        switch (mode) {
+        case GET:
+            getValueCommand = method::invoke;
+            break;
+        case SET:
+            setValueCommand = method::invoke;
+            break;
+        default:
+            throw new IllegalStateException("Unknown mode");
+        }
+    }
+
+    @Override
+    protected void acceptField(Field field, OperationMode mode) {
+        Objects.requireNonNull(field);
+
+        switch (mode) {
+        case GET:
+            getValueCommand = field::get;
+            break;
+        case SET:
+            setValueCommand = field::set;
+            break;
+        default:
+            throw new IllegalStateException("Unknown mode");
+        }
+    }
+
+    @Override
+    void setValue(Object object, Object value) {
+        Objects.requireNonNull(object);
+
+        try {
+            setValueCommand.setValue(object, value);
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            throw new JsonbException("Error getting value on: " + object, e);
+        }
+    }
+
+    @Override
+    Object getValue(Object object) {
+        Objects.requireNonNull(object);
+
+        try {
+            return getValueCommand.getValue(object);
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            throw new JsonbException("Error getting value on: " + object, e);
+        }
+    }
+}
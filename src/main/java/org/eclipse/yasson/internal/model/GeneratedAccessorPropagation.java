@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.model;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+import javax.json.bind.JsonbException;
+import javax.json.bind.config.PropertyVisibilityStrategy;
+
+/**
+ * Property value propagation by accessor classes generated when class model is built.
+ * <p>
+ * Getters and setters are linked by {@link LambdaMetafactory}, which spins a small class calling the accessor
+ * directly, including primitive boxing and unboxing. Fields, and methods not linkable from Yasson, are accessed
+ * by direct method handles. Members which can't be accessed by method handles use reflection.
+ * </p>
+ */
+class GeneratedAccessorPropagation extends PropertyValuePropagation {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private GetValueCommand getValueCommand;
+
+    private SetValueCommand setValueCommand;
+
+    /**
+     * Creates new instance of generated accessor propagation.
+     *
+     * @param property target property
+     * @param strategy visibility strategy
+     */
+    GeneratedAccessorPropagation(Property property, PropertyVisibilityStrategy strategy) {
+        super(property, strategy);
+    }
+
+    @Override
+    protected void acceptMethod(Method method, OperationMode mode) {
+        Objects.requireNonNull(method);
+
+        switch (mode) {
+        case GET:
+            getValueCommand = createGetter(method);
+            break;
+        case SET:
+            setValueCommand = createSetter(method);
+            break;
+        default:
+            throw new IllegalStateException("Unknown mode");
+        }
+    }
+
+    @Override
+    protected void acceptField(Field field, OperationMode mode) {
+        Objects.requireNonNull(field);
+
+        try {
+            switch (mode) {
+            case GET:
+                getValueCommand = handleGetter(LOOKUP.unreflectGetter(field));
+                break;
+            case SET:
+                setValueCommand = nullSafeSetter(field.getType(), handleSetter(LOOKUP.unreflectSetter(field)), field::set);
+                break;
+            default:
+                throw new IllegalStateException("Unknown mode");
+            }
+        } catch (IllegalAccessException e) {
+            switch (mode) {
+            case GET:
+                getValueCommand = field::get;
+                break;
+            default:
+                setValueCommand = field::set;
+                break;
+            }
+        }
+    }
+
+    private static GetValueCommand createGetter(Method method) {
+        final MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            return method::invoke;
+        }
+        try {
+            MethodType instantiatedType = MethodType.methodType(boxed(method.getReturnType()), method.getDeclaringClass());
+            return (GetValueCommand) LambdaMetafactory.metafactory(LOOKUP,
+                                                                    "getValue",
+                                                                    MethodType.methodType(GetValueCommand.class),
+                                                                    GETTER_TYPE,
+                                                                    handle,
+                                                                    instantiatedType)
+                    .getTarget().invoke();
+        } catch (Throwable e) {
+            //not linkable from generated class, use the handle directly
+            return handleGetter(handle);
+        }
+    }
+
+    private static SetValueCommand createSetter(Method method) {
+        final Class<?> parameterType = method.getParameterTypes()[0];
+        final MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            return method::invoke;
+        }
+        SetValueCommand setter;
+        try {
+            MethodType instantiatedType = MethodType.methodType(void.class, method.getDeclaringClass(), boxed(parameterType));
+            setter = (SetValueCommand) LambdaMetafactory.metafactory(LOOKUP,
+                                                                     "setValue",
+                                                                     MethodType.methodType(SetValueCommand.class),
+                                                                     SETTER_TYPE,
+                                                                     handle,
+                                                                     instantiatedType)
+                    .getTarget().invoke();
+        } catch (Throwable e) {
+            //not linkable from generated class, use the handle directly
+            setter = handleSetter(handle);
+        }
+        return nullSafeSetter(parameterType, setter, method::invoke);
+    }
+
+    private static GetValueCommand handleGetter(MethodHandle handle) {
+        final MethodHandle getter = handle.asType(GETTER_TYPE);
+        return object -> {
+            try {
+                return getter.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        };
+    }
+
+    private static SetValueCommand handleSetter(MethodHandle handle) {
+        final MethodHandle setter = handle.asType(SETTER_TYPE);
+        return (object, value) -> {
+            try {
+                setter.invokeExact(object, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        };
+    }
+
+    /**
+     * Null can't be unboxed into a primitive, let reflection report it the same way as with reflection strategy.
+     */
+    private static SetValueCommand nullSafeSetter(Class<?> valueType, SetValueCommand setter, SetValueCommand reflective) {
+        if (!valueType.isPrimitive()) {
+            return setter;
+        }
+        return (object, value) -> {
+            if (value == null) {
+                reflective.setValue(object, null);
+            } else {
+                setter.setValue(object, value);
+            }
+        };
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    /**
+     * Sets a value with generated accessor of a {@link java.lang.reflect.Field field}
+     * or {@link java.lang.reflect.Method setter}.
+     *
+     * @param object object to invoke set value on, not null.
+     * @param value  object to be set, nullable.
+     * @throws JsonbException if accessor fails.
+     */
+    @Override
+    void setValue(Object object, Object value) {
+        Objects.requireNonNull(object);
+
+        try {
+            setValueCommand.setValue(object, value);
+        } catch (Exception e) {
+            //generated accessors propagate exceptions of the accessor itself
+            throw new JsonbException("Error getting value on: " + object, e);
+        }
+    }
+
+    /**
+     * Get a value with generated accessor of a {@link java.lang.reflect.Field field}
+     * or {@link java.lang.reflect.Method getter}.
+     *
+     * @param object object to invoke get value on, not null.
+     * @return value
+     * @throws JsonbException if accessor fails.
+     */
+    @Override
+    Object getValue(Object object) {
+        Objects.requireNonNull(object);
+
+        try {
+            return getValueCommand.getValue(object);
+        } catch (Exception e) {
+            //generated accessors propagate exceptions of the accessor itself
+            throw new JsonbException("Error getting value on: " + object, e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.model;
+
+import java.util.Locale;
+
+import javax.json.bind.config.PropertyVisibilityStrategy;
+
+/**
+ * Strategy of reading and writing property values, configured by
+ * {@link org.eclipse.yasson.YassonProperties#PROPERTY_ACCESSOR_STRATEGY}.
+ */
+public enum PropertyAccessorStrategy {
+
+    /**
+     * Properties are accessed with {@link java.lang.reflect.Method#invoke(Object, Object...)} and
+     * {@link java.lang.reflect.Field} get / set.
+     */
+    REFLECTION {
+        @Override
+        PropertyValuePropagation createPropagation(Property property, PropertyVisibilityStrategy visibilityStrategy) {
+            return new ReflectionPropagation(property, visibilityStrategy);
+        }
+    },
+
+    /**
+     * Properties are accessed with accessor classes generated when class model is built.
+     * Falls back to reflection for members which can't be accessed by generated accessors.
+     */
+    GENERATED {
+        @Override
+        PropertyValuePropagation createPropagation(Property property, PropertyVisibilityStrategy visibilityStrategy) {
+            return new GeneratedAccessorPropagation(property, visibilityStrategy);
+        }
+    };
+
+    /**
+     * Creates value propagation of a property.
+     *
+     * @param property           Property to access.
+     * @param visibilityStrategy Visibility strategy of declaring class, may be null.
+     * @return Value propagation.
+     */
+    abstract PropertyValuePropagation createPropagation(Property property, PropertyVisibilityStrategy visibilityStrategy);
+
+    /**
+     * Finds strategy by its case insensitive name.
+     *
+     * @param name Name of the strategy.
+     * @return Strategy or null if there is no strategy of given name.
+     */
+    public static PropertyAccessorStrategy forName(String name) {
+        for (PropertyAccessorStrategy strategy : values()) {
+            if (strategy.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return strategy;
+            }
+        }
+        return null;
+    }
+}
@@ -22,10 +22,13 @@ import javax.json.bind.config.PropertyNamingStrategy;
 import javax.json.bind.serializer.JsonbSerializer;
 
 import org.eclipse.yasson.internal.AnnotationIntrospector;
+import org.eclipse.yasson.internal.ComponentMatcher;
 import org.eclipse.yasson.internal.JsonbContext;
+import org.eclipse.yasson.internal.JsonbUtf8Generator;
 import org.eclipse.yasson.internal.ReflectionUtils;
 import org.eclipse.yasson.internal.components.AdapterBinding;
 import org.eclipse.yasson.internal.components.SerializerBinding;
+import org.eclipse.yasson.internal.model.customization.ClassCustomization;
 import org.eclipse.yasson.internal.model.customization.PropertyCustomization;
 import org.eclipse.yasson.internal.model.customization.PropertyCustomizationBuilder;
 import org.eclipse.yasson.internal.serializer.AdaptedObjectSerializer;
@@ -34,6 +37,7 @@ import org.eclipse.yasson.internal.serializer.JsonbDateFormatter;
 import org.eclipse.yasson.internal.serializer.JsonbNumberFormatter;
 import org.eclipse.yasson.internal.serializer.SerializerProviderWrapper;
 import org.eclipse.yasson.internal.serializer.UserSerializerSerializer;
+import org.eclipse.yasson.spi.JsonbClassDescriptor;
 
 /**
  * A model for class property.
@@ -56,6 +60,11 @@ public class PropertyModel implements Comparable<PropertyModel> {
      */
     private final String writeName;
 
+    /**
+     * Write name encoded for {@link JsonbUtf8Generator}.
+     */
+    private final byte[] encodedWriteName;
+
     /**
      * Field propertyType.
      */
@@ -73,6 +82,8 @@ public class PropertyModel implements Comparable<PropertyModel> {
      */
     private final PropertyCustomization customization;
 
+    private final PropertyAccessorStrategy accessorStrategy;
+
     private final PropertyValuePropagation propagation;
 
     private final JsonbSerializer<?> propertySerializer;
@@ -97,6 +108,7 @@ public class PropertyModel implements Comparable<PropertyModel> {
         this.propertyName = a.propertyName;
         this.readName = a.readName;
         this.writeName = a.writeName;
+        this.encodedWriteName = a.encodedWriteName;
         this.propertyType = a.propertyType;
         this.customization = a.customization;
         
@@ -113,7 +125,8 @@ public class PropertyModel implements Comparable<PropertyModel> {
         if (b.property.getSetter() != null) {
             this.property.setSetter(b.property.getSetter());
         }
-        this.propagation = new ReflectionPropagation(property,
+        this.accessorStrategy = a.accessorStrategy;
+        this.propagation = accessorStrategy.createPropagation(property,
                 classModel.getClassCustomization().getPropertyVisibilityStrategy());
         this.propertySerializer = resolveCachedSerializer();
     }
@@ -130,8 +143,9 @@ public class PropertyModel implements Comparable<PropertyModel> {
         this.property = property;
         this.propertyName = property.getName();
         this.propertyType = property.getPropertyType();
-        this.propagation = new ReflectionPropagation(property,
-                                                     classModel.getClassCustomization().getPropertyVisibilityStrategy());
+        this.accessorStrategy = jsonbContext.getConfigProperties().getPropertyAccessorStrategy();
+        this.propagation = accessorStrategy.createPropagation(property,
+                                                              classModel.getClassCustomization().getPropertyVisibilityStrategy());
         this.getterMethodType = propagation.isGetterVisible() ? property.getGetterType() : null;
         this.setterMethodType = propagation.isSetterVisible() ? property.getSetterType() : null;
         this.customization = introspectCustomization(property, jsonbContext);
@@ -139,6 +153,32 @@ public class PropertyModel implements Comparable<PropertyModel> {
                                                jsonbContext.getConfigProperties().getPropertyNamingStrategy());
         this.writeName = calculateReadWriteName(customization.getJsonWriteName(),
                                                 jsonbContext.getConfigProperties().getPropertyNamingStrategy());
+        this.encodedWriteName = JsonbUtf8Generator.encodeKey(writeName);
+        this.propertySerializer = resolveCachedSerializer();
+    }
+
+    /**
+     * Creates an instance of a property described by a class descriptor.
+     *
+     * @param classModel   Class model of declaring class.
+     * @param property     Described property.
+     * @param jsonbContext Context.
+     */
+    public PropertyModel(ClassModel classModel, JsonbClassDescriptor.Property<?> property, JsonbContext jsonbContext) {
+        this.classModel = classModel;
+        this.property = new Property(property.getName(), null);
+        this.propertyName = property.getName();
+        this.propertyType = property.getType();
+        this.accessorStrategy = jsonbContext.getConfigProperties().getPropertyAccessorStrategy();
+        this.propagation = new DescriptorPropagation(property);
+        this.getterMethodType = null;
+        this.setterMethodType = null;
+        this.customization = describedCustomization(property, jsonbContext);
+        this.readName = calculateReadWriteName(customization.getJsonReadName(),
+                                               jsonbContext.getConfigProperties().getPropertyNamingStrategy());
+        this.writeName = calculateReadWriteName(customization.getJsonWriteName(),
+                                                jsonbContext.getConfigProperties().getPropertyNamingStrategy());
+        this.encodedWriteName = JsonbUtf8Generator.encodeKey(writeName);
         this.propertySerializer = resolveCachedSerializer();
     }
 
@@ -255,6 +295,23 @@ public class PropertyModel implements Comparable<PropertyModel> {
         return builder.buildPropertyCustomization();
     }
 
+    private PropertyCustomization describedCustomization(JsonbClassDescriptor.Property<?> property, JsonbContext jsonbContext) {
+        final ClassCustomization classCustomization = classModel.getClassCustomization();
+        final ComponentMatcher componentMatcher = jsonbContext.getComponentMatcher();
+        final PropertyCustomizationBuilder builder = new PropertyCustomizationBuilder();
+        builder.setJsonWriteName(property.getJsonWriteName());
+        builder.setJsonReadName(property.getJsonReadName());
+        builder.setNillable(property.getNillable() != null ? property.getNillable() : classCustomization.isNillable());
+        builder.setSerializerBinding(componentMatcher.getSerializerBinding(propertyType, null).orElse(null));
+        builder.setSerializeAdapter(componentMatcher.getSerializeAdapterBinding(propertyType, null).orElse(null));
+        builder.setDeserializeAdapter(componentMatcher.getDeserializeAdapterBinding(propertyType, null).orElse(null));
+        builder.setSerializeDateFormatter(classCustomization.getSerializeDateFormatter());
+        builder.setDeserializeDateFormatter(classCustomization.getDeserializeDateFormatter());
+        builder.setSerializeNumberFormatter(classCustomization.getSerializeNumberFormatter());
+        builder.setDeserializeNumberFormatter(classCustomization.getDeserializeNumberFormatter());
+        return builder.buildPropertyCustomization();
+    }
+
     private void introspectDateFormatter(Property property,
                                          AnnotationIntrospector introspector,
                                          PropertyCustomizationBuilder builder,
@@ -431,6 +488,16 @@ public class PropertyModel implements Comparable<PropertyModel> {
         return Objects.hash(readName, writeName);
     }
 
+    /**
+     * Name of a property to write to JSON, quoted, escaped and UTF-8 encoded, followed by colon.
+     * Returned array must not be modified.
+     *
+     * @return encoded write name
+     */
+    public byte[] getEncodedWriteName() {
+        return encodedWriteName;
+    }
+
     /**
      * Gets a name of JSON document property to read this property from.
      *
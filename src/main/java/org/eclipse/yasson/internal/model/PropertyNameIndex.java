@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.model;
+
+/**
+ * Immutable index of property models by JSON read name.
+ * <p>
+ * Names are stored in an open addressing table. Table size is grown (up to a bound) until all names hash into
+ * distinct slots, so the lookup usually costs hashing the key plus a single comparison. Lookup does not allocate.
+ * Case insensitive index hashes names folded the same way as {@link String#equalsIgnoreCase(String)} compares them,
+ * exact match is preferred for names differing only in case.
+ * </p>
+ */
+final class PropertyNameIndex {
+
+    /**
+     * Maximal ratio of table size to number of names tried when searching for collision free table.
+     */
+    private static final int MAX_SIZE_FACTOR = 8;
+
+    private final String[] names;
+
+    private final PropertyModel[] models;
+
+    private final int mask;
+
+    private final boolean caseInsensitive;
+
+    /**
+     * Case sensitive index consulted first by case insensitive index, when some names differ only in case.
+     */
+    private final PropertyNameIndex exactIndex;
+
+    /**
+     * Creates index of given properties by their read names.
+     * If more properties have the same name, the first one is indexed.
+     *
+     * @param properties      Properties to index.
+     * @param caseInsensitive True if names are compared ignoring case.
+     */
+    PropertyNameIndex(PropertyModel[] properties, boolean caseInsensitive) {
+        this.caseInsensitive = caseInsensitive;
+        int size = tableSize(properties.length * 2);
+        final int maxSize = tableSize(properties.length * MAX_SIZE_FACTOR);
+        String[] names;
+        PropertyModel[] models;
+        while (true) {
+            names = new String[size];
+            models = new PropertyModel[size];
+            if (fill(properties, names, models, false)) {
+                break;
+            }
+            if (size >= maxSize) {
+                names = new String[size];
+                models = new PropertyModel[size];
+                fill(properties, names, models, true);
+                break;
+            }
+            size <<= 1;
+        }
+        this.names = names;
+        this.models = models;
+        this.mask = size - 1;
+        this.exactIndex = caseInsensitive && hasCaseVariants(properties) ? new PropertyNameIndex(properties, false) : null;
+    }
+
+    /**
+     * Finds property model by its JSON read name.
+     *
+     * @param name Name of the property as it appears in JSON.
+     * @return Property model or null if not found.
+     */
+    PropertyModel get(String name) {
+        if (exactIndex != null) {
+            final PropertyModel exact = exactIndex.get(name);
+            if (exact != null) {
+                return exact;
+            }
+        }
+        int index = hash(name, caseInsensitive) & mask;
+        String candidate;
+        while ((candidate = names[index]) != null) {
+            if (caseInsensitive ? candidate.equalsIgnoreCase(name) : candidate.equals(name)) {
+                return models[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Fills the table, either only if there are no collisions, or with linear probing.
+     *
+     * @return True if table was filled.
+     */
+    private boolean fill(PropertyModel[] properties, String[] names, PropertyModel[] models, boolean probe) {
+        final int mask = names.length - 1;
+        for (PropertyModel property : properties) {
+            final String name = property.getReadName();
+            int index = hash(name, caseInsensitive) & mask;
+            boolean duplicate = false;
+            while (names[index] != null) {
+                if (caseInsensitive ? names[index].equalsIgnoreCase(name) : names[index].equals(name)) {
+                    duplicate = true;
+                    break;
+                }
+                if (!probe) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            if (!duplicate) {
+                names[index] = name;
+                models[index] = property;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasCaseVariants(PropertyModel[] properties) {
+        for (PropertyModel property : properties) {
+            if (!get(property.getReadName()).getReadName().equals(property.getReadName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int tableSize(int minimalSize) {
+        int size = 2;
+        while (size < minimalSize) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private static int hash(String name, boolean caseInsensitive) {
+        int hash;
+        if (caseInsensitive) {
+            hash = 0;
+            for (int i = 0; i < name.length(); i++) {
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+            }
+        } else {
+            hash = name.hashCode();
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -82,6 +82,23 @@ public abstract class PropertyValuePropagation {
         initWritable(field, setter);
     }
 
+    /**
+     * Construct a propagation of a property which is accessed without {@code java.lang.reflect} members.
+     *
+     * @param readable property can be read
+     * @param writable property can be written
+     */
+    protected PropertyValuePropagation(boolean readable, boolean writable) {
+        this.field = null;
+        this.getter = null;
+        this.setter = null;
+        this.propertyVisibilityStrategy = null;
+        this.getterVisible = false;
+        this.setterVisible = false;
+        this.readable = readable;
+        this.writable = writable;
+    }
+
     private void initReadable(Field field, Method getter) {
 
         final boolean fieldReadable = field == null || (field.getModifiers() & (Modifier.TRANSIENT | Modifier.STATIC)) == 0;
@@ -150,6 +167,7 @@ public abstract class PropertyValuePropagation {
     }
 
     private void overrideAccessible(AccessibleObject accessibleObject) {
+        //members are shared by Jsonb instances, the flag doesn't affect their visibility in other instances
         AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
             accessibleObject.setAccessible(true);
             return null;
@@ -307,7 +307,27 @@ public enum MessageKeys {
     /**
      * Target json value is not valid {@link JsonNumber}.
      */
-    NUMBER_INCOMPATIBLE_VALUE_TYPE_OBJECT("numberIncompatibleValueTypeObject");
+    NUMBER_INCOMPATIBLE_VALUE_TYPE_OBJECT("numberIncompatibleValueTypeObject"),
+    /**
+     * Streamed JSON is not an array.
+     */
+    STREAM_ROOT_NOT_ARRAY("streamRootNotArray"),
+    /**
+     * JSON value is not a name of any constant of deserialized enum.
+     */
+    ENUM_CONSTANT_NOT_FOUND("enumConstantNotFound"),
+    /**
+     * Property name is not a valid key of deserialized map.
+     */
+    MAP_KEY_PARSE_ERROR("mapKeyParseError"),
+    /**
+     * Null key can't be put into deserialized sorted map.
+     */
+    SORTED_MAP_NULL_KEY("sortedMapNullKey"),
+    /**
+     * Nesting of serialized objects exceeds configured maximal depth.
+     */
+    MAX_DEPTH_EXCEEDED("maxDepthExceeded");
 
     /**
      * Message bundle key.
@@ -24,7 +24,6 @@ import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.JsonbRiParser;
 import org.eclipse.yasson.internal.ReflectionUtils;
 import org.eclipse.yasson.internal.Unmarshaller;
-import org.eclipse.yasson.internal.model.ClassModel;
 
 /**
  * Common array unmarshalling item implementation.
@@ -37,7 +36,6 @@ public abstract class AbstractArrayDeserializer<T> extends AbstractContainerDese
      * Runtime type class of an array.
      */
     private final Class<?> componentClass;
-    private final ClassModel componentClassModel;
 
     /**
      * Creates new class instance.
@@ -52,11 +50,6 @@ public abstract class AbstractArrayDeserializer<T> extends AbstractContainerDese
         } else {
             componentClass = ReflectionUtils.getRawType(getRuntimeType()).getComponentType();
         }
-        if (!DefaultSerializers.getInstance().isKnownType(componentClass)) {
-            componentClassModel = builder.getJsonbContext().getMappingContext().getOrCreateClassModel(componentClass);
-        } else {
-            componentClassModel = null;
-        }
     }
 
     /**
@@ -80,8 +73,7 @@ public abstract class AbstractArrayDeserializer<T> extends AbstractContainerDese
 
     @Override
     protected void deserializeNext(JsonParser parser, Unmarshaller context) {
-        final JsonbDeserializer<?> deserializer = newUnmarshallerItemBuilder(context.getJsonbContext()).withType(componentClass)
-                .withCustomization(componentClassModel == null ? null : componentClassModel.getClassCustomization()).build();
+        final JsonbDeserializer<?> deserializer = newCollectionOrMapItem(componentClass, context.getJsonbContext());
         appendResult(deserializer.deserialize(parser, context, componentClass));
     }
 
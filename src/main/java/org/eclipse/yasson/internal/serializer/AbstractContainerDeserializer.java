@@ -43,6 +43,15 @@ public abstract class AbstractContainerDeserializer<T> extends AbstractItem<T> i
 
     private JsonbRiParser.LevelContext parserContext;
 
+    /**
+     * Plan of the last deserialized item, reused while items of the same type start with the same event.
+     */
+    private DeserializerPlan itemPlan;
+
+    private JsonParser.Event itemPlanEvent;
+
+    private Type itemPlanType;
+
     /**
      * Create instance of current item with its builder.
      *
@@ -152,7 +161,13 @@ public abstract class AbstractContainerDeserializer<T> extends AbstractItem<T> i
      * @return deserialization builder
      */
     protected JsonbDeserializer<?> newCollectionOrMapItem(Type valueType, JsonbContext ctx) {
-        return ContainerDeserializerUtils.newCollectionOrMapItem(this, valueType, ctx, parserContext.getLastEvent());
+        final JsonParser.Event event = parserContext.getLastEvent();
+        if (itemPlan == null || itemPlanEvent != event || itemPlanType != valueType) {
+            itemPlan = ContainerDeserializerUtils.newCollectionOrMapItemPlan(this, valueType, ctx, event);
+            itemPlanEvent = event;
+            itemPlanType = valueType;
+        }
+        return itemPlan.newDeserializer(ctx, this);
     }
 
     /**
@@ -36,9 +36,11 @@ import org.eclipse.yasson.internal.model.customization.ContainerCustomization;
  */
 public abstract class AbstractContainerSerializer<T> extends AbstractItem<T> implements JsonbSerializer<T> {
 
-    private JsonbSerializer<?> valueSerializer;
-
-    private Class<?> valueClass;
+    /**
+     * Last used value serializer. Held in a single immutable reference, since container serializers
+     * may be cached and shared between threads.
+     */
+    private ValueSerializerHolder valueSerializerHolder;
 
     /**
      * Create instance of current item with its builder.
@@ -103,7 +105,7 @@ public abstract class AbstractContainerSerializer<T> extends AbstractItem<T> imp
     protected abstract void serializeInternal(T obj, JsonGenerator generator, SerializationContext ctx);
 
     @Override
-    public final void serialize(T obj, JsonGenerator generator, SerializationContext ctx) {
+    public void serialize(T obj, JsonGenerator generator, SerializationContext ctx) {
         beforeSerialize(obj);
         writeStart(generator);
         serializeInternal(obj, generator, ctx);
@@ -134,8 +136,9 @@ public abstract class AbstractContainerSerializer<T> extends AbstractItem<T> imp
      * @return cached serializer or null
      */
     protected JsonbSerializer<?> getValueSerializer(Class<?> valueClass) {
-        if (valueSerializer != null && valueClass == this.valueClass) {
-            return valueSerializer;
+        final ValueSerializerHolder holder = valueSerializerHolder;
+        if (holder != null && valueClass == holder.valueClass) {
+            return holder.valueSerializer;
         }
         return null;
     }
@@ -149,8 +152,7 @@ public abstract class AbstractContainerSerializer<T> extends AbstractItem<T> imp
     protected void addValueSerializer(JsonbSerializer<?> valueSerializer, Class<?> valueClass) {
         Objects.requireNonNull(valueSerializer);
         Objects.requireNonNull(valueClass);
-        this.valueSerializer = valueSerializer;
-        this.valueClass = valueClass;
+        this.valueSerializerHolder = new ValueSerializerHolder(valueSerializer, valueClass);
     }
 
     /**
@@ -210,4 +212,16 @@ public abstract class AbstractContainerSerializer<T> extends AbstractItem<T> imp
         }
         return Object.class;
     }
+
+    private static final class ValueSerializerHolder {
+
+        private final JsonbSerializer<?> valueSerializer;
+
+        private final Class<?> valueClass;
+
+        private ValueSerializerHolder(JsonbSerializer<?> valueSerializer, Class<?> valueClass) {
+            this.valueSerializer = valueSerializer;
+            this.valueClass = valueClass;
+        }
+    }
 }
@@ -14,12 +14,14 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Type;
 import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
+import java.util.function.Function;
 
 import javax.json.bind.JsonbException;
 import javax.json.bind.annotation.JsonbDateFormat;
@@ -42,6 +44,12 @@ public abstract class AbstractDateTimeDeserializer<T> extends AbstractValueTypeD
      */
     public static final ZoneId UTC = ZoneId.of("UTC");
 
+    /**
+     * Parsing resolved on first use. Customization and context of a deserializer don't change between values,
+     * so the resolved parse is reused for all of them. It is immutable and thus safe to publish without locking.
+     */
+    private ResolvedParse<T> resolvedParse;
+
     /**
      * Creates an instance.
      *
@@ -54,29 +62,39 @@ public abstract class AbstractDateTimeDeserializer<T> extends AbstractValueTypeD
 
     @Override
     public T deserialize(String jsonValue, Unmarshaller unmarshaller, Type rtType) {
-        final JsonbDateFormatter formatter = getJsonbDateFormatter(unmarshaller.getJsonbContext());
-        if (JsonbDateFormat.TIME_IN_MILLIS.equals(formatter.getFormat())) {
-            return fromInstant(Instant.ofEpochMilli(Long.parseLong(jsonValue)));
-        } else if (formatter.getDateTimeFormatter() != null) {
-            return parseWithFormatterInternal(jsonValue, formatter.getDateTimeFormatter());
-        } else {
-            DateTimeFormatter configDateTimeFormatter = unmarshaller.getJsonbContext().getConfigProperties()
-                    .getConfigDateFormatter().getDateTimeFormatter();
-            if (configDateTimeFormatter != null) {
-                return parseWithFormatterInternal(jsonValue, configDateTimeFormatter);
-            }
-        }
-        final boolean strictIJson = unmarshaller.getJsonbContext().getConfigProperties().isStrictIJson();
-        if (strictIJson) {
-            return parseWithFormatterInternal(jsonValue, JsonbDateFormatter.IJSON_DATE_FORMATTER);
+        final JsonbContext jsonbContext = unmarshaller.getJsonbContext();
+        ResolvedParse<T> resolved = resolvedParse;
+        if (resolved == null || resolved.jsonbContext.get() != jsonbContext) {
+            resolved = new ResolvedParse<>(jsonbContext, resolveParse(jsonbContext));
+            resolvedParse = resolved;
         }
         try {
-            return parseDefault(jsonValue, unmarshaller.getJsonbContext().getConfigProperties().getLocale(formatter.getLocale()));
+            return resolved.parse.apply(jsonValue);
         } catch (DateTimeException e) {
             throw new JsonbException(Messages.getMessage(MessageKeys.DATE_PARSE_ERROR, jsonValue, getPropertyType()), e);
         }
     }
 
+    private Function<String, T> resolveParse(JsonbContext jsonbContext) {
+        final JsonbDateFormatter formatter = getJsonbDateFormatter(jsonbContext);
+        if (JsonbDateFormat.TIME_IN_MILLIS.equals(formatter.getFormat())) {
+            return value -> fromInstant(Instant.ofEpochMilli(Long.parseLong(value)));
+        }
+        DateTimeFormatter dateTimeFormatter = formatter.getDateTimeFormatter();
+        if (dateTimeFormatter == null) {
+            dateTimeFormatter = jsonbContext.getConfigProperties().getConfigDateFormatter().getDateTimeFormatter();
+        }
+        if (dateTimeFormatter == null && jsonbContext.getConfigProperties().isStrictIJson()) {
+            dateTimeFormatter = JsonbDateFormatter.IJSON_DATE_FORMATTER;
+        }
+        if (dateTimeFormatter != null) {
+            final DateTimeFormatter prepared = prepareFormatter(dateTimeFormatter);
+            return value -> parseWithFormatter(value, prepared);
+        }
+        final Locale locale = jsonbContext.getConfigProperties().getLocale(formatter.getLocale());
+        return value -> parseDefault(value, locale);
+    }
+
     /**
      * Returns registered deserialization jsonb date formatter.
      *
@@ -102,6 +120,17 @@ public abstract class AbstractDateTimeDeserializer<T> extends AbstractValueTypeD
                 : formatter.withZone(UTC);
     }
 
+    /**
+     * Prepares formatter to parse all values of this type with. Called once when parsing is resolved,
+     * result is passed to {@link #parseWithFormatter(String, DateTimeFormatter)}.
+     *
+     * @param formatter formatter from annotation or config
+     * @return formatter to parse with
+     */
+    protected DateTimeFormatter prepareFormatter(DateTimeFormatter formatter) {
+        return formatter;
+    }
+
     /**
      * Construct date object from an instant containing epoch millisecond.
      * If date object supports zone offset / zone id, system default is used and warning is logged.
@@ -125,16 +154,23 @@ public abstract class AbstractDateTimeDeserializer<T> extends AbstractValueTypeD
      * Parse {@link java.time} date object with provided formatter.
      *
      * @param jsonValue string value to parse from
-     * @param formatter a formatter to use
+     * @param formatter a formatter to use, as returned by {@link #prepareFormatter(DateTimeFormatter)}
      * @return parsed date object
      */
     protected abstract T parseWithFormatter(String jsonValue, DateTimeFormatter formatter);
 
-    private T parseWithFormatterInternal(String jsonValue, DateTimeFormatter formatter) {
-        try {
-            return parseWithFormatter(jsonValue, formatter);
-        } catch (DateTimeException e) {
-            throw new JsonbException(Messages.getMessage(MessageKeys.DATE_PARSE_ERROR, jsonValue, getPropertyType()), e);
+    /**
+     * Context is referenced weakly, since the deserializer may be cached for a class outliving the context.
+     */
+    private static final class ResolvedParse<T> {
+
+        private final WeakReference<JsonbContext> jsonbContext;
+
+        private final Function<String, T> parse;
+
+        private ResolvedParse(JsonbContext jsonbContext, Function<String, T> parse) {
+            this.jsonbContext = new WeakReference<>(jsonbContext);
+            this.parse = parse;
         }
     }
 }
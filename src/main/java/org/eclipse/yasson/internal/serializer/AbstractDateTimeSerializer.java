@@ -14,11 +14,13 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import java.lang.ref.WeakReference;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.Locale;
+import java.util.function.Function;
 
 import javax.json.bind.annotation.JsonbDateFormat;
 import javax.json.bind.serializer.SerializationContext;
@@ -40,6 +42,12 @@ public abstract class AbstractDateTimeSerializer<T> extends AbstractValueTypeSer
      */
     public static final ZoneId UTC = ZoneId.of("UTC");
 
+    /**
+     * Formatting resolved on first use. Customization and context of a serializer don't change between values,
+     * so the resolved format is reused for all of them. It is immutable and thus safe to publish without locking.
+     */
+    private ResolvedFormat<T> resolvedFormat;
+
     /**
      * Creates a new instance.
      *
@@ -52,8 +60,12 @@ public abstract class AbstractDateTimeSerializer<T> extends AbstractValueTypeSer
     @Override
     public void serialize(T obj, JsonGenerator generator, SerializationContext ctx) {
         final JsonbContext jsonbContext = ((Marshaller) ctx).getJsonbContext();
-        final JsonbDateFormatter formatter = getJsonbDateFormatter(jsonbContext);
-        generator.write(toJson(obj, formatter, jsonbContext));
+        ResolvedFormat<T> resolved = resolvedFormat;
+        if (resolved == null || resolved.jsonbContext.get() != jsonbContext) {
+            resolved = new ResolvedFormat<>(jsonbContext, resolveFormat(getJsonbDateFormatter(jsonbContext), jsonbContext));
+            resolvedFormat = resolved;
+        }
+        generator.write(resolved.format.apply(obj));
     }
 
     /**
@@ -65,21 +77,26 @@ public abstract class AbstractDateTimeSerializer<T> extends AbstractValueTypeSer
      * @return JSON representation of given object.
      */
     public String toJson(T object, JsonbDateFormatter formatter, JsonbContext jsonbContext) {
+        return resolveFormat(formatter, jsonbContext).apply(object);
+    }
+
+    private Function<T, String> resolveFormat(JsonbDateFormatter formatter, JsonbContext jsonbContext) {
         if (JsonbDateFormat.TIME_IN_MILLIS.equals(formatter.getFormat())) {
-            return String.valueOf(toInstant(object).toEpochMilli());
-        } else if (formatter.getDateTimeFormatter() != null) {
-            return formatWithFormatter(object, formatter.getDateTimeFormatter());
-        } else {
-            DateTimeFormatter configDateTimeFormatter = jsonbContext.getConfigProperties().getConfigDateFormatter()
-                    .getDateTimeFormatter();
-            if (configDateTimeFormatter != null) {
-                return formatWithFormatter(object, configDateTimeFormatter);
-            }
+            return value -> String.valueOf(toInstant(value).toEpochMilli());
+        }
+        DateTimeFormatter dateTimeFormatter = formatter.getDateTimeFormatter();
+        if (dateTimeFormatter == null) {
+            dateTimeFormatter = jsonbContext.getConfigProperties().getConfigDateFormatter().getDateTimeFormatter();
+        }
+        if (dateTimeFormatter != null) {
+            final DateTimeFormatter prepared = prepareFormatter(dateTimeFormatter);
+            return value -> formatWithFormatter(value, prepared);
         }
         if (jsonbContext.getConfigProperties().isStrictIJson()) {
-            return formatStrictIJson(object);
+            return this::formatStrictIJson;
         }
-        return formatDefault(object, jsonbContext.getConfigProperties().getLocale(formatter.getLocale()));
+        final Locale locale = jsonbContext.getConfigProperties().getLocale(formatter.getLocale());
+        return value -> formatDefault(value, locale);
     }
 
     /**
@@ -108,6 +125,17 @@ public abstract class AbstractDateTimeSerializer<T> extends AbstractValueTypeSer
                 : formatter.withZone(UTC);
     }
 
+    /**
+     * Prepares formatter to format all values of this type with. Called once when format is resolved,
+     * result is passed to {@link #formatWithFormatter(Object, DateTimeFormatter)}.
+     *
+     * @param formatter formatter from annotation or config
+     * @return formatter to format with
+     */
+    protected DateTimeFormatter prepareFormatter(DateTimeFormatter formatter) {
+        return formatter;
+    }
+
     /**
      * Convert date object to {@link TemporalAccessor}
      *
@@ -142,7 +170,7 @@ public abstract class AbstractDateTimeSerializer<T> extends AbstractValueTypeSer
      * Format date object with given formatter.
      *
      * @param value     date object to format
-     * @param formatter formatter to format with
+     * @param formatter formatter to format with, as returned by {@link #prepareFormatter(DateTimeFormatter)}
      * @return formatted result
      */
     protected String formatWithFormatter(T value, DateTimeFormatter formatter) {
@@ -163,4 +191,19 @@ public abstract class AbstractDateTimeSerializer<T> extends AbstractValueTypeSer
     protected void serialize(T obj, JsonGenerator generator, Marshaller marshaller) {
         throw new UnsupportedOperationException("Not supported in DateTimeSerializer");
     }
+
+    /**
+     * Context is referenced weakly, since the serializer may be cached for a class outliving the context.
+     */
+    private static final class ResolvedFormat<T> {
+
+        private final WeakReference<JsonbContext> jsonbContext;
+
+        private final Function<T, String> format;
+
+        private ResolvedFormat(JsonbContext jsonbContext, Function<T, String> format) {
+            this.jsonbContext = new WeakReference<>(jsonbContext);
+            this.format = format;
+        }
+    }
 }
@@ -29,6 +29,8 @@ import org.eclipse.yasson.internal.model.customization.Customization;
  */
 public abstract class AbstractDateTypeSerializer<T extends Date> extends AbstractDateTimeSerializer<T> {
 
+    private static final DateTimeFormatter IJSON_FORMATTER = JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC);
+
     /**
      * Creates a new instance.
      *
@@ -54,13 +56,13 @@ public abstract class AbstractDateTypeSerializer<T extends Date> extends Abstrac
     }
 
     @Override
-    protected String formatWithFormatter(Date value, DateTimeFormatter formatter) {
-        return getZonedFormatter(formatter).format(toTemporalAccessor(value));
+    protected DateTimeFormatter prepareFormatter(DateTimeFormatter formatter) {
+        return getZonedFormatter(formatter);
     }
 
     @Override
     protected String formatStrictIJson(Date value) {
-        return JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC).format(toTemporalAccessor(value));
+        return IJSON_FORMATTER.format(toTemporalAccessor(value));
     }
 
     @Override
@@ -14,14 +14,17 @@
 
 package org.eclipse.yasson.internal.serializer;
 
-import java.text.DecimalFormat;
+import java.lang.reflect.Type;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Optional;
 
 import javax.json.bind.JsonbException;
+import javax.json.bind.serializer.DeserializationContext;
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.JsonbContext;
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
@@ -33,6 +36,11 @@ import org.eclipse.yasson.internal.properties.Messages;
  */
 public abstract class AbstractNumberDeserializer<T extends Number> extends AbstractValueTypeDeserializer<T> {
 
+    /**
+     * True if number format customization applies, which prevents reading numbers directly from the parser.
+     */
+    private final boolean formatted;
+
     /**
      * Creates a new instance.
      *
@@ -41,6 +49,69 @@ public abstract class AbstractNumberDeserializer<T extends Number> extends Abstr
      */
     public AbstractNumberDeserializer(Class<T> clazz, Customization customization) {
         super(clazz, customization);
+        this.formatted = customization != null && customization.getDeserializeNumberFormatter() != null;
+    }
+
+    @Override
+    public T deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+        if (!formatted && ((JsonbParser) parser).getCurrentLevel().getLastEvent() == JsonParser.Event.VALUE_NUMBER) {
+            return deserializeNumber(parser);
+        }
+        return super.deserialize(parser, ctx, rtType);
+    }
+
+    /**
+     * Reads number value directly from the parser, used when no number format applies.
+     *
+     * @param parser parser at {@link JsonParser.Event#VALUE_NUMBER}
+     * @return deserialized number
+     */
+    protected abstract T deserializeNumber(JsonParser parser);
+
+    /**
+     * Reads current integral number value of the parser without loss of precision.
+     *
+     * @param parser parser at {@link JsonParser.Event#VALUE_NUMBER}
+     * @param min    minimal allowed value
+     * @param max    maximal allowed value
+     * @return number value
+     * @throws ArithmeticException if number is not integral or is out of range
+     */
+    static long readIntegral(JsonParser parser, long min, long max) {
+        if (!parser.isIntegralNumber()) {
+            throw new ArithmeticException("Number is not integral");
+        }
+        final long value = parser instanceof JsonbParser
+                ? ((JsonbParser) parser).getLongValueExact()
+                : parser.getBigDecimal().longValueExact();
+        if (value < min || value > max) {
+            throw new ArithmeticException("Number is out of range");
+        }
+        return value;
+    }
+
+    /**
+     * Reads current number value of the parser as double, rounded the same way as by {@link Double#parseDouble}.
+     *
+     * @param parser parser at {@link JsonParser.Event#VALUE_NUMBER}
+     * @return number value
+     */
+    static double readDouble(JsonParser parser) {
+        return parser instanceof JsonbParser
+                ? ((JsonbParser) parser).getDoubleValue()
+                : Double.parseDouble(parser.getString());
+    }
+
+    /**
+     * Reads current number value of the parser as float, rounded the same way as by {@link Float#parseFloat}.
+     *
+     * @param parser parser at {@link JsonParser.Event#VALUE_NUMBER}
+     * @return number value
+     */
+    static float readFloat(JsonParser parser) {
+        return parser instanceof JsonbParser
+                ? ((JsonbParser) parser).getFloatValue()
+                : Float.parseFloat(parser.getString());
     }
 
     /**
@@ -57,11 +128,8 @@ public abstract class AbstractNumberDeserializer<T extends Number> extends Abstr
         }
 
         final JsonbNumberFormatter numberFormat = getCustomization().getDeserializeNumberFormatter();
-        //consider synchronizing on format instance or per thread cache.
-        final NumberFormat format = NumberFormat
-                .getInstance(jsonbContext.getConfigProperties().getLocale(numberFormat.getLocale()));
-        ((DecimalFormat) format).applyPattern(numberFormat.getFormat());
-        format.setParseIntegerOnly(integerOnly);
+        final NumberFormat format = jsonbContext.getNumberFormatCache().getFormat(
+                numberFormat.getFormat(), jsonbContext.getConfigProperties().getLocale(numberFormat.getLocale()), integerOnly);
         try {
             return Optional.of(format.parse(jsonValue));
         } catch (ParseException e) {
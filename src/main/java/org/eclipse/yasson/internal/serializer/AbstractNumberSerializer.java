@@ -14,11 +14,9 @@
 
 package org.eclipse.yasson.internal.serializer;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
-
 import javax.json.stream.JsonGenerator;
 
+import org.eclipse.yasson.internal.JsonbContext;
 import org.eclipse.yasson.internal.Marshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 
@@ -55,10 +53,9 @@ public abstract class AbstractNumberSerializer<T extends Number> extends Abstrac
     @Override
     protected void serialize(T obj, JsonGenerator generator, Marshaller marshaller) {
         if (formatter != null) {
-            final NumberFormat format = NumberFormat
-                    .getInstance(marshaller.getJsonbContext().getConfigProperties().getLocale(formatter.getLocale()));
-            ((DecimalFormat) format).applyPattern(formatter.getFormat());
-            generator.write(format.format(obj));
+            final JsonbContext jsonbContext = marshaller.getJsonbContext();
+            generator.write(jsonbContext.getNumberFormatCache().format(
+                    obj, formatter.getFormat(), jsonbContext.getConfigProperties().getLocale(formatter.getLocale())));
         } else {
             serializeNonFormatted(obj, generator);
         }
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.JsonbParser;
+import org.eclipse.yasson.internal.JsonbRiParser;
+import org.eclipse.yasson.internal.Unmarshaller;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+/**
+ * Common array unmarshalling item implementation for arrays of primitive numbers.
+ * <p>
+ * Elements are read directly from the parser into a growable primitive buffer, which is trimmed once
+ * the array ends. No deserializer is built and no value is boxed per element. String elements are parsed
+ * the same way as by deserializers of corresponding wrapper types.
+ * </p>
+ *
+ * @param <T> array type
+ */
+public abstract class AbstractPrimitiveArrayDeserializer<T> extends AbstractContainerDeserializer<T> implements EmbeddedItem {
+
+    /**
+     * Initial capacity of element buffers.
+     */
+    static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Wrapper type of array elements used in error messages.
+     */
+    private final Class<?> valueType;
+
+    /**
+     * Creates new class instance.
+     *
+     * @param builder   deserializer builder
+     * @param valueType wrapper type of array elements
+     */
+    AbstractPrimitiveArrayDeserializer(DeserializerBuilder builder, Class<?> valueType) {
+        super(builder);
+        this.valueType = valueType;
+    }
+
+    @Override
+    protected void deserializeNext(JsonParser parser, Unmarshaller context) {
+        switch (getParserContext().getLastEvent()) {
+        case VALUE_NUMBER:
+            appendNumber(parser);
+            break;
+        case VALUE_STRING:
+            appendString(parser.getString());
+            break;
+        default:
+            throw valueError();
+        }
+    }
+
+    /**
+     * Null elements can't be stored in an array of primitives.
+     *
+     * @param result null
+     */
+    @Override
+    public void appendResult(Object result) {
+        throw valueError();
+    }
+
+    /**
+     * Appends current number value of the parser.
+     *
+     * @param parser parser at {@link JsonParser.Event#VALUE_NUMBER}
+     */
+    protected abstract void appendNumber(JsonParser parser);
+
+    /**
+     * Appends number parsed from string value.
+     *
+     * @param value string value
+     */
+    protected abstract void appendString(String value);
+
+    /**
+     * Reads current integral number value of the parser.
+     *
+     * @param parser parser at {@link JsonParser.Event#VALUE_NUMBER}
+     * @param min    minimal allowed value
+     * @param max    maximal allowed value
+     * @return number value
+     */
+    protected long readIntegral(JsonParser parser, long min, long max) {
+        try {
+            return AbstractNumberDeserializer.readIntegral(parser, min, max);
+        } catch (ArithmeticException e) {
+            throw valueError();
+        }
+    }
+
+    /**
+     * Creates exception for an element which can't be deserialized.
+     *
+     * @return exception to throw
+     */
+    protected JsonbException valueError() {
+        return new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR, valueType));
+    }
+
+    @Override
+    protected JsonbRiParser.LevelContext moveToFirst(JsonbParser parser) {
+        parser.moveTo(JsonParser.Event.START_ARRAY);
+        return parser.getCurrentLevel();
+    }
+}
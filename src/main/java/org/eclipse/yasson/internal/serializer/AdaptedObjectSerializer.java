@@ -58,8 +58,10 @@ public class AdaptedObjectSerializer<T, A> implements CurrentItem<T>, JsonbSeria
     @SuppressWarnings("unchecked")
     public void serialize(T obj, JsonGenerator generator, SerializationContext ctx) {
         ProcessingContext context = (ProcessingContext) ctx;
+        boolean added = false;
         try {
-            if (context.addProcessedObject(obj)) {
+            added = context.addProcessedObject(obj);
+            if (added) {
                 final JsonbAdapter<T, A> adapter = (JsonbAdapter<T, A>) adapterInfo.getAdapter();
                 A adapted = adapter.adaptToJson(obj);
                 if (adapted == null) {
@@ -77,7 +79,9 @@ public class AdaptedObjectSerializer<T, A> implements CurrentItem<T>, JsonbSeria
                                                          adapterInfo.getToType(),
                                                          adapterInfo.getAdapter().getClass()), e);
         } finally {
-            context.removeProcessedObject(obj);
+            if (added) {
+                context.removeProcessedObject(obj);
+            }
         }
     }
 
@@ -18,6 +18,7 @@ import java.lang.reflect.Type;
 import java.math.BigDecimal;
 
 import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
@@ -51,4 +52,9 @@ public class BigDecimalTypeDeserializer extends AbstractNumberDeserializer<BigDe
                     }
                 });
     }
+
+    @Override
+    protected BigDecimal deserializeNumber(JsonParser parser) {
+        return parser.getBigDecimal();
+    }
 }
@@ -18,6 +18,7 @@ import java.lang.reflect.Type;
 import java.math.BigInteger;
 
 import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
@@ -51,4 +52,12 @@ public class BigIntegerTypeDeserializer extends AbstractNumberDeserializer<BigIn
                     }
                 });
     }
+
+    @Override
+    protected BigInteger deserializeNumber(JsonParser parser) {
+        if (!parser.isIntegralNumber()) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR, BigInteger.class));
+        }
+        return parser.getBigDecimal().toBigInteger();
+    }
 }
@@ -14,17 +14,20 @@
 
 package org.eclipse.yasson.internal.serializer;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 
 /**
  * Array unmarshaller item implementation for small int.
  */
-public class ByteArrayDeserializer extends AbstractArrayDeserializer<byte[]> {
+public class ByteArrayDeserializer extends AbstractPrimitiveArrayDeserializer<byte[]> {
+
+    private byte[] items = new byte[INITIAL_CAPACITY];
 
-    private final List<Byte> items = new ArrayList<>();
+    private int size;
 
     /**
      * Creates new instance of byte array deserializer.
@@ -32,21 +35,32 @@ public class ByteArrayDeserializer extends AbstractArrayDeserializer<byte[]> {
      * @param builder deserializer builder
      */
     protected ByteArrayDeserializer(DeserializerBuilder builder) {
-        super(builder);
+        super(builder, Byte.class);
     }
 
     @Override
-    protected List<?> getItems() {
-        return items;
+    protected void appendNumber(JsonParser parser) {
+        append((byte) readIntegral(parser, Byte.MIN_VALUE, Byte.MAX_VALUE));
     }
 
     @Override
-    public byte[] getInstance(Unmarshaller unmarshaller) {
-        final int size = items.size();
-        final byte[] byteArray = new byte[size];
-        for (int i = 0; i < size; i++) {
-            byteArray[i] = items.get(i);
+    protected void appendString(String value) {
+        try {
+            append(Byte.parseByte(value));
+        } catch (NumberFormatException e) {
+            throw valueError();
+        }
+    }
+
+    private void append(byte value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
         }
-        return byteArray;
+        items[size++] = value;
+    }
+
+    @Override
+    public byte[] getInstance(Unmarshaller unmarshaller) {
+        return size == items.length ? items : Arrays.copyOf(items, size);
     }
 }
@@ -17,6 +17,7 @@ package org.eclipse.yasson.internal.serializer;
 import java.lang.reflect.Type;
 
 import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
@@ -49,4 +50,13 @@ public class ByteTypeDeserializer extends AbstractNumberDeserializer<Byte> {
                     }
                 });
     }
+
+    @Override
+    protected Byte deserializeNumber(JsonParser parser) {
+        try {
+            return (byte) readIntegral(parser, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        } catch (ArithmeticException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR, Byte.class));
+        }
+    }
 }
@@ -15,10 +15,14 @@
 package org.eclipse.yasson.internal.serializer;
 
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
 
 import javax.json.bind.serializer.SerializationContext;
 import javax.json.stream.JsonGenerator;
 
+import org.eclipse.yasson.internal.Marshaller;
+
 /**
  * Serializer for collections.
  *
@@ -36,12 +40,33 @@ public class CollectionSerializer<V> extends AbstractContainerSerializer<Collect
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     protected void serializeInternal(Collection<V> collection, JsonGenerator generator, SerializationContext ctx) {
+        if (collection instanceof EnumSet && !collection.isEmpty()) {
+            serializeEnumSet((EnumSet) collection, generator, ctx);
+            return;
+        }
         for (Object item : collection) {
             serializeItem(item, generator, ctx);
         }
     }
 
+    /**
+     * Constants of {@link EnumSet} are all of the same enum type. Unless the type has a user serializer or adapter,
+     * their names are written pre-encoded.
+     */
+    private <E extends Enum<E>> void serializeEnumSet(EnumSet<E> set, JsonGenerator generator, SerializationContext ctx) {
+        final Iterator<E> iterator = set.iterator();
+        final E first = iterator.next();
+        serializeItem(first, generator, ctx);
+        if (!(getValueSerializer(first.getClass()) instanceof EnumTypeSerializer)) {
+            iterator.forEachRemaining(item -> serializeItem(item, generator, ctx));
+            return;
+        }
+        final EnumCodec<E> codec = ((Marshaller) ctx).getMappingContext().getEnumCodec(first.getDeclaringClass());
+        iterator.forEachRemaining(item -> codec.write(item, generator));
+    }
+
     @Override
     protected void writeStart(JsonGenerator generator) {
         generator.writeStartArray();
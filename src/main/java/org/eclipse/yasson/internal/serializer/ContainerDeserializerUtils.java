@@ -14,18 +14,25 @@ package org.eclipse.yasson.internal.serializer;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
+import javax.json.bind.JsonbException;
 import javax.json.bind.serializer.JsonbDeserializer;
 import javax.json.stream.JsonParser;
 
+import org.eclipse.yasson.internal.JsonbConfigProperties;
 import org.eclipse.yasson.internal.JsonbContext;
 import org.eclipse.yasson.internal.ReflectionUtils;
 import org.eclipse.yasson.internal.RuntimeTypeInfo;
 import org.eclipse.yasson.internal.model.ClassModel;
+import org.eclipse.yasson.internal.model.customization.Customization;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
 
 /**
  * Internal container de-serializing interface.
@@ -34,6 +41,12 @@ import org.eclipse.yasson.internal.model.ClassModel;
  */
 class ContainerDeserializerUtils {
 
+    private static final int DEFAULT_MAP_CAPACITY = 16;
+
+    private static final float HASH_MAP_LOAD_FACTOR = 0.75f;
+
+    private static final int MAX_MAP_CAPACITY = 1 << 30;
+
     private ContainerDeserializerUtils() {
         throw new IllegalStateException("Util classes cannot be instantiated!");
     }
@@ -72,23 +85,74 @@ class ContainerDeserializerUtils {
      * @param mapType type of returned {@code Map} instance
      * @return created {@code Map} instance
      */
-    @SuppressWarnings("unchecked")
     public static <T extends Map<?, ?>> T createMapInstance(DeserializerBuilder builder, Type mapType) {
+        return createMapInstance(builder, mapType, null);
+    }
+
+    /**
+     * Creates an instance of {@code Map} being de-serialized.
+     * <p>
+     * {@code Map} interface is implemented by {@link JsonbConfigProperties#getDefaultMapImplType()} when keys
+     * are known to be comparable, {@code SortedMap} and {@code NavigableMap} interfaces by it or by {@link TreeMap}.
+     * {@link HashMap} and {@link LinkedHashMap} are presized by {@link JsonbConfigProperties#getMapExpectedSize(Type)},
+     * {@link EnumMap} is created for enum keys.
+     * </p>
+     *
+     * @param <T>      type of {@code Map} instance to be returned
+     * @param builder  de-serializer builder
+     * @param mapType  type of returned {@code Map} instance
+     * @param keyClass class of keys created by deserializer, null if keys are not of a comparable type
+     * @return created {@code Map} instance
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T extends Map<?, ?>> T createMapInstance(DeserializerBuilder builder, Type mapType, Class<?> keyClass) {
+        final JsonbConfigProperties config = builder.getJsonbContext().getConfigProperties();
+        final Class<?> defaultMapImplType = config.getDefaultMapImplType();
         Class<?> rawType = ReflectionUtils.getRawType(mapType);
         if (rawType.isInterface()) {
             if (SortedMap.class.isAssignableFrom(rawType)) {
-                Class<?> defaultMapImplType = builder.getJsonbContext().getConfigProperties().getDefaultMapImplType();
-                return SortedMap.class.isAssignableFrom(defaultMapImplType)
-                        ? (T) builder.getJsonbContext().getInstanceCreator().createInstance(defaultMapImplType)
-                        : (T) new TreeMap<>();
+                rawType = SortedMap.class.isAssignableFrom(defaultMapImplType) ? defaultMapImplType : TreeMap.class;
+            } else if (keyClass != null && Comparable.class.isAssignableFrom(keyClass)) {
+                rawType = defaultMapImplType;
             } else {
-                return (T) new HashMap<>();
+                rawType = HashMap.class;
             }
-        } else {
-            return (T) builder.getJsonbContext().getInstanceCreator().createInstance(rawType);
+        }
+        if (rawType == HashMap.class) {
+            return (T) new HashMap<>(initialCapacity(config.getMapExpectedSize(mapType)));
+        } else if (rawType == LinkedHashMap.class) {
+            return (T) new LinkedHashMap<>(initialCapacity(config.getMapExpectedSize(mapType)));
+        } else if (rawType == TreeMap.class) {
+            return (T) new TreeMap<>();
+        } else if (rawType == EnumMap.class && keyClass != null && keyClass.isEnum()) {
+            return (T) new EnumMap(keyClass);
+        }
+        return (T) builder.getJsonbContext().getInstanceCreator().createInstance(rawType);
+    }
+
+    /**
+     * Checks that deserialized key can be put into the map, sorted maps created by
+     * {@link #createMapInstance(DeserializerBuilder, Type, Class)} don't permit null keys.
+     *
+     * @param map map being de-serialized
+     * @param key key to be put into the map
+     */
+    static void checkMapKey(Map<?, ?> map, Object key) {
+        if (key == null && map instanceof SortedMap) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.SORTED_MAP_NULL_KEY, map.getClass().getName()));
         }
     }
 
+    /**
+     * Capacity of a hash map which holds expected number of entries without being resized.
+     */
+    private static int initialCapacity(int expectedSize) {
+        if (expectedSize == 0) {
+            return DEFAULT_MAP_CAPACITY;
+        }
+        return (int) Math.min(expectedSize / HASH_MAP_LOAD_FACTOR + 1, MAX_MAP_CAPACITY);
+    }
+
     /**
      * Builds new de-serializer for {@code Collection} or {@code Map} item (key or value).
      *
@@ -102,15 +166,33 @@ class ContainerDeserializerUtils {
                                                               Type valueType,
                                                               JsonbContext ctx,
                                                               JsonParser.Event event) {
-        //TODO needs performance optimization on not to create deserializer each time
-        //TODO In contrast to serialization value type cannot change here
+        return newCollectionOrMapItemPlan(wrapper, valueType, ctx, event).newDeserializer(ctx, wrapper);
+    }
+
+    /**
+     * Resolves de-serialization plan for {@code Collection} or {@code Map} item (key or value).
+     * Plans of resolved item types are cached in mapping context.
+     *
+     * @param wrapper   item wrapper. {@code Collection} or {@code Map} instance.
+     * @param valueType type of deserialized value
+     * @param ctx       JSON-B parser context
+     * @param event     JSON parser event
+     * @return de-serialization plan for {@code Collection} or {@code Map} item
+     */
+    public static DeserializerPlan newCollectionOrMapItemPlan(CurrentItem<?> wrapper,
+                                                              Type valueType,
+                                                              JsonbContext ctx,
+                                                              JsonParser.Event event) {
         Type actualValueType = ReflectionUtils.resolveType(wrapper, valueType);
-        DeserializerBuilder deserializerBuilder = newUnmarshallerItemBuilder(wrapper, ctx, event).withType(actualValueType);
+        Customization customization = null;
         if (!DefaultSerializers.getInstance().isKnownType(ReflectionUtils.getRawType(actualValueType))) {
             ClassModel classModel = ctx.getMappingContext().getOrCreateClassModel(ReflectionUtils.getRawType(actualValueType));
-            deserializerBuilder.withCustomization(classModel == null ? null : classModel.getClassCustomization());
+            customization = classModel == null ? null : classModel.getClassCustomization();
         }
-        return deserializerBuilder.build();
+        return newUnmarshallerItemBuilder(wrapper, ctx, event)
+                .withType(actualValueType)
+                .withCustomization(customization)
+                .buildPlan();
     }
 
     /**
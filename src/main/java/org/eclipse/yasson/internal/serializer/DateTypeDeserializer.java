@@ -16,11 +16,12 @@
 package org.eclipse.yasson.internal.serializer;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
 import java.util.Date;
 import java.util.Locale;
 
@@ -73,13 +74,11 @@ public class DateTypeDeserializer extends AbstractDateTimeDeserializer<Date> {
      * @return Parsed date on base of a java.time.ZonedDateTime
      */
     private TemporalAccessor parseWithOrWithoutZone(String jsonValue, DateTimeFormatter formatter, ZoneId defaultZone) {
-        try {
-            // Try parsing with a Zone
-            return ZonedDateTime.parse(jsonValue, formatter);
-        } catch (DateTimeParseException e) {
-            // Possibly exception occures because no Offset/ZoneId was found
-            // Therefore parse with defaultZone again
-            return ZonedDateTime.parse(jsonValue, formatter.withZone(defaultZone));
+        final TemporalAccessor parsed = formatter.parse(jsonValue);
+        if (parsed.query(TemporalQueries.zone()) == null) {
+            // No Offset/ZoneId was found, value is in defaultZone
+            return LocalDateTime.from(parsed).atZone(defaultZone);
         }
+        return ZonedDateTime.from(parsed);
     }
 }
@@ -193,6 +193,7 @@ public class DefaultSerializers {
                 || Map.class.isAssignableFrom(clazz)
                 || JsonValue.class.isAssignableFrom(clazz)
                 || Optional.class.isAssignableFrom(clazz)
+                || IterationSerializer.isIteratorType(clazz)
                 || clazz.isArray();
 
         return knownContainerValueType || findValueSerializerProvider(clazz).isPresent();
@@ -16,12 +16,14 @@
 package org.eclipse.yasson.internal.serializer;
 
 import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import javax.json.JsonValue;
 import javax.json.bind.JsonbException;
@@ -31,6 +33,7 @@ import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.ComponentMatcher;
 import org.eclipse.yasson.internal.JsonbContext;
+import org.eclipse.yasson.internal.MappingContext;
 import org.eclipse.yasson.internal.ReflectionUtils;
 import org.eclipse.yasson.internal.components.AdapterBinding;
 import org.eclipse.yasson.internal.components.DeserializerBinding;
@@ -70,16 +73,54 @@ public class DeserializerBuilder extends AbstractSerializerBuilder<DeserializerB
         return this;
     }
 
+    /**
+     * Value type of JSON event.
+     *
+     * @return last json event for constructed deserializer
+     */
+    JsonParser.Event getJsonValueType() {
+        return jsonEvent;
+    }
+
     /**
      * Build an fully initialized item.
      *
      * @return built item
      */
     public JsonbDeserializer<?> build() {
+        return buildPlan().newDeserializer(getJsonbContext(), getWrapper());
+    }
+
+    /**
+     * Builds a deserialization plan for the item.
+     * Plans for resolved types doesn't depend on a wrapper item and are cached in
+     * {@link org.eclipse.yasson.internal.MappingContext}.
+     *
+     * @return deserialization plan
+     */
+    public DeserializerPlan buildPlan() {
+        final Type type = getGenericType() != null ? getGenericType() : getRuntimeType();
+        if (!ReflectionUtils.isResolvedType(type)) {
+            return resolvePlan();
+        }
+        final MappingContext mappingContext = getJsonbContext().getMappingContext();
+        final CurrentItem<?> wrapper = getWrapper();
+        final Class<?> wrapperClass = wrapper == null || wrapper.getClassModel() == null
+                ? null
+                : wrapper.getClassModel().getType();
+        DeserializerPlan plan = mappingContext.getDeserializerPlan(type, getCustomization(), jsonEvent, wrapperClass);
+        if (plan == null) {
+            plan = resolvePlan();
+            mappingContext.addDeserializerPlan(type, getCustomization(), jsonEvent, wrapperClass, plan);
+        }
+        return plan;
+    }
+
+    private DeserializerPlan resolvePlan() {
         withRuntimeType(resolveRuntimeType());
         Class<?> rawType = ReflectionUtils.getRawType(getRuntimeType());
 
-        Optional<AdapterBinding> adapterInfoOptional = Optional.empty();
+        AdapterBinding adapterBinding = null;
         Customization customization = getCustomization();
         if (customization == null
                 || customization instanceof ComponentBoundCustomization) {
@@ -90,23 +131,22 @@ public class DeserializerBuilder extends AbstractSerializerBuilder<DeserializerB
             Optional<DeserializerBinding<?>> userDeserializer =
                     componentMatcher.getDeserializerBinding(getRuntimeType(), componentBoundCustomization);
             if (userDeserializer.isPresent()) {
-                return new UserDeserializerDeserializer<>(this, userDeserializer.get());
+                final DeserializerBinding<?> deserializerBinding = userDeserializer.get();
+                return plan(null, false, builder -> new UserDeserializerDeserializer<>(builder, deserializerBinding));
             }
 
             //Second user components is registered.
-            Optional<AdapterBinding> adapterBinding = componentMatcher
+            Optional<AdapterBinding> adapterBindingOptional = componentMatcher
                     .getDeserializeAdapterBinding(getRuntimeType(), componentBoundCustomization);
-            if (adapterBinding.isPresent()) {
-                adapterInfoOptional = adapterBinding;
-                withRuntimeType(adapterInfoOptional.get().getToType());
-                withWrapper(new AdaptedObjectDeserializer<>(adapterInfoOptional.get(),
-                                                            (AbstractContainerDeserializer<?>) getWrapper()));
+            if (adapterBindingOptional.isPresent()) {
+                adapterBinding = adapterBindingOptional.get();
+                withRuntimeType(adapterBinding.getToType());
                 rawType = ReflectionUtils.getRawType(getRuntimeType());
             }
         }
 
         if (Optional.class == rawType) {
-            return new OptionalObjectDeserializer(this);
+            return plan(adapterBinding, false, OptionalObjectDeserializer::new);
         }
 
         //In case of Base64 json value would be string and recognition by JsonValueType would not work
@@ -114,14 +154,14 @@ public class DeserializerBuilder extends AbstractSerializerBuilder<DeserializerB
             String strategy = getJsonbContext().getConfigProperties().getBinaryDataStrategy();
             switch (strategy) {
             case BinaryDataStrategy.BYTE:
-                return new ByteArrayDeserializer(this);
+                return plan(adapterBinding, false, ByteArrayDeserializer::new);
             default:
-                return new ByteArrayBase64Deserializer(customization);
+                return new DeserializerPlan(new ByteArrayBase64Deserializer(customization));
             }
         }
 
         if (isCharArray(rawType)) {
-            return new CharArrayDeserializer(this);
+            return plan(adapterBinding, false, CharArrayDeserializer::new);
         }
 
         //Third deserializer is a supported value type to deserialize to JSON_VALUE
@@ -129,35 +169,34 @@ public class DeserializerBuilder extends AbstractSerializerBuilder<DeserializerB
             final Optional<AbstractValueTypeDeserializer<?>> supportedTypeDeserializer = getSupportedTypeDeserializer(rawType);
             if (!supportedTypeDeserializer.isPresent()) {
                 if (jsonEvent == JsonParser.Event.VALUE_NULL) {
-                    return NullDeserializer.INSTANCE;
+                    return new DeserializerPlan(NullDeserializer.INSTANCE);
                 }
                 throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR, getRuntimeType()));
             }
-            return wrapAdapted(adapterInfoOptional, supportedTypeDeserializer.get());
+            final AbstractValueTypeDeserializer<?> valueTypeDeserializer = supportedTypeDeserializer.get();
+            if (adapterBinding == null) {
+                return new DeserializerPlan(valueTypeDeserializer);
+            }
+            return plan(adapterBinding, true, builder -> valueTypeDeserializer);
         }
 
-        JsonbDeserializer<?> deserializer;
         if (jsonEvent == JsonParser.Event.START_ARRAY) {
             if (JsonValue.class.isAssignableFrom(rawType)) {
-                return wrapAdapted(adapterInfoOptional, new JsonArrayDeserializer(this));
+                return plan(adapterBinding, true, JsonArrayDeserializer::new);
             } else if (Map.class.isAssignableFrom(rawType)) {
-                final JsonbDeserializer<?> mapDeserializer = new MapEntriesArrayDeserializer<>(this);
-                return wrapAdapted(adapterInfoOptional, mapDeserializer);
+                return plan(adapterBinding, true, MapEntriesArrayDeserializer::new);
             } else if (rawType.isArray() || getRuntimeType() instanceof GenericArrayType) {
-                deserializer = createArrayItem(rawType.getComponentType());
-                return wrapAdapted(adapterInfoOptional, deserializer);
+                return plan(adapterBinding, true, arrayItemFactory(rawType.getComponentType()));
             } else if (Collection.class.isAssignableFrom(rawType)) {
-                deserializer = new CollectionDeserializer<>(this);
-                return wrapAdapted(adapterInfoOptional, deserializer);
+                return plan(adapterBinding, true, CollectionDeserializer::new);
             } else {
                 throw new JsonbException("Can't deserialize JSON array into: " + getRuntimeType());
             }
         } else if (jsonEvent == JsonParser.Event.START_OBJECT) {
             if (JsonValue.class.isAssignableFrom(rawType)) {
-                return wrapAdapted(adapterInfoOptional, new JsonObjectDeserializer(this));
+                return plan(adapterBinding, true, JsonObjectDeserializer::new);
             } else if (Map.class.isAssignableFrom(rawType)) {
-                final JsonbDeserializer<?> mapDeserializer = new MapDeserializer<>(this);
-                return wrapAdapted(adapterInfoOptional, mapDeserializer);
+                return plan(adapterBinding, true, mapDeserializerFactory());
             } else if (rawType.isInterface()) {
                 Class<?> mappedType = getInterfaceMappedType(rawType);
                 if (mappedType == null) {
@@ -165,22 +204,36 @@ public class DeserializerBuilder extends AbstractSerializerBuilder<DeserializerB
                 }
                 withRuntimeType(mappedType);
                 withClassModel(getClassModel(mappedType));
-                return new ObjectDeserializer<>(this);
+                return plan(adapterBinding, false, ObjectDeserializer::new);
             } else {
-                if (adapterInfoOptional.isPresent()) {
-                    withRuntimeType(adapterInfoOptional.get().getToType());
-                    rawType = ReflectionUtils.getRawType(getRuntimeType());
-                }
-
                 withClassModel(getClassModel(rawType));
-
-                deserializer = new ObjectDeserializer<>(this);
-                return wrapAdapted(adapterInfoOptional, deserializer);
+                return plan(adapterBinding, true, ObjectDeserializer::new);
             }
         }
         throw new JsonbException("unresolved type for deserialization: " + getRuntimeType());
     }
 
+    /**
+     * Key codec of a resolved map type is resolved once and shared by all maps deserialized by the plan.
+     */
+    private Function<DeserializerBuilder, JsonbDeserializer<?>> mapDeserializerFactory() {
+        final Type mapType = getRuntimeType();
+        if (!ReflectionUtils.isResolvedType(mapType)) {
+            return MapDeserializer::new;
+        }
+        final Type keyType = mapType instanceof ParameterizedType
+                ? ((ParameterizedType) mapType).getActualTypeArguments()[0]
+                : Object.class;
+        final MapKeyCodec keyCodec = MapKeyCodec.forKeyType(keyType, getJsonbContext().getMappingContext());
+        return builder -> new MapDeserializer<>(builder, keyCodec);
+    }
+
+    private DeserializerPlan plan(AdapterBinding adapterBinding,
+                                  boolean wrapAdapted,
+                                  Function<DeserializerBuilder, JsonbDeserializer<?>> factory) {
+        return new DeserializerPlan(this, adapterBinding, wrapAdapted, factory);
+    }
+
     /**
      * Checks if event is a value event.
      *
@@ -210,19 +263,6 @@ public class DeserializerBuilder extends AbstractSerializerBuilder<DeserializerB
         return Optional.empty();
     }
 
-    @SuppressWarnings("unchecked")
-    private JsonbDeserializer<?> wrapAdapted(Optional<AdapterBinding> adapterInfoOptional, JsonbDeserializer<?> item) {
-        final Optional<JsonbDeserializer<?>> adaptedDeserializerOptional = adapterInfoOptional.map(adapterInfo -> {
-            setAdaptedItemCaptor((AdaptedObjectDeserializer) getWrapper(), item);
-            return (JsonbDeserializer<?>) getWrapper();
-        });
-        return adaptedDeserializerOptional.orElse(item);
-    }
-
-    private <T, A> void setAdaptedItemCaptor(AdaptedObjectDeserializer<T, A> decoratorItem, JsonbDeserializer<T> adaptedItem) {
-        decoratorItem.setAdaptedTypeDeserializer(adaptedItem);
-    }
-
     private Type resolveRuntimeType() {
         Type result = ReflectionUtils.resolveType(getWrapper(), getGenericType() != null ? getGenericType() : getRuntimeType());
         //Try to infer best from JSON event.
@@ -276,21 +316,21 @@ public class DeserializerBuilder extends AbstractSerializerBuilder<DeserializerB
      * Instance is not created in case of array items, because, we don't know how long it should be
      * till parser ends parsing.
      */
-    private JsonbDeserializer<?> createArrayItem(Class<?> componentType) {
+    private Function<DeserializerBuilder, JsonbDeserializer<?>> arrayItemFactory(Class<?> componentType) {
         if (componentType == byte.class) {
-            return new ByteArrayDeserializer(this);
+            return ByteArrayDeserializer::new;
         } else if (componentType == short.class) {
-            return new ShortArrayDeserializer(this);
+            return ShortArrayDeserializer::new;
         } else if (componentType == int.class) {
-            return new IntArrayDeserializer(this);
+            return IntArrayDeserializer::new;
         } else if (componentType == long.class) {
-            return new LongArrayDeserializer(this);
+            return LongArrayDeserializer::new;
         } else if (componentType == float.class) {
-            return new FloatArrayDeserializer(this);
+            return FloatArrayDeserializer::new;
         } else if (componentType == double.class) {
-            return new DoubleArrayDeserializer(this);
+            return DoubleArrayDeserializer::new;
         } else {
-            return new ObjectArrayDeserializer(this);
+            return ObjectArrayDeserializer::new;
         }
     }
 
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.json.bind.serializer.JsonbDeserializer;
+import javax.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.JsonbContext;
+import org.eclipse.yasson.internal.components.AdapterBinding;
+import org.eclipse.yasson.internal.model.ClassModel;
+import org.eclipse.yasson.internal.model.customization.Customization;
+
+/**
+ * Resolved deserialization plan for a combination of type, customization and JSON event.
+ * <p>
+ * Plan holds results of user component matching, type resolution and class model lookup done by
+ * {@link DeserializerBuilder}. It is immutable and can be shared between threads. Stateless deserializers
+ * (such as value type deserializers) are shared directly, container deserializers holding instance under
+ * construction and parser level context are created per deserialized value as lightweight frames.
+ * </p>
+ * <p>
+ * Plans are held for classes, which may outlive the {@link JsonbContext} resolving them, so a plan doesn't
+ * reference the context. It is passed to each created deserializer instead.
+ * </p>
+ */
+public final class DeserializerPlan {
+
+    private final JsonbDeserializer<?> sharedDeserializer;
+
+    private final ClassModel classModel;
+
+    private final Type runtimeType;
+
+    private final Type genericType;
+
+    private final Customization customization;
+
+    private final JsonParser.Event jsonEvent;
+
+    private final Function<DeserializerBuilder, JsonbDeserializer<?>> factory;
+
+    private final AdapterBinding adapterBinding;
+
+    private final boolean wrapAdapted;
+
+    /**
+     * Creates a plan of a stateless deserializer, which is shared by all deserialized values.
+     *
+     * @param sharedDeserializer Stateless deserializer, not null.
+     */
+    DeserializerPlan(JsonbDeserializer<?> sharedDeserializer) {
+        this.sharedDeserializer = Objects.requireNonNull(sharedDeserializer);
+        this.classModel = null;
+        this.runtimeType = null;
+        this.genericType = null;
+        this.customization = null;
+        this.jsonEvent = null;
+        this.factory = null;
+        this.adapterBinding = null;
+        this.wrapAdapted = false;
+    }
+
+    /**
+     * Creates a plan of a deserializer, which is instantiated for each deserialized value.
+     *
+     * @param resolved       Resolved builder, its state without the wrapper and the context is kept, not null.
+     * @param adapterBinding Adapter of deserialized type, null if none.
+     * @param wrapAdapted    If created deserializer should be decorated with adapter.
+     * @param factory        Creates deserializer from builder with a wrapper set, not null.
+     */
+    DeserializerPlan(DeserializerBuilder resolved,
+                     AdapterBinding adapterBinding,
+                     boolean wrapAdapted,
+                     Function<DeserializerBuilder, JsonbDeserializer<?>> factory) {
+        this.sharedDeserializer = null;
+        this.classModel = resolved.getClassModel();
+        this.runtimeType = resolved.getRuntimeType();
+        this.genericType = resolved.getGenericType();
+        this.customization = resolved.getCustomization();
+        this.jsonEvent = resolved.getJsonValueType();
+        this.factory = Objects.requireNonNull(factory);
+        this.adapterBinding = adapterBinding;
+        this.wrapAdapted = wrapAdapted;
+    }
+
+    /**
+     * Returns deserializer for a value wrapped by given item.
+     *
+     * @param jsonbContext Context of the deserialization, not null.
+     * @param wrapper      Wrapper item of deserialized value, null for a root value.
+     * @return Deserializer to use.
+     */
+    public JsonbDeserializer<?> newDeserializer(JsonbContext jsonbContext, CurrentItem<?> wrapper) {
+        if (sharedDeserializer != null) {
+            return sharedDeserializer;
+        }
+        if (adapterBinding == null) {
+            return factory.apply(newBuilder(jsonbContext, wrapper));
+        }
+        AdaptedObjectDeserializer<?, ?> adaptedDeserializer =
+                new AdaptedObjectDeserializer<>(adapterBinding, (AbstractContainerDeserializer<?>) wrapper);
+        JsonbDeserializer<?> deserializer = factory.apply(newBuilder(jsonbContext, adaptedDeserializer));
+        if (!wrapAdapted) {
+            return deserializer;
+        }
+        setAdaptedItemCaptor(adaptedDeserializer, deserializer);
+        return adaptedDeserializer;
+    }
+
+    /**
+     * Whether plan shares a single stateless deserializer for all values.
+     *
+     * @return True if deserializer is shared.
+     */
+    public boolean isShared() {
+        return sharedDeserializer != null;
+    }
+
+    private DeserializerBuilder newBuilder(JsonbContext jsonbContext, CurrentItem<?> wrapper) {
+        return new DeserializerBuilder(jsonbContext)
+                .withWrapper(wrapper)
+                .withClassModel(classModel)
+                .withRuntimeType(runtimeType)
+                .withType(genericType)
+                .withCustomization(customization)
+                .withJsonValueType(jsonEvent);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> void setAdaptedItemCaptor(AdaptedObjectDeserializer<A, ?> decoratorItem,
+                                                 JsonbDeserializer<?> adaptedItem) {
+        decoratorItem.setAdaptedTypeDeserializer((JsonbDeserializer<A>) adaptedItem);
+    }
+}
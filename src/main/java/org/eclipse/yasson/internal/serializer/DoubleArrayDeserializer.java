@@ -14,17 +14,24 @@
 
 package org.eclipse.yasson.internal.serializer;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 
 /**
  * Array unmarshaller item implementation for small double.
  */
-public class DoubleArrayDeserializer extends AbstractArrayDeserializer<double[]> {
+public class DoubleArrayDeserializer extends AbstractPrimitiveArrayDeserializer<double[]> {
+
+    private static final String POSITIVE_INFINITY = "POSITIVE_INFINITY";
+    private static final String NEGATIVE_INFINITY = "NEGATIVE_INFINITY";
+    private static final String NAN = "NaN";
+
+    private double[] items = new double[INITIAL_CAPACITY];
 
-    private final List<Double> items = new ArrayList<>();
+    private int size;
 
     /**
      * Creates new instance of double array deserializer.
@@ -32,21 +39,44 @@ public class DoubleArrayDeserializer extends AbstractArrayDeserializer<double[]>
      * @param builder deserializer builder
      */
     protected DoubleArrayDeserializer(DeserializerBuilder builder) {
-        super(builder);
+        super(builder, Double.class);
     }
 
     @Override
-    protected List<?> getItems() {
-        return items;
+    protected void appendNumber(JsonParser parser) {
+        append(AbstractNumberDeserializer.readDouble(parser));
     }
 
     @Override
-    public double[] getInstance(Unmarshaller unmarshaller) {
-        final int size = items.size();
-        final double[] doubleArray = new double[size];
-        for (int i = 0; i < size; i++) {
-            doubleArray[i] = items.get(i);
+    protected void appendString(String value) {
+        switch (value) {
+        case NAN:
+            append(Double.NaN);
+            break;
+        case POSITIVE_INFINITY:
+            append(Double.POSITIVE_INFINITY);
+            break;
+        case NEGATIVE_INFINITY:
+            append(Double.NEGATIVE_INFINITY);
+            break;
+        default:
+            try {
+                append(Double.parseDouble(value));
+            } catch (NumberFormatException e) {
+                throw valueError();
+            }
         }
-        return doubleArray;
+    }
+
+    private void append(double value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+        }
+        items[size++] = value;
+    }
+
+    @Override
+    public double[] getInstance(Unmarshaller unmarshaller) {
+        return size == items.length ? items : Arrays.copyOf(items, size);
     }
 }
@@ -17,6 +17,7 @@ package org.eclipse.yasson.internal.serializer;
 import java.lang.reflect.Type;
 
 import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
@@ -63,4 +64,9 @@ public class DoubleTypeDeserializer extends AbstractNumberDeserializer<Double> {
                     });
         }
     }
+
+    @Override
+    protected Double deserializeNumber(JsonParser parser) {
+        return readDouble(parser);
+    }
 }
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import java.util.Arrays;
+
+import javax.json.bind.JsonbException;
+import javax.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.internal.JsonbUtf8Generator;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+/**
+ * Names of constants of an enum type, precomputed for serialization and deserialization.
+ * <p>
+ * Names are kept by ordinal, together with their encoded forms written by {@link JsonbUtf8Generator} without
+ * escaping. Constants are found by name in an open addressing table, which is sized so that hashes of names
+ * don't collide whenever possible. Instances are immutable and cached per enum type by
+ * {@link org.eclipse.yasson.internal.MappingContext}.
+ * </p>
+ *
+ * @param <E> Enum type.
+ */
+public final class EnumCodec<E extends Enum<E>> {
+
+    /**
+     * How many times can the table grow over its minimal size to avoid collisions.
+     */
+    private static final int MAX_TABLE_GROWTH = 8;
+
+    private final Class<E> enumClass;
+
+    private final String[] names;
+
+    private final byte[][] encodedNames;
+
+    private final byte[][] encodedKeys;
+
+    private final Object[] table;
+
+    private final int mask;
+
+    /**
+     * Creates names of constants of given enum type.
+     *
+     * @param enumClass Enum type, not null.
+     */
+    public EnumCodec(Class<E> enumClass) {
+        this.enumClass = enumClass;
+        final E[] constants = enumClass.getEnumConstants();
+        this.names = new String[constants.length];
+        this.encodedNames = new byte[constants.length][];
+        this.encodedKeys = new byte[constants.length][];
+        for (E constant : constants) {
+            final String name = constant.name();
+            names[constant.ordinal()] = name;
+            encodedNames[constant.ordinal()] = JsonbUtf8Generator.encodeString(name);
+            encodedKeys[constant.ordinal()] = JsonbUtf8Generator.encodeKey(name);
+        }
+        this.table = createTable(constants);
+        this.mask = table.length - 1;
+    }
+
+    private static Object[] createTable(Enum<?>[] constants) {
+        //at most half full, so that lookup of an unknown name always ends on an empty slot
+        final int minSize = Integer.highestOneBit(Math.max(constants.length, 1)) << 2;
+        for (int size = minSize; ; size <<= 1) {
+            final Object[] table = new Object[size];
+            final boolean last = size >= minSize * MAX_TABLE_GROWTH;
+            boolean collision = false;
+            for (Enum<?> constant : constants) {
+                int index = index(constant.name().hashCode(), size - 1);
+                if (table[index] != null) {
+                    if (!last) {
+                        collision = true;
+                        break;
+                    }
+                    while (table[index] != null) {
+                        index = (index + 1) & (size - 1);
+                    }
+                }
+                table[index] = constant;
+            }
+            if (!collision) {
+                return table;
+            }
+        }
+    }
+
+    private static int index(int hash, int mask) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Enum type of this codec.
+     *
+     * @return Enum type.
+     */
+    public Class<E> getEnumClass() {
+        return enumClass;
+    }
+
+    /**
+     * Name of a constant.
+     *
+     * @param constant Enum constant, not null.
+     * @return Name of the constant.
+     */
+    public String getName(E constant) {
+        return names[constant.ordinal()];
+    }
+
+    /**
+     * Finds constant by its name.
+     *
+     * @param name Name of a constant.
+     * @return Constant or null if there is no constant of given name.
+     */
+    @SuppressWarnings("unchecked")
+    public E getConstant(String name) {
+        for (int i = index(name.hashCode(), mask); ; i = (i + 1) & mask) {
+            final E constant = (E) table[i];
+            if (constant == null || names[constant.ordinal()].equals(name)) {
+                return constant;
+            }
+        }
+    }
+
+    /**
+     * Finds constant by its name, {@link JsonbException} is thrown if there is none.
+     *
+     * @param name Name of a constant.
+     * @return Constant of given name.
+     */
+    public E parse(String name) {
+        final E constant = getConstant(name);
+        if (constant == null) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.ENUM_CONSTANT_NOT_FOUND,
+                                                         name, enumClass.getName(), Arrays.toString(names)));
+        }
+        return constant;
+    }
+
+    /**
+     * Writes name of a constant as a value.
+     *
+     * @param constant  Enum constant, not null.
+     * @param generator Generator to write with.
+     */
+    public void write(E constant, JsonGenerator generator) {
+        if (generator instanceof JsonbUtf8Generator) {
+            ((JsonbUtf8Generator) generator).writeEncoded(encodedNames[constant.ordinal()]);
+        } else {
+            generator.write(names[constant.ordinal()]);
+        }
+    }
+
+    /**
+     * Writes name of a constant as a property name.
+     *
+     * @param constant  Enum constant, not null.
+     * @param generator Generator to write with.
+     */
+    public void writeKey(E constant, JsonGenerator generator) {
+        if (generator instanceof JsonbUtf8Generator) {
+            ((JsonbUtf8Generator) generator).writeKey(encodedKeys[constant.ordinal()]);
+        } else {
+            generator.writeKey(names[constant.ordinal()]);
+        }
+    }
+}
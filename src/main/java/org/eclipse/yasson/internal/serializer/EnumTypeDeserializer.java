@@ -24,6 +24,11 @@ import org.eclipse.yasson.internal.model.customization.Customization;
  */
 public class EnumTypeDeserializer extends AbstractValueTypeDeserializer<Enum> {
 
+    /**
+     * Codec of last deserialized enum type.
+     */
+    private EnumCodec<?> codec;
+
     /**
      * Creates a new instance.
      *
@@ -36,6 +41,11 @@ public class EnumTypeDeserializer extends AbstractValueTypeDeserializer<Enum> {
     @Override
     @SuppressWarnings("unchecked")
     protected Enum deserialize(String jsonValue, Unmarshaller unmarshaller, Type rtType) {
-        return Enum.valueOf((Class<Enum>) rtType, jsonValue);
+        EnumCodec<?> current = codec;
+        if (current == null || current.getEnumClass() != rtType) {
+            current = unmarshaller.getMappingContext().getEnumCodec((Class) rtType);
+            codec = current;
+        }
+        return current.parse(jsonValue);
     }
 }
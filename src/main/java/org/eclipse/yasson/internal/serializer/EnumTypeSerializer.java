@@ -24,6 +24,11 @@ import org.eclipse.yasson.internal.model.customization.Customization;
  */
 public class EnumTypeSerializer extends AbstractValueTypeSerializer<Enum> {
 
+    /**
+     * Codec of last serialized enum type.
+     */
+    private EnumCodec codec;
+
     /**
      * Creates a new instance.
      *
@@ -34,7 +39,13 @@ public class EnumTypeSerializer extends AbstractValueTypeSerializer<Enum> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     protected void serialize(Enum obj, JsonGenerator generator, Marshaller marshaller) {
-        generator.write(obj.name());
+        EnumCodec current = codec;
+        if (current == null || current.getEnumClass() != obj.getDeclaringClass()) {
+            current = marshaller.getMappingContext().getEnumCodec(obj.getDeclaringClass());
+            codec = current;
+        }
+        current.write(obj, generator);
     }
 }
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.regex.Pattern;
+
+/**
+ * Formatter of numbers with a fixed number of fraction digits, producing the same output as {@link DecimalFormat}
+ * with patterns like {@code 0.00}, {@code #0.000} or {@code #,##0.00}.
+ * <p>
+ * Instances are immutable and thread safe. Symbols, affixes and grouping are taken from compiled
+ * {@link DecimalFormat}, so the output honors locale the same way.
+ * </p>
+ */
+final class FixedDecimalFormat {
+
+    private static final Pattern FIXED_PATTERN = Pattern.compile("[#,]*0[0,]*(\\.0+)?");
+
+    private final int fractionDigits;
+
+    private final int minimumIntegerDigits;
+
+    private final int groupingSize;
+
+    private final char zeroDigit;
+
+    private final char decimalSeparator;
+
+    private final char groupingSeparator;
+
+    private final String positivePrefix;
+
+    private final String positiveSuffix;
+
+    private final String negativePrefix;
+
+    private final String negativeSuffix;
+
+    private FixedDecimalFormat(DecimalFormat format) {
+        final DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+        this.fractionDigits = format.getMaximumFractionDigits();
+        this.minimumIntegerDigits = format.getMinimumIntegerDigits();
+        this.groupingSize = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+        this.zeroDigit = symbols.getZeroDigit();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.positivePrefix = format.getPositivePrefix();
+        this.positiveSuffix = format.getPositiveSuffix();
+        this.negativePrefix = format.getNegativePrefix();
+        this.negativeSuffix = format.getNegativeSuffix();
+    }
+
+    /**
+     * Creates formatter equivalent to given compiled format if the pattern has a fixed number of fraction digits.
+     *
+     * @param pattern pattern of the format
+     * @param format  compiled format
+     * @return formatter or null if pattern is not supported
+     */
+    static FixedDecimalFormat create(String pattern, DecimalFormat format) {
+        if (!FIXED_PATTERN.matcher(pattern).matches()
+                || format.getMinimumFractionDigits() != format.getMaximumFractionDigits()
+                || format.getMultiplier() != 1
+                || format.getRoundingMode() != RoundingMode.HALF_EVEN
+                || format.isDecimalSeparatorAlwaysShown()
+                || format.isGroupingUsed() && format.getGroupingSize() <= 0) {
+            return null;
+        }
+        return new FixedDecimalFormat(format);
+    }
+
+    /**
+     * Formats number.
+     *
+     * @param number number to format
+     * @return formatted number or null if number type or value is not supported
+     */
+    String format(Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            final long value = number.longValue();
+            final String digits = value == Long.MIN_VALUE
+                    ? Long.toString(value).substring(1)
+                    : Long.toString(Math.abs(value));
+            return build(value < 0, digits, 0);
+        } else if (number instanceof Double || number instanceof Float) {
+            final double value = number.doubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                return null;
+            }
+            return build(Double.doubleToRawLongBits(value) < 0, roundDouble(Math.abs(value)));
+        } else if (number instanceof BigDecimal) {
+            final BigDecimal value = (BigDecimal) number;
+            return build(value.signum() < 0, value.abs().setScale(fractionDigits, RoundingMode.HALF_EVEN));
+        } else if (number instanceof BigInteger) {
+            final BigInteger value = (BigInteger) number;
+            return build(value.signum() < 0, value.abs().toString(), 0);
+        }
+        return null;
+    }
+
+    /**
+     * Rounds double the way {@link DecimalFormat} does. Shortest decimal representation of the double is rounded,
+     * but a tie in it is resolved by the exact binary value.
+     */
+    private BigDecimal roundDouble(double value) {
+        final BigDecimal shortest = BigDecimal.valueOf(value);
+        if (shortest.scale() == fractionDigits + 1 && shortest.unscaledValue().mod(BigInteger.TEN).intValue() == 5) {
+            final int exact = new BigDecimal(value).compareTo(shortest);
+            if (exact != 0) {
+                return shortest.setScale(fractionDigits, exact > 0 ? RoundingMode.UP : RoundingMode.DOWN);
+            }
+        }
+        return shortest.setScale(fractionDigits, RoundingMode.HALF_EVEN);
+    }
+
+    private String build(boolean negative, BigDecimal rounded) {
+        return build(negative, rounded.unscaledValue().toString(), fractionDigits);
+    }
+
+    /**
+     * Builds formatted number.
+     *
+     * @param negative true if sign is negative
+     * @param digits   digits of absolute value
+     * @param scale    number of fraction digits contained in digits
+     * @return formatted number
+     */
+    private String build(boolean negative, String digits, int scale) {
+        final int integerLength = Math.max(digits.length() - scale, 0);
+        final boolean zeroInteger = integerLength == 0 || integerLength == 1 && digits.charAt(0) == '0';
+        final int integerDigits = Math.max(zeroInteger ? 0 : integerLength, minimumIntegerDigits);
+        final StringBuilder builder = new StringBuilder(integerDigits * 2 + fractionDigits + 4);
+        builder.append(negative ? negativePrefix : positivePrefix);
+        for (int i = integerDigits - 1; i >= 0; i--) {
+            //i is the position of the digit counted from the decimal separator
+            final int index = integerLength - 1 - i;
+            final char digit = zeroInteger || index < 0 ? '0' : digits.charAt(index);
+            builder.append((char) (zeroDigit + (digit - '0')));
+            if (groupingSize > 0 && i > 0 && i % groupingSize == 0) {
+                builder.append(groupingSeparator);
+            }
+        }
+        if (fractionDigits > 0) {
+            builder.append(decimalSeparator);
+            final int fractionStart = digits.length() - scale;
+            for (int i = 0; i < fractionDigits; i++) {
+                final int index = fractionStart + i;
+                final char digit = i < scale && index >= 0 ? digits.charAt(index) : '0';
+                builder.append((char) (zeroDigit + (digit - '0')));
+            }
+        }
+        builder.append(negative ? negativeSuffix : positiveSuffix);
+        return builder.toString();
+    }
+}
@@ -14,16 +14,20 @@
 
 package org.eclipse.yasson.internal.serializer;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 
 /**
  * Array unmarshaller item implementation for small float.
  */
-public class FloatArrayDeserializer extends AbstractArrayDeserializer<float[]> {
-    private final List<Float> items = new ArrayList<>();
+public class FloatArrayDeserializer extends AbstractPrimitiveArrayDeserializer<float[]> {
+
+    private float[] items = new float[INITIAL_CAPACITY];
+
+    private int size;
 
     /**
      * Creates new instance of float array deserializer.
@@ -31,21 +35,32 @@ public class FloatArrayDeserializer extends AbstractArrayDeserializer<float[]> {
      * @param builder deserializer builder
      */
     protected FloatArrayDeserializer(DeserializerBuilder builder) {
-        super(builder);
+        super(builder, Float.class);
     }
 
     @Override
-    protected List<?> getItems() {
-        return items;
+    protected void appendNumber(JsonParser parser) {
+        append(AbstractNumberDeserializer.readFloat(parser));
     }
 
     @Override
-    public float[] getInstance(Unmarshaller unmarshaller) {
-        final int size = items.size();
-        final float[] floatArray = new float[size];
-        for (int i = 0; i < size; i++) {
-            floatArray[i] = items.get(i);
+    protected void appendString(String value) {
+        try {
+            append(Float.parseFloat(value));
+        } catch (NumberFormatException e) {
+            throw valueError();
         }
-        return floatArray;
+    }
+
+    private void append(float value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+        }
+        items[size++] = value;
+    }
+
+    @Override
+    public float[] getInstance(Unmarshaller unmarshaller) {
+        return size == items.length ? items : Arrays.copyOf(items, size);
     }
 }
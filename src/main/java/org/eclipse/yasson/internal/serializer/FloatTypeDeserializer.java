@@ -17,6 +17,7 @@ package org.eclipse.yasson.internal.serializer;
 import java.lang.reflect.Type;
 
 import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
@@ -49,4 +50,9 @@ public class FloatTypeDeserializer extends AbstractNumberDeserializer<Float> {
                     }
                 });
     }
+
+    @Override
+    protected Float deserializeNumber(JsonParser parser) {
+        return readFloat(parser);
+    }
 }
@@ -43,11 +43,20 @@ public class InstantTypeDeserializer extends AbstractDateTimeDeserializer<Instan
 
     @Override
     protected Instant parseDefault(String jsonValue, Locale locale) {
+        final Instant parsed = IsoDateTimeFormat.parseInstant(jsonValue);
+        if (parsed != null) {
+            return parsed;
+        }
         return Instant.from(DEFAULT_FORMATTER.withLocale(locale).parse(jsonValue));
     }
 
+    @Override
+    protected DateTimeFormatter prepareFormatter(DateTimeFormatter formatter) {
+        return getZonedFormatter(formatter);
+    }
+
     @Override
     protected Instant parseWithFormatter(String jsonValue, DateTimeFormatter formatter) {
-        return Instant.from(getZonedFormatter(formatter).parse(jsonValue));
+        return Instant.from(formatter.parse(jsonValue));
     }
 }
@@ -25,6 +25,8 @@ import org.eclipse.yasson.internal.model.customization.Customization;
  */
 public class InstantTypeSerializer extends AbstractDateTimeSerializer<Instant> {
 
+    private static final DateTimeFormatter IJSON_FORMATTER = JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC);
+
     /**
      * Creates a new instance.
      *
@@ -41,17 +43,18 @@ public class InstantTypeSerializer extends AbstractDateTimeSerializer<Instant> {
 
     @Override
     protected String formatDefault(Instant value, Locale locale) {
-        return DateTimeFormatter.ISO_INSTANT.withLocale(locale).format(value);
+        final String formatted = IsoDateTimeFormat.format(value);
+        return formatted != null ? formatted : DateTimeFormatter.ISO_INSTANT.withLocale(locale).format(value);
     }
 
     @Override
-    protected String formatWithFormatter(Instant value, DateTimeFormatter formatter) {
-        return formatter.withZone(UTC).format(value);
+    protected DateTimeFormatter prepareFormatter(DateTimeFormatter formatter) {
+        return formatter.withZone(UTC);
     }
 
     @Override
     protected String formatStrictIJson(Instant value) {
-        return JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC).format(value);
+        return IJSON_FORMATTER.format(value);
     }
 
 }
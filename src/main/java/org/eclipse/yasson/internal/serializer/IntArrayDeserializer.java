@@ -14,17 +14,20 @@
 
 package org.eclipse.yasson.internal.serializer;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 
 /**
  * Array unmarshaller item implementation for small int.
  */
-public class IntArrayDeserializer extends AbstractArrayDeserializer<int[]> {
+public class IntArrayDeserializer extends AbstractPrimitiveArrayDeserializer<int[]> {
+
+    private int[] items = new int[INITIAL_CAPACITY];
 
-    private final List<Integer> items = new ArrayList<>();
+    private int size;
 
     /**
      * Creates new instance of int array deserializer.
@@ -32,21 +35,32 @@ public class IntArrayDeserializer extends AbstractArrayDeserializer<int[]> {
      * @param builder deserializer builder
      */
     protected IntArrayDeserializer(DeserializerBuilder builder) {
-        super(builder);
+        super(builder, Integer.class);
     }
 
     @Override
-    protected List<?> getItems() {
-        return items;
+    protected void appendNumber(JsonParser parser) {
+        append((int) readIntegral(parser, Integer.MIN_VALUE, Integer.MAX_VALUE));
     }
 
     @Override
-    public int[] getInstance(Unmarshaller unmarshaller) {
-        final int size = items.size();
-        final int[] intArray = new int[size];
-        for (int i = 0; i < size; i++) {
-            intArray[i] = items.get(i);
+    protected void appendString(String value) {
+        try {
+            append(Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            throw valueError();
+        }
+    }
+
+    private void append(int value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
         }
-        return intArray;
+        items[size++] = value;
+    }
+
+    @Override
+    public int[] getInstance(Unmarshaller unmarshaller) {
+        return size == items.length ? items : Arrays.copyOf(items, size);
     }
 }
@@ -17,6 +17,7 @@ package org.eclipse.yasson.internal.serializer;
 import java.lang.reflect.Type;
 
 import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
@@ -50,4 +51,13 @@ public class IntegerTypeDeserializer extends AbstractNumberDeserializer<Integer>
                     }
                 });
     }
+
+    @Override
+    protected Integer deserializeNumber(JsonParser parser) {
+        try {
+            return (int) readIntegral(parser, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        } catch (ArithmeticException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR, Integer.class));
+        }
+    }
 }
@@ -0,0 +1,339 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Allocation light formatting and parsing of the most common ISO-8601 shapes of default date formats.
+ * <p>
+ * Only four digit years and shapes which are produced by the ISO formatters are handled. Methods return null
+ * for anything else, in which case caller falls back to {@link java.time.format.DateTimeFormatter}, so
+ * results and errors are always the same as with the ISO formatters.
+ * </p>
+ */
+final class IsoDateTimeFormat {
+
+    /**
+     * Epoch second of 0000-01-01T00:00:00Z.
+     */
+    private static final long MIN_FOUR_DIGIT_SECOND = -62167219200L;
+
+    /**
+     * Epoch second of 9999-12-31T23:59:59Z.
+     */
+    private static final long MAX_FOUR_DIGIT_SECOND = 253402300799L;
+
+    private static final int NANO_DIGITS = 9;
+
+    private static final int DATE_LENGTH = 10;
+
+    private static final int DATE_TIME_LENGTH = 19;
+
+    private IsoDateTimeFormat() {
+        throw new IllegalStateException("Utility classes should not be instantiated.");
+    }
+
+    /**
+     * Formats as {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE}.
+     *
+     * @param value value to format
+     * @return formatted value or null if year has not four digits
+     */
+    static String format(LocalDate value) {
+        if (!isFourDigitYear(value.getYear())) {
+            return null;
+        }
+        final StringBuilder builder = new StringBuilder(DATE_LENGTH);
+        appendDate(builder, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+        return builder.toString();
+    }
+
+    /**
+     * Formats as {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     *
+     * @param value value to format
+     * @return formatted value or null if year has not four digits
+     */
+    static String format(LocalDateTime value) {
+        if (!isFourDigitYear(value.getYear())) {
+            return null;
+        }
+        return appendDateTime(new StringBuilder(DATE_TIME_LENGTH + NANO_DIGITS + 1), value).toString();
+    }
+
+    /**
+     * Formats as {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+     *
+     * @param value value to format
+     * @return formatted value or null if year has not four digits
+     */
+    static String format(OffsetDateTime value) {
+        if (!isFourDigitYear(value.getYear())) {
+            return null;
+        }
+        final StringBuilder builder = new StringBuilder(DATE_TIME_LENGTH + NANO_DIGITS + 10);
+        return appendDateTime(builder, value.toLocalDateTime()).append(value.getOffset().getId()).toString();
+    }
+
+    /**
+     * Formats as {@link java.time.format.DateTimeFormatter#ISO_INSTANT}.
+     *
+     * @param value value to format
+     * @return formatted value or null if year has not four digits
+     */
+    static String format(Instant value) {
+        final long epochSecond = value.getEpochSecond();
+        if (epochSecond < MIN_FOUR_DIGIT_SECOND || epochSecond > MAX_FOUR_DIGIT_SECOND) {
+            return null;
+        }
+        final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+        final StringBuilder builder = new StringBuilder(DATE_TIME_LENGTH + NANO_DIGITS + 2);
+        appendDate(builder, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+        builder.append('T');
+        appendTime(builder, dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond());
+        final int nano = value.getNano();
+        if (nano != 0) {
+            //ISO instant prints fraction in groups of three digits
+            final int digits = nano % 1000_000 == 0 ? 3 : nano % 1000 == 0 ? 6 : NANO_DIGITS;
+            builder.append('.');
+            appendNano(builder, nano, digits);
+        }
+        return builder.append('Z').toString();
+    }
+
+    /**
+     * Parses text in yyyy-MM-dd shape.
+     *
+     * @param text text to parse
+     * @return parsed value or null if text has other shape
+     * @throws java.time.DateTimeException if value of a field is invalid
+     */
+    static LocalDate parseLocalDate(String text) {
+        if (text.length() != DATE_LENGTH || !isDate(text)) {
+            return null;
+        }
+        return parseDate(text);
+    }
+
+    /**
+     * Parses text in yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]] shape.
+     *
+     * @param text text to parse
+     * @return parsed value or null if text has other shape
+     * @throws java.time.DateTimeException if value of a field is invalid
+     */
+    static LocalDateTime parseLocalDateTime(String text) {
+        return parseDateTime(text, text.length(), true);
+    }
+
+    /**
+     * Parses text in yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]] shape followed by Z or +HH:mm[:ss] offset.
+     *
+     * @param text text to parse
+     * @return parsed value or null if text has other shape
+     * @throws java.time.DateTimeException if value of a field is invalid
+     */
+    static OffsetDateTime parseOffsetDateTime(String text) {
+        final int length = text.length();
+        if (length > 0 && text.charAt(length - 1) == 'Z') {
+            final LocalDateTime dateTime = parseDateTime(text, length - 1, true);
+            return dateTime == null ? null : OffsetDateTime.of(dateTime, ZoneOffset.UTC);
+        }
+        final int offsetStart = offsetStart(text);
+        if (offsetStart < 0) {
+            return null;
+        }
+        final LocalDateTime dateTime = parseDateTime(text, offsetStart, true);
+        if (dateTime == null) {
+            return null;
+        }
+        final int sign = text.charAt(offsetStart) == '-' ? -1 : 1;
+        final int hours = digits(text, offsetStart + 1, 2);
+        final int minutes = digits(text, offsetStart + 4, 2);
+        final int seconds = length - offsetStart == 9 ? digits(text, offsetStart + 7, 2) : 0;
+        return OffsetDateTime.of(dateTime, ZoneOffset.ofHoursMinutesSeconds(sign * hours, sign * minutes, sign * seconds));
+    }
+
+    /**
+     * Parses text in yyyy-MM-ddTHH:mm:ss[.SSSSSSSSS]Z shape.
+     *
+     * @param text text to parse
+     * @return parsed value or null if text has other shape, or it is a leap second or end of day
+     * @throws java.time.DateTimeException if value of a field is invalid
+     */
+    static Instant parseInstant(String text) {
+        final int length = text.length();
+        if (length <= DATE_TIME_LENGTH || text.charAt(length - 1) != 'Z') {
+            return null;
+        }
+        final LocalDateTime dateTime = parseDateTime(text, length - 1, false);
+        return dateTime == null
+                ? null
+                : Instant.ofEpochSecond(dateTime.toEpochSecond(ZoneOffset.UTC), dateTime.getNano());
+    }
+
+    private static LocalDateTime parseDateTime(String text, int end, boolean optionalSeconds) {
+        if (end < DATE_LENGTH + 6 || !isDate(text) || text.charAt(DATE_LENGTH) != 'T' || text.charAt(13) != ':') {
+            return null;
+        }
+        final int hour = digits(text, 11, 2);
+        final int minute = digits(text, 14, 2);
+        if (hour < 0 || minute < 0) {
+            return null;
+        }
+        if (end == DATE_LENGTH + 6) {
+            return optionalSeconds ? LocalDateTime.of(parseDate(text), LocalTime.of(hour, minute)) : null;
+        }
+        if (end < DATE_TIME_LENGTH || text.charAt(16) != ':') {
+            return null;
+        }
+        final int second = digits(text, 17, 2);
+        //leap seconds and end of day are left to the formatter
+        if (second < 0 || second > 59 || (!optionalSeconds && hour > 23)) {
+            return null;
+        }
+        int nano = 0;
+        if (end > DATE_TIME_LENGTH) {
+            final int fractionDigits = end - DATE_TIME_LENGTH - 1;
+            if (text.charAt(DATE_TIME_LENGTH) != '.' || fractionDigits < 1 || fractionDigits > NANO_DIGITS) {
+                return null;
+            }
+            nano = digits(text, DATE_TIME_LENGTH + 1, fractionDigits);
+            if (nano < 0) {
+                return null;
+            }
+            for (int i = fractionDigits; i < NANO_DIGITS; i++) {
+                nano *= 10;
+            }
+        }
+        return LocalDateTime.of(parseDate(text), LocalTime.of(hour, minute, second, nano));
+    }
+
+    private static LocalDate parseDate(String text) {
+        return LocalDate.of(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2));
+    }
+
+    /**
+     * Finds start of +HH:mm or +HH:mm:ss offset at the end of text.
+     *
+     * @return index of sign, or -1 if there is no such offset
+     */
+    private static int offsetStart(String text) {
+        final int length = text.length();
+        if (isOffset(text, length - 6, false)) {
+            return length - 6;
+        }
+        return isOffset(text, length - 9, true) ? length - 9 : -1;
+    }
+
+    private static boolean isOffset(String text, int start, boolean withSeconds) {
+        if (start < DATE_LENGTH + 6) {
+            return false;
+        }
+        final char sign = text.charAt(start);
+        return (sign == '+' || sign == '-')
+                && text.charAt(start + 3) == ':'
+                && digits(text, start + 1, 2) >= 0
+                && digits(text, start + 4, 2) >= 0
+                && (!withSeconds || (text.charAt(start + 6) == ':' && digits(text, start + 7, 2) >= 0));
+    }
+
+    private static boolean isDate(String text) {
+        return text.length() >= DATE_LENGTH
+                && text.charAt(4) == '-'
+                && text.charAt(7) == '-'
+                && digits(text, 0, 4) >= 0
+                && digits(text, 5, 2) >= 0
+                && digits(text, 8, 2) >= 0;
+    }
+
+    /**
+     * Reads unsigned decimal number.
+     *
+     * @return value of digits or -1 if there is a non digit character
+     */
+    private static int digits(String text, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            final char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isFourDigitYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    private static StringBuilder appendDateTime(StringBuilder builder, LocalDateTime value) {
+        appendDate(builder, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+        builder.append('T');
+        appendTime(builder, value.getHour(), value.getMinute(), value.getSecond());
+        final int nano = value.getNano();
+        if (nano != 0) {
+            //local date time formatters print fraction without trailing zeros
+            int digits = NANO_DIGITS;
+            int stripped = nano;
+            while (stripped % 10 == 0) {
+                stripped /= 10;
+                digits--;
+            }
+            builder.append('.');
+            appendNano(builder, nano, digits);
+        }
+        return builder;
+    }
+
+    private static void appendDate(StringBuilder builder, int year, int month, int day) {
+        appendDigits(builder, year, 4);
+        builder.append('-');
+        appendDigits(builder, month, 2);
+        builder.append('-');
+        appendDigits(builder, day, 2);
+    }
+
+    private static void appendTime(StringBuilder builder, int hour, int minute, int second) {
+        appendDigits(builder, hour, 2);
+        builder.append(':');
+        appendDigits(builder, minute, 2);
+        builder.append(':');
+        appendDigits(builder, second, 2);
+    }
+
+    private static void appendNano(StringBuilder builder, int nano, int digits) {
+        int value = nano;
+        for (int i = digits; i < NANO_DIGITS; i++) {
+            value /= 10;
+        }
+        appendDigits(builder, value, digits);
+    }
+
+    private static void appendDigits(StringBuilder builder, int value, int width) {
+        int divisor = 1;
+        for (int i = 1; i < width; i++) {
+            divisor *= 10;
+        }
+        int rest = value;
+        while (divisor > 0) {
+            builder.append((char) ('0' + rest / divisor));
+            rest %= divisor;
+            divisor /= 10;
+        }
+    }
+}
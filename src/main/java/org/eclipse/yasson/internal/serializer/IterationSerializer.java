@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.BaseStream;
+
+import javax.json.bind.serializer.SerializationContext;
+import javax.json.stream.JsonGenerator;
+
+/**
+ * Serializer of one shot element sources: {@link Iterator}, {@link BaseStream stream} and {@link Spliterator}.
+ * <p>
+ * Other {@link Iterable} types are not serialized by this serializer, they are either collections or
+ * regular mapped classes.
+ * </p>
+ * <p>
+ * Elements are written to JSON array as they are pulled from the source, so the source is never materialized.
+ * Generator is flushed periodically, letting written elements reach underlying output. Source is consumed,
+ * but not closed.
+ * </p>
+ */
+public class IterationSerializer extends AbstractContainerSerializer<Object> implements EmbeddedItem {
+
+    /**
+     * Number of elements written between generator flushes.
+     */
+    static final int FLUSH_INTERVAL = 1024;
+
+    /**
+     * Creates new iteration serializer.
+     *
+     * @param builder serializer builder
+     */
+    protected IterationSerializer(SerializerBuilder builder) {
+        super(builder);
+    }
+
+    /**
+     * Checks if a class is a one shot element source, which can't be a regular mapped class.
+     *
+     * @param clazz class to check
+     * @return true if iterator, stream or spliterator
+     */
+    static boolean isIteratorType(Class<?> clazz) {
+        return Iterator.class.isAssignableFrom(clazz)
+                || BaseStream.class.isAssignableFrom(clazz)
+                || Spliterator.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected void serializeInternal(Object source, JsonGenerator generator, SerializationContext ctx) {
+        final Iterator<?> iterator = iterator(source);
+        int count = 0;
+        while (iterator.hasNext()) {
+            serializeItem(iterator.next(), generator, ctx);
+            if (++count == FLUSH_INTERVAL) {
+                generator.flush();
+                count = 0;
+            }
+        }
+    }
+
+    private static Iterator<?> iterator(Object source) {
+        if (source instanceof Iterator) {
+            return (Iterator<?>) source;
+        } else if (source instanceof BaseStream) {
+            return ((BaseStream<?, ?>) source).iterator();
+        }
+        return Spliterators.iterator((Spliterator<?>) source);
+    }
+
+    @Override
+    protected void writeStart(JsonGenerator generator) {
+        generator.writeStartArray();
+    }
+
+    @Override
+    protected void writeStart(String key, JsonGenerator generator) {
+        generator.writeStartArray(key);
+    }
+}
@@ -42,6 +42,10 @@ public class LocalDateTimeTypeDeserializer extends AbstractDateTimeDeserializer<
 
     @Override
     protected LocalDateTime parseDefault(String jsonValue, Locale locale) {
+        final LocalDateTime parsed = IsoDateTimeFormat.parseLocalDateTime(jsonValue);
+        if (parsed != null) {
+            return parsed;
+        }
         return LocalDateTime.parse(jsonValue, DateTimeFormatter.ISO_LOCAL_DATE_TIME.withLocale(locale));
     }
 
@@ -43,12 +43,13 @@ public class LocalDateTimeTypeSerializer extends AbstractDateTimeSerializer<Loca
 
     @Override
     protected String formatDefault(LocalDateTime value, Locale locale) {
-        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.withLocale(locale).format(value);
+        final String formatted = IsoDateTimeFormat.format(value);
+        return formatted != null ? formatted : DateTimeFormatter.ISO_LOCAL_DATE_TIME.withLocale(locale).format(value);
     }
 
     @Override
-    protected String formatWithFormatter(LocalDateTime value, DateTimeFormatter formatter) {
-        return getZonedFormatter(formatter).format(value);
+    protected DateTimeFormatter prepareFormatter(DateTimeFormatter formatter) {
+        return getZonedFormatter(formatter);
     }
 
     @Override
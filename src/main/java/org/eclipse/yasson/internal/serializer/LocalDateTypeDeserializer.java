@@ -42,6 +42,10 @@ public class LocalDateTypeDeserializer extends AbstractDateTimeDeserializer<Loca
 
     @Override
     protected LocalDate parseDefault(String jsonValue, Locale locale) {
+        final LocalDate parsed = IsoDateTimeFormat.parseLocalDate(jsonValue);
+        if (parsed != null) {
+            return parsed;
+        }
         return LocalDate.parse(jsonValue, DateTimeFormatter.ISO_LOCAL_DATE.withLocale(locale));
     }
 
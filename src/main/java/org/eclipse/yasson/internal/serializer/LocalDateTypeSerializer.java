@@ -29,6 +29,8 @@ public class LocalDateTypeSerializer extends AbstractDateTimeSerializer<LocalDat
 
     private static final DateTimeFormatter DEFAULT_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE.withZone(UTC);
 
+    private static final DateTimeFormatter IJSON_FORMATTER = JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC);
+
     /**
      * Creates a new instance.
      *
@@ -45,12 +47,13 @@ public class LocalDateTypeSerializer extends AbstractDateTimeSerializer<LocalDat
 
     @Override
     protected String formatDefault(LocalDate value, Locale locale) {
-        return DEFAULT_FORMAT.withLocale(locale).format(value);
+        final String formatted = IsoDateTimeFormat.format(value);
+        return formatted != null ? formatted : DEFAULT_FORMAT.withLocale(locale).format(value);
     }
 
     @Override
     protected String formatStrictIJson(LocalDate value) {
         final ZonedDateTime zonedDateTime = value.atTime(0, 0, 0).atZone(UTC);
-        return JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC).format(zonedDateTime);
+        return IJSON_FORMATTER.format(zonedDateTime);
     }
 }
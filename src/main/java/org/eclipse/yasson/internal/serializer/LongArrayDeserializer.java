@@ -14,17 +14,20 @@
 
 package org.eclipse.yasson.internal.serializer;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 
 /**
  * Array unmarshaller item implementation for small long.
  */
-public class LongArrayDeserializer extends AbstractArrayDeserializer<long[]> {
+public class LongArrayDeserializer extends AbstractPrimitiveArrayDeserializer<long[]> {
+
+    private long[] items = new long[INITIAL_CAPACITY];
 
-    private final List<Long> items = new ArrayList<>();
+    private int size;
 
     /**
      * Creates new array of long array deserializer.
@@ -32,21 +35,32 @@ public class LongArrayDeserializer extends AbstractArrayDeserializer<long[]> {
      * @param builder deserializer builder
      */
     protected LongArrayDeserializer(DeserializerBuilder builder) {
-        super(builder);
+        super(builder, Long.class);
     }
 
     @Override
-    protected List<?> getItems() {
-        return items;
+    protected void appendNumber(JsonParser parser) {
+        append(readIntegral(parser, Long.MIN_VALUE, Long.MAX_VALUE));
     }
 
     @Override
-    public long[] getInstance(Unmarshaller unmarshaller) {
-        final int size = items.size();
-        final long[] longArray = new long[size];
-        for (int i = 0; i < size; i++) {
-            longArray[i] = items.get(i);
+    protected void appendString(String value) {
+        try {
+            append(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            throw valueError();
+        }
+    }
+
+    private void append(long value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
         }
-        return longArray;
+        items[size++] = value;
+    }
+
+    @Override
+    public long[] getInstance(Unmarshaller unmarshaller) {
+        return size == items.length ? items : Arrays.copyOf(items, size);
     }
 }
@@ -17,6 +17,7 @@ package org.eclipse.yasson.internal.serializer;
 import java.lang.reflect.Type;
 
 import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
@@ -49,4 +50,13 @@ public class LongTypeDeserializer extends AbstractNumberDeserializer<Long> {
                     }
                 });
     }
+
+    @Override
+    protected Long deserializeNumber(JsonParser parser) {
+        try {
+            return readIntegral(parser, Long.MIN_VALUE, Long.MAX_VALUE);
+        } catch (ArithmeticException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR, Long.class));
+        }
+    }
 }
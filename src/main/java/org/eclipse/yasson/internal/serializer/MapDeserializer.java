@@ -14,69 +14,67 @@
  ******************************************************************************/
 package org.eclipse.yasson.internal.serializer;
 
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 import javax.json.bind.serializer.JsonbDeserializer;
 import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.JsonbRiParser;
-import org.eclipse.yasson.internal.ReflectionUtils;
 import org.eclipse.yasson.internal.Unmarshaller;
 
 /**
  * Item implementation for {@link java.util.Map} fields.
- * According to JSON specification object can have only string keys, given that maps could only be parsed
- * from JSON objects, implementation is bound to String type.
+ * According to JSON specification object can have only string keys. Property names are converted by
+ * {@link MapKeyCodec} to keys of numeric, {@link java.util.UUID}, {@link java.time.LocalDate} and enum types,
+ * keys of other types are property names.
  *
  * @param <T> map type
  */
 public class MapDeserializer<T extends Map<?, ?>> extends AbstractContainerDeserializer<T> implements EmbeddedItem {
 
     /**
-     * Type of value in the map. (Keys must always be Strings, because of JSON spec)
+     * Type of value in the map.
      */
     private final Type mapValueRuntimeType;
 
+    /**
+     * Converts property names to keys of declared type, null if names are used as keys.
+     */
+    private final MapKeyCodec keyCodec;
+
     private final T instance;
 
     /**
      * Create instance of current item with its builder.
+     * Key codec is resolved for this instance, as key type may depend on the wrapper item.
      *
      * @param builder {@link DeserializerBuilder} used to build this instance
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     protected MapDeserializer(DeserializerBuilder builder) {
-        super(builder);
-        mapValueRuntimeType = getRuntimeType() instanceof ParameterizedType
-                ? ReflectionUtils.resolveType(this, ((ParameterizedType) getRuntimeType()).getActualTypeArguments()[1])
-                : Object.class;
-
-        this.instance = createInstance(builder);
+        this(builder, null, true);
     }
 
-    @SuppressWarnings("unchecked")
-    private T createInstance(DeserializerBuilder builder) {
-        Class<?> rawType = ReflectionUtils.getRawType(getRuntimeType());
-        return rawType.isInterface()
-                ? (T) getMapImpl(rawType, builder)
-                : (T) builder.getJsonbContext().getInstanceCreator().createInstance(rawType);
+    /**
+     * Create instance of current item with its builder and key codec resolved by deserialization plan.
+     *
+     * @param builder  {@link DeserializerBuilder} used to build this instance
+     * @param keyCodec codec of resolved map key type, null if property names are used as keys
+     */
+    MapDeserializer(DeserializerBuilder builder, MapKeyCodec keyCodec) {
+        this(builder, keyCodec, false);
     }
 
-    private Map getMapImpl(Class ifcType, DeserializerBuilder builder) {
-        // SortedMap, NavigableMap
-        if (SortedMap.class.isAssignableFrom(ifcType)) {
-            Class<?> defaultMapImplType = builder.getJsonbContext().getConfigProperties().getDefaultMapImplType();
-            return SortedMap.class.isAssignableFrom(defaultMapImplType)
-                    ? (Map) builder.getJsonbContext().getInstanceCreator().createInstance(defaultMapImplType)
-                    : new TreeMap<>();
-        }
-        return new HashMap<>();
+    private MapDeserializer(DeserializerBuilder builder, MapKeyCodec keyCodec, boolean resolveKeyCodec) {
+        super(builder);
+        mapValueRuntimeType = ContainerDeserializerUtils.mapValueType(this, getRuntimeType());
+        this.keyCodec = resolveKeyCodec
+                ? MapKeyCodec.forKeyType(ContainerDeserializerUtils.mapKeyType(this, getRuntimeType()),
+                                         builder.getJsonbContext().getMappingContext())
+                : keyCodec;
+        final Class<?> keyClass = keyCodec != null ? keyCodec.getKeyClass() : String.class;
+        this.instance = ContainerDeserializerUtils.createMapInstance(builder, getRuntimeType(), keyClass);
     }
 
     @Override
@@ -91,7 +89,13 @@ public class MapDeserializer<T extends Map<?, ?>> extends AbstractContainerDeser
 
     @SuppressWarnings("unchecked")
     private <V> void appendCaptor(String key, V value) {
-        ((Map<String, V>) getInstance(null)).put(key, value);
+        final Object mapKey = toMapKey(key);
+        ContainerDeserializerUtils.checkMapKey(instance, mapKey);
+        ((Map<Object, V>) instance).put(mapKey, value);
+    }
+
+    private Object toMapKey(String key) {
+        return keyCodec == null ? key : keyCodec.parse(key);
     }
 
     @Override
@@ -428,6 +428,7 @@ public class MapEntriesArrayDeserializer<K, V> extends AbstractItem<Map<K, V>> i
      */
     private void endObject(Context ctx, JsonParser.Event event) {
         if (state == State.ENTRY_KEY) {
+            ContainerDeserializerUtils.checkMapKey(instance, key);
             instance.put(key, value);
         } else {
             handleSyntaxError(state, event);
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import javax.json.bind.JsonbException;
+
+import org.eclipse.yasson.internal.MappingContext;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+/**
+ * Converts property names of a JSON object to keys of a deserialized map.
+ * <p>
+ * Property names are read in the form written by {@link MapToObjectSerializer}, which is {@code String.valueOf(key)}
+ * for numbers, {@link UUID} and {@link LocalDate}, name of constant for enums and {@code "null"} for null key.
+ * Codecs are resolved once per map deserializer and don't hold any state, keys of other types are kept as names.
+ * </p>
+ */
+final class MapKeyCodec {
+
+    private static final String NULL_KEY = "null";
+
+    private static final Map<Class<?>, Function<String, ?>> PARSERS;
+
+    static {
+        final Map<Class<?>, Function<String, ?>> parsers = new HashMap<>();
+        parsers.put(Integer.class, Integer::valueOf);
+        parsers.put(Long.class, Long::valueOf);
+        parsers.put(Short.class, Short::valueOf);
+        parsers.put(Byte.class, Byte::valueOf);
+        parsers.put(Double.class, Double::valueOf);
+        parsers.put(Float.class, Float::valueOf);
+        parsers.put(BigInteger.class, BigInteger::new);
+        parsers.put(BigDecimal.class, BigDecimal::new);
+        parsers.put(UUID.class, UUID::fromString);
+        parsers.put(LocalDate.class, MapKeyCodec::parseLocalDate);
+        PARSERS = Collections.unmodifiableMap(parsers);
+    }
+
+    private final Class<?> keyClass;
+
+    private final Function<String, ?> parser;
+
+    private MapKeyCodec(Class<?> keyClass, Function<String, ?> parser) {
+        this.keyClass = keyClass;
+        this.parser = parser;
+    }
+
+    /**
+     * Resolves codec for keys of given type.
+     *
+     * @param keyType        Resolved type of map keys.
+     * @param mappingContext Mapping context holding enum codecs.
+     * @return Codec or null if property names are used as keys as they are.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static MapKeyCodec forKeyType(Type keyType, MappingContext mappingContext) {
+        if (!(keyType instanceof Class)) {
+            return null;
+        }
+        final Class<?> keyClass = (Class<?>) keyType;
+        if (keyClass.isEnum()) {
+            return new MapKeyCodec(keyClass, mappingContext.getEnumCodec((Class) keyClass)::parse);
+        }
+        final Function<String, ?> parser = PARSERS.get(keyClass);
+        return parser == null ? null : new MapKeyCodec(keyClass, parser);
+    }
+
+    /**
+     * Type of keys created by this codec.
+     *
+     * @return Key type.
+     */
+    Class<?> getKeyClass() {
+        return keyClass;
+    }
+
+    /**
+     * Converts property name to a key, {@link JsonbException} is thrown if it is not a valid key.
+     *
+     * @param name Property name.
+     * @return Map key.
+     */
+    Object parse(String name) {
+        //"null" is not a valid value of any supported key type, so it is always the null key
+        if (NULL_KEY.equals(name)) {
+            return null;
+        }
+        try {
+            return parser.apply(name);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.MAP_KEY_PARSE_ERROR, name, keyClass.getName()), e);
+        }
+    }
+
+    private static LocalDate parseLocalDate(String name) {
+        final LocalDate date = IsoDateTimeFormat.parseLocalDate(name);
+        return date != null ? date : LocalDate.parse(name);
+    }
+}
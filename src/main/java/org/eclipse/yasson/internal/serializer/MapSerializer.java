@@ -15,12 +15,18 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.Map;
 
 import javax.json.bind.serializer.SerializationContext;
 import javax.json.stream.JsonGenerator;
 
+import org.eclipse.yasson.internal.ReflectionUtils;
+
 /**
  * Serialize {@link Map}.
  *
@@ -87,9 +93,19 @@ public class MapSerializer<K, V> extends AbstractContainerSerializer<Map<K, V>>
     private final boolean nullable;
 
     /**
-     * Instance that is responsible for serialization.
+     * Delegate serializing maps with {@link String}, {@link Number} or {@link Enum} keys as JSON object.
      */
-    private Delegate<K, V> serializer;
+    private final Delegate<K, V> mapToObjectSerializer;
+
+    /**
+     * Delegate serializing maps with other keys as JSON array of entries.
+     */
+    private final Delegate<K, V> mapToEntriesArraySerializer;
+
+    /**
+     * Delegate chosen by declared key type, null if keys of each map must be checked.
+     */
+    private final Delegate<K, V> keyTypeDelegate;
 
     /**
      * Creates an instance of {@link Map} serialization.
@@ -99,56 +115,98 @@ public class MapSerializer<K, V> extends AbstractContainerSerializer<Map<K, V>>
     protected MapSerializer(SerializerBuilder builder) {
         super(builder);
         nullable = builder.getJsonbContext().getConfigProperties().getConfigNullable();
-        serializer = null;
+        mapToObjectSerializer = new MapToObjectSerializer<>(this);
+        mapToEntriesArraySerializer = new MapToEntriesArraySerializer<>(this);
+        keyTypeDelegate = isObjectKeyType(getRuntimeType()) ? mapToObjectSerializer : null;
+    }
+
+    /**
+     * Whether all maps of given type can be serialized as JSON object without checking their keys.
+     * This is the case for {@link String}, enum and final {@link Number} key types, since all keys are then
+     * of the same class.
+     *
+     * @param mapType runtime type of serialized maps
+     * @return true if declared key type is known to be serializable as property name
+     */
+    private boolean isObjectKeyType(Type mapType) {
+        if (!(mapType instanceof ParameterizedType)) {
+            return false;
+        }
+        final Type keyType = ReflectionUtils.resolveOptionalType(this, ((ParameterizedType) mapType).getActualTypeArguments()[0])
+                .orElse(Object.class);
+        if (!(keyType instanceof Class)) {
+            return false;
+        }
+        final Class<?> keyClass = (Class<?>) keyType;
+        return keyClass == String.class
+                || keyClass.isEnum()
+                || (Number.class.isAssignableFrom(keyClass) && Modifier.isFinal(keyClass.getModifiers()));
+    }
+
+    /**
+     * Serialize provided {@link Map}.
+     * Unless declared key type decides it, delegate is selected for each serialized instance, since the same
+     * serializer instance may be shared between maps with different key types.
+     *
+     * @param obj       {@link Map} to be serialized
+     * @param generator JSON format generator
+     * @param ctx       JSON serialization context
+     */
+    @Override
+    public void serialize(Map<K, V> obj, JsonGenerator generator, SerializationContext ctx) {
+        final Delegate<K, V> delegate = selectDelegate(obj);
+        delegate.beforeSerialize(obj);
+        delegate.writeStart(generator);
+        delegate.serializeContainer(obj, generator, ctx);
+        delegate.writeEnd(generator);
     }
 
     /**
-     * Check {@link Map} before serialization.
      * Decide whether provided {@link Map} can be serialized as {@code JsonObject} or as {@code JsonArray} of map entries.
      *
      * @param obj {@link Map} to be serialized
+     * @return delegate to serialize the map with
      */
-    @Override
-    protected void beforeSerialize(Map<K, V> obj) {
-        if (serializer == null) {
-            // All keys can be serialized as String
-            boolean allStrings = true;
-            boolean first = true;
-            Class<? extends Object> cls = null;
-            // Cycle shall exit on first negative check
-            for (Iterator<? extends Object> i = obj.keySet().iterator(); allStrings && i.hasNext(); ) {
-                Object key = i.next();
-                // 2nd and later pass: check whether all Map keys are of the same type
-                if (cls != null) {
-                    if (key == null) {
-                        allStrings = false;
-                    } else {
-                        allStrings = cls.equals(key.getClass());
-                    }
-                    // 1st pass: check whether key type is supported for Map to JSON Object serialization
-                } else if (key instanceof String || key instanceof Number || key instanceof Enum) {
-                    cls = key.getClass();
-                    first = false;
-                    // 1st pass: check whether key is null, which is also supported for Map to JSON Object serialization
-                    // Map shall contain only single mapping for null value and nothing else
-                } else if (key == null && first) {
-                    first = false;
-                } else {
+    private Delegate<K, V> selectDelegate(Map<K, V> obj) {
+        if (keyTypeDelegate != null) {
+            return keyTypeDelegate;
+        }
+        // Keys of EnumMap are never null and all of the same enum type
+        if (obj instanceof EnumMap) {
+            return mapToObjectSerializer;
+        }
+        // All keys can be serialized as String
+        boolean allStrings = true;
+        boolean first = true;
+        Class<? extends Object> cls = null;
+        // Cycle shall exit on first negative check
+        for (Iterator<? extends Object> i = obj.keySet().iterator(); allStrings && i.hasNext(); ) {
+            Object key = i.next();
+            // 2nd and later pass: check whether all Map keys are of the same type
+            if (cls != null) {
+                if (key == null) {
                     allStrings = false;
+                } else {
+                    allStrings = cls.equals(key.getClass());
                 }
-            }
-            // Set proper serializing algorithm
-            if (allStrings) {
-                serializer = new MapToObjectSerializer<>(this);
+                // 1st pass: check whether key type is supported for Map to JSON Object serialization
+            } else if (key instanceof String || key instanceof Number || key instanceof Enum) {
+                cls = key.getClass();
+                first = false;
+                // 1st pass: check whether key is null, which is also supported for Map to JSON Object serialization
+                // Map shall contain only single mapping for null value and nothing else
+            } else if (key == null && first) {
+                first = false;
             } else {
-                serializer = new MapToEntriesArraySerializer<>(this);
+                allStrings = false;
             }
         }
+        return allStrings ? mapToObjectSerializer : mapToEntriesArraySerializer;
     }
 
     /**
      * Serialize content of provided {@link Map}.
-     * Passing execution to delegate instance.
+     * Passing execution to delegate selected for the map.
      *
      * @param obj       {@link Map} to be serialized
      * @param generator JSON format generator
@@ -156,41 +214,30 @@ public class MapSerializer<K, V> extends AbstractContainerSerializer<Map<K, V>>
      */
     @Override
     protected void serializeInternal(Map<K, V> obj, JsonGenerator generator, SerializationContext ctx) {
-        serializer.serializeContainer(obj, generator, ctx);
+        selectDelegate(obj).serializeContainer(obj, generator, ctx);
     }
 
     /**
-     * Write start of {@link Map} serialization.
-     * Passing execution to delegate instance.
+     * Write start of {@link Map} serialization as {@code JsonObject}.
+     * Actual maps are started by delegate selected in {@link #serialize(Map, JsonGenerator, SerializationContext)}.
      *
      * @param generator JSON format generator
      */
     @Override
     protected void writeStart(JsonGenerator generator) {
-        serializer.writeStart(generator);
+        mapToObjectSerializer.writeStart(generator);
     }
 
     /**
-     * Write start of {@link Map} serialization.
-     * Passing execution to delegate instance.
+     * Write start of {@link Map} serialization as {@code JsonObject}.
+     * Actual maps are started by delegate selected in {@link #serialize(Map, JsonGenerator, SerializationContext)}.
      *
      * @param key       JSON key name
      * @param generator JSON format generator
      */
     @Override
     protected void writeStart(String key, JsonGenerator generator) {
-        serializer.writeStart(key, generator);
-    }
-
-    /**
-     * Write end of {@link Map} serialization.
-     * Passing execution to delegate instance.
-     *
-     * @param generator JSON format generator
-     */
-    @Override
-    protected void writeEnd(JsonGenerator generator) {
-        serializer.writeEnd(generator);
+        mapToObjectSerializer.writeStart(key, generator);
     }
 
     /**
@@ -17,6 +17,9 @@ import java.util.Map;
 import javax.json.bind.serializer.SerializationContext;
 import javax.json.stream.JsonGenerator;
 
+import org.eclipse.yasson.internal.JsonbUtf8Generator;
+import org.eclipse.yasson.internal.Marshaller;
+
 /**
  * Serialize {@link Map} with {@link String} keys as JSON Object:
  * <pre>
@@ -80,24 +83,44 @@ public class MapToObjectSerializer<K, V> implements MapSerializer.Delegate<K, V>
      */
     @Override
     public void serializeContainer(Map<K, V> obj, JsonGenerator generator, SerializationContext ctx) {
+        EnumCodec<?> codec = null;
         for (Map.Entry<K, V> entry : obj.entrySet()) {
-            final String keyString;
-            K key = entry.getKey();
-            if (key instanceof Enum<?>) {
-                keyString = ((Enum<?>) key).name();
+            final Object value = entry.getValue();
+            if (value == null && !serializer.isNullable()) {
+                continue;
+            }
+            final Object key = entry.getKey();
+            if (key instanceof Enum) {
+                //keys of a map are usually of a single enum type, its codec is looked up once
+                if (codec == null || !codec.getEnumClass().equals(((Enum<?>) key).getDeclaringClass())) {
+                    codec = ((Marshaller) ctx).getMappingContext().getEnumCodec(((Enum<?>) key).getDeclaringClass());
+                }
+                writeEnumKey(codec, key, generator);
             } else {
-                keyString = String.valueOf(key);
+                writeKey(key, generator);
             }
-            final Object value = entry.getValue();
             if (value == null) {
-                if (serializer.isNullable()) {
-                    generator.writeNull(keyString);
-                }
-                continue;
+                generator.writeNull();
+            } else {
+                serializer.serializeItem(value, generator, ctx);
             }
-            generator.writeKey(keyString);
-            serializer.serializeItem(value, generator, ctx);
         }
     }
 
+    private static void writeKey(Object key, JsonGenerator generator) {
+        if (generator instanceof JsonbUtf8Generator
+                && (key instanceof Integer || key instanceof Long || key instanceof Short || key instanceof Byte)) {
+            ((JsonbUtf8Generator) generator).writeKey(((Number) key).longValue());
+        } else {
+            generator.writeKey(String.valueOf(key));
+        }
+    }
+
+    /**
+     * Enum keys are written by their names pre-encoded by the codec of their enum type.
+     */
+    private static <E extends Enum<E>> void writeEnumKey(EnumCodec<E> codec, Object key, JsonGenerator generator) {
+        codec.writeKey(codec.getEnumClass().cast(key), generator);
+    }
+
 }
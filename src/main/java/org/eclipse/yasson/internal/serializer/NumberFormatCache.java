@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of compiled {@link JsonbNumberFormatter} patterns.
+ * <p>
+ * Patterns are compiled once per pattern, locale and integer only parsing flag. Since {@link DecimalFormat}
+ * is not thread safe, every thread gets its own copy of the compiled format. Numbers formatted with simple
+ * fixed decimal patterns such as {@code #0.00} or {@code #,##0.00} don't use {@link DecimalFormat} at all.
+ * </p>
+ */
+public class NumberFormatCache {
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Formats number with given pattern.
+     *
+     * @param number  number to format
+     * @param pattern decimal format pattern
+     * @param locale  locale
+     * @return formatted number
+     */
+    public String format(Number number, String pattern, Locale locale) {
+        final Entry entry = getEntry(pattern, locale, false);
+        if (entry.fixedFormat != null) {
+            final String formatted = entry.fixedFormat.format(number);
+            if (formatted != null) {
+                return formatted;
+            }
+        }
+        return entry.formats.get().format(number);
+    }
+
+    /**
+     * Returns number format for given pattern, which may be used only by current thread.
+     *
+     * @param pattern     decimal format pattern
+     * @param locale      locale
+     * @param integerOnly true if only integers are parsed
+     * @return thread confined number format
+     */
+    public NumberFormat getFormat(String pattern, Locale locale, boolean integerOnly) {
+        return getEntry(pattern, locale, integerOnly).formats.get();
+    }
+
+    private Entry getEntry(String pattern, Locale locale, boolean integerOnly) {
+        final Key key = new Key(pattern, locale, integerOnly);
+        final Entry entry = entries.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        final Entry created = new Entry(key);
+        final Entry previous = entries.putIfAbsent(key, created);
+        return previous == null ? created : previous;
+    }
+
+    private static final class Entry {
+
+        private final FixedDecimalFormat fixedFormat;
+
+        private final ThreadLocal<DecimalFormat> formats;
+
+        private Entry(Key key) {
+            final DecimalFormat prototype = (DecimalFormat) NumberFormat.getInstance(key.locale);
+            prototype.applyPattern(key.pattern);
+            prototype.setParseIntegerOnly(key.integerOnly);
+            this.fixedFormat = FixedDecimalFormat.create(key.pattern, prototype);
+            this.formats = ThreadLocal.withInitial(() -> (DecimalFormat) prototype.clone());
+        }
+    }
+
+    private static final class Key {
+
+        private final String pattern;
+
+        private final Locale locale;
+
+        private final boolean integerOnly;
+
+        private Key(String pattern, Locale locale, boolean integerOnly) {
+            this.pattern = pattern;
+            this.locale = locale;
+            this.integerOnly = integerOnly;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return integerOnly == key.integerOnly && pattern.equals(key.pattern) && locale.equals(key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(pattern, locale, integerOnly);
+        }
+    }
+}
@@ -13,7 +13,6 @@
  ******************************************************************************/
 package org.eclipse.yasson.internal.serializer;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -24,6 +23,7 @@ import javax.json.bind.JsonbException;
 import javax.json.bind.serializer.JsonbDeserializer;
 import javax.json.stream.JsonParser;
 
+import org.eclipse.yasson.internal.InstanceCreator;
 import org.eclipse.yasson.internal.JsonbContext;
 import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.JsonbRiParser;
@@ -42,33 +42,16 @@ import org.eclipse.yasson.internal.properties.Messages;
  */
 class ObjectDeserializer<T> extends AbstractContainerDeserializer<T> {
 
-    /**
-     * Last property model cache to avoid lookup by jsonKey on every access.
-     */
-    private static class LastPropertyModel {
-
-        private final String jsonKeyName;
-        private final PropertyModel propertyModel;
-
-        LastPropertyModel(String jsonKeyName, PropertyModel propertyModel) {
-            this.jsonKeyName = jsonKeyName;
-            this.propertyModel = propertyModel;
-        }
-
-        public String getJsonKeyName() {
-            return jsonKeyName;
-        }
-
-        public PropertyModel getPropertyModel() {
-            return propertyModel;
-        }
-    }
-
     private Map<String, ValueWrapper> values = new LinkedHashMap<>();
 
     private T instance;
 
-    private LastPropertyModel lastPropertyModel;
+    /**
+     * Last property model cache to avoid lookup by jsonKey on every access.
+     */
+    private String lastKeyName;
+
+    private PropertyModel lastPropertyModel;
 
     /**
      * Creates instance of an item.
@@ -97,11 +80,10 @@ class ObjectDeserializer<T> extends AbstractContainerDeserializer<T> {
         if (creator != null) {
             instance = createInstance((Class<T>) rawType, creator);
         } else {
-            Constructor<T> defaultConstructor = (Constructor<T>) getClassModel().getDefaultConstructor();
-            if (defaultConstructor == null) {
+            if (getClassModel().getDefaultConstructor() == null) {
                 throw new JsonbException(Messages.getMessage(MessageKeys.NO_DEFAULT_CONSTRUCTOR, rawType));
             }
-            instance = ReflectionUtils.createNoArgConstructorInstance(defaultConstructor);
+            instance = InstanceCreator.createInstance((Class<T>) getClassModel().getType());
         }
         //values must be set in order, in which they appears in JSON by spec
         values.forEach((key, wrapper) -> {
@@ -204,12 +186,13 @@ class ObjectDeserializer<T> extends AbstractContainerDeserializer<T> {
     }
 
     protected PropertyModel getModel() {
-        final String lastKeyName = getParserContext().getLastKeyName();
-        if (lastPropertyModel != null && lastPropertyModel.getJsonKeyName().equals(lastKeyName)) {
-            return lastPropertyModel.getPropertyModel();
+        final String keyName = getParserContext().getLastKeyName();
+        if (lastKeyName != null && lastKeyName.equals(keyName)) {
+            return lastPropertyModel;
         }
-        lastPropertyModel = new LastPropertyModel(lastKeyName, getClassModel().findPropertyModelByJsonReadName(lastKeyName));
-        return lastPropertyModel.getPropertyModel();
+        lastKeyName = keyName;
+        lastPropertyModel = getClassModel().findPropertyModelByJsonReadName(keyName);
+        return lastPropertyModel;
     }
 
     private static class ValueWrapper {
@@ -24,6 +24,7 @@ import javax.json.bind.serializer.JsonbSerializer;
 import javax.json.bind.serializer.SerializationContext;
 import javax.json.stream.JsonGenerator;
 
+import org.eclipse.yasson.internal.JsonbUtf8Generator;
 import org.eclipse.yasson.internal.Marshaller;
 import org.eclipse.yasson.internal.ReflectionUtils;
 import org.eclipse.yasson.internal.model.ClassModel;
@@ -58,6 +59,19 @@ public class ObjectSerializer<T> extends AbstractContainerSerializer<T> {
         super(wrapper, runtimeType, classModel);
     }
 
+    @Override
+    public void serialize(T obj, JsonGenerator generator, SerializationContext ctx) {
+        final Marshaller marshaller = (Marshaller) ctx;
+        if (!marshaller.addProcessedObject(obj)) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.RECURSIVE_REFERENCE, obj.getClass()));
+        }
+        try {
+            super.serialize(obj, generator, ctx);
+        } finally {
+            marshaller.removeProcessedObject(obj);
+        }
+    }
+
     @Override
     protected void serializeInternal(T object, JsonGenerator generator, SerializationContext ctx) {
         final PropertyModel[] allProperties = ((Marshaller) ctx).getMappingContext().getOrCreateClassModel(object.getClass())
@@ -89,12 +103,13 @@ public class ObjectSerializer<T> extends AbstractContainerSerializer<T> {
             final Object propertyValue = propertyModel.getValue(object);
             if (propertyValue == null || isEmptyOptional(propertyValue)) {
                 if (propertyModel.getCustomization().isNillable()) {
-                    generator.writeNull(propertyModel.getWriteName());
+                    writeKey(generator, propertyModel);
+                    generator.writeNull();
                 }
                 return;
             }
 
-            generator.writeKey(propertyModel.getWriteName());
+            writeKey(generator, propertyModel);
 
             final JsonbSerializer<?> propertyCachedSerializer = propertyModel.getPropertySerializer();
             if (propertyCachedSerializer != null) {
@@ -114,6 +129,14 @@ public class ObjectSerializer<T> extends AbstractContainerSerializer<T> {
         }
     }
 
+    private static void writeKey(JsonGenerator generator, PropertyModel propertyModel) {
+        if (generator instanceof JsonbUtf8Generator) {
+            ((JsonbUtf8Generator) generator).writeKey(propertyModel.getEncodedWriteName());
+        } else {
+            generator.writeKey(propertyModel.getWriteName());
+        }
+    }
+
     private boolean isEmptyOptional(Object object) {
         if (object instanceof Optional) {
             return !((Optional) object).isPresent();
@@ -52,6 +52,10 @@ public class OffsetDateTimeTypeDeserializer extends AbstractDateTimeDeserializer
 
     @Override
     protected OffsetDateTime parseDefault(String jsonValue, Locale locale) {
+        final OffsetDateTime parsed = IsoDateTimeFormat.parseOffsetDateTime(jsonValue);
+        if (parsed != null) {
+            return parsed;
+        }
         return OffsetDateTime.parse(jsonValue, DateTimeFormatter.ISO_OFFSET_DATE_TIME.withLocale(locale));
     }
 
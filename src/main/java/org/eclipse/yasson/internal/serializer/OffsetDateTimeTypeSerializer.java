@@ -42,6 +42,7 @@ public class OffsetDateTimeTypeSerializer extends AbstractDateTimeSerializer<Off
 
     @Override
     protected String formatDefault(OffsetDateTime value, Locale locale) {
-        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.withLocale(locale).format(value);
+        final String formatted = IsoDateTimeFormat.format(value);
+        return formatted != null ? formatted : DateTimeFormatter.ISO_OFFSET_DATE_TIME.withLocale(locale).format(value);
     }
 }
\ No newline at end of file
@@ -48,6 +48,9 @@ public class OptionalDoubleTypeDeserializer extends AbstractValueTypeDeserialize
         if (next == JsonParser.Event.VALUE_NULL) {
             return OptionalDouble.empty();
         }
+        if (next == JsonParser.Event.VALUE_NUMBER) {
+            return OptionalDouble.of(AbstractNumberDeserializer.readDouble(parser));
+        }
         String value = parser.getString();
         return deserialize(value, (Unmarshaller) ctx, rtType);
     }
@@ -47,6 +47,14 @@ public class OptionalIntTypeDeserializer extends AbstractValueTypeDeserializer<O
         if (next == JsonParser.Event.VALUE_NULL) {
             return OptionalInt.empty();
         }
+        if (next == JsonParser.Event.VALUE_NUMBER) {
+            try {
+                return OptionalInt.of((int) AbstractNumberDeserializer.readIntegral(parser, Integer.MIN_VALUE,
+                                                                                    Integer.MAX_VALUE));
+            } catch (ArithmeticException e) {
+                throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR, OptionalInt.class));
+            }
+        }
         final String value = parser.getString();
         return deserialize(value, (Unmarshaller) ctx, rtType);
     }
@@ -47,6 +47,13 @@ public class OptionalLongTypeDeserializer extends AbstractValueTypeDeserializer<
         if (next == JsonParser.Event.VALUE_NULL) {
             return OptionalLong.empty();
         }
+        if (next == JsonParser.Event.VALUE_NUMBER) {
+            try {
+                return OptionalLong.of(AbstractNumberDeserializer.readIntegral(parser, Long.MIN_VALUE, Long.MAX_VALUE));
+            } catch (ArithmeticException e) {
+                throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR, OptionalLong.class));
+            }
+        }
         return deserialize(parser.getString(), (Unmarshaller) ctx, rtType);
     }
 
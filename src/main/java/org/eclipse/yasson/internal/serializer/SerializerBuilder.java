@@ -110,6 +110,8 @@ public class SerializerBuilder extends AbstractSerializerBuilder<SerializerBuild
             }
         } else if (Optional.class.isAssignableFrom(objectClass)) {
             return new OptionalObjectSerializer<>(this);
+        } else if (IterationSerializer.isIteratorType(objectClass)) {
+            return new IterationSerializer(this);
         } else {
             getJsonbContext().getMappingContext().addSerializerProvider(objectClass, new ObjectSerializerProvider());
             return new ObjectSerializer<>(this);
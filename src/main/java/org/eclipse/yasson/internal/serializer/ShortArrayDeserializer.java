@@ -13,17 +13,20 @@
 
 package org.eclipse.yasson.internal.serializer;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+
+import javax.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.Unmarshaller;
 
 /**
  * Array unmarshaller item implementation for small short.
  */
-public class ShortArrayDeserializer extends AbstractArrayDeserializer<short[]> {
+public class ShortArrayDeserializer extends AbstractPrimitiveArrayDeserializer<short[]> {
+
+    private short[] items = new short[INITIAL_CAPACITY];
 
-    private final List<Short> items = new ArrayList<>();
+    private int size;
 
     /**
      * Creates new short array deserializer.
@@ -31,21 +34,32 @@ public class ShortArrayDeserializer extends AbstractArrayDeserializer<short[]> {
      * @param builder deserializer builder
      */
     protected ShortArrayDeserializer(DeserializerBuilder builder) {
-        super(builder);
+        super(builder, Short.class);
     }
 
     @Override
-    protected List<?> getItems() {
-        return items;
+    protected void appendNumber(JsonParser parser) {
+        append((short) readIntegral(parser, Short.MIN_VALUE, Short.MAX_VALUE));
     }
 
     @Override
-    public short[] getInstance(Unmarshaller unmarshaller) {
-        final int size = items.size();
-        final short[] shortArray = new short[size];
-        for (int i = 0; i < size; i++) {
-            shortArray[i] = items.get(i);
+    protected void appendString(String value) {
+        try {
+            append(Short.parseShort(value));
+        } catch (NumberFormatException e) {
+            throw valueError();
+        }
+    }
+
+    private void append(short value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
         }
-        return shortArray;
+        items[size++] = value;
+    }
+
+    @Override
+    public short[] getInstance(Unmarshaller unmarshaller) {
+        return size == items.length ? items : Arrays.copyOf(items, size);
     }
 }
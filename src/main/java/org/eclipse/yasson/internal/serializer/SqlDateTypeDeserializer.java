@@ -57,9 +57,14 @@ public class SqlDateTypeDeserializer extends AbstractDateTimeDeserializer<Date>
         return new Date(getInstant(parsed).toEpochMilli());
     }
 
+    @Override
+    protected DateTimeFormatter prepareFormatter(DateTimeFormatter formatter) {
+        return getZonedFormatter(formatter);
+    }
+
     @Override
     protected Date parseWithFormatter(String jsonValue, DateTimeFormatter formatter) {
-        final TemporalAccessor parsed = getZonedFormatter(formatter).parse(jsonValue);
+        final TemporalAccessor parsed = formatter.parse(jsonValue);
         return new Date(getInstant(parsed).toEpochMilli());
     }
 
@@ -57,9 +57,14 @@ public class SqlTimestampTypeDeserializer extends AbstractDateTimeDeserializer<T
         return Timestamp.from(getInstant(parsed));
     }
 
+    @Override
+    protected DateTimeFormatter prepareFormatter(DateTimeFormatter formatter) {
+        return getZonedFormatter(formatter);
+    }
+
     @Override
     protected Timestamp parseWithFormatter(String jsonValue, DateTimeFormatter formatter) {
-        final TemporalAccessor parsed = getZonedFormatter(formatter).parse(jsonValue);
+        final TemporalAccessor parsed = formatter.parse(jsonValue);
         return Timestamp.from(getInstant(parsed));
     }
 
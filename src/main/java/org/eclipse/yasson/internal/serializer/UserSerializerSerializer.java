@@ -49,12 +49,11 @@ public class UserSerializerSerializer<T> implements JsonbSerializer<T> {
     @Override
     public void serialize(T obj, JsonGenerator generator, SerializationContext ctx) {
         ProcessingContext context = (Marshaller) ctx;
+        if (!context.addProcessedObject(obj)) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.RECURSIVE_REFERENCE, obj.getClass()));
+        }
         try {
-            if (context.addProcessedObject(obj)) {
-                userSerializer.serialize(obj, generator, ctx);
-            } else {
-                throw new JsonbException(Messages.getMessage(MessageKeys.RECURSIVE_REFERENCE, obj.getClass()));
-            }
+            userSerializer.serialize(obj, generator, ctx);
         } finally {
             context.removeProcessedObject(obj);
         }
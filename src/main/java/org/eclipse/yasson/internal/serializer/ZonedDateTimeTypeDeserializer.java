@@ -55,8 +55,13 @@ public class ZonedDateTimeTypeDeserializer extends AbstractDateTimeDeserializer<
         return ZonedDateTime.parse(jsonValue, DateTimeFormatter.ISO_ZONED_DATE_TIME.withLocale(locale));
     }
 
+    @Override
+    protected DateTimeFormatter prepareFormatter(DateTimeFormatter formatter) {
+        return getZonedFormatter(formatter);
+    }
+
     @Override
     protected ZonedDateTime parseWithFormatter(String jsonValue, DateTimeFormatter formatter) {
-        return ZonedDateTime.parse(jsonValue, getZonedFormatter(formatter));
+        return ZonedDateTime.parse(jsonValue, formatter);
     }
 }
@@ -0,0 +1,644 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates {@link org.eclipse.yasson.spi.JsonbClassDescriptorProvider} of classes at compile time,
+ * so Yasson does not scan their fields and methods by reflection at runtime.
+ *
+ * <p>
+ * Classes with {@code JsonbProperty} or {@code JsonbCreator} annotated members are described, together with
+ * all classes of packages listed in comma separated {@value #PACKAGES_OPTION} option. The processor is not
+ * registered as a service, it has to be enabled explicitly, for example by {@code -processor} option of javac or
+ * {@code annotationProcessors} of maven compiler plugin. Generated provider of each class is placed in the package
+ * of the class and registered in {@code META-INF/services}.
+ * </p>
+ *
+ * <p>
+ * A class is described only if its properties are fully given by their names, types, {@code JsonbProperty}
+ * annotations and public accessors. Classes with other JSON-B annotations on members, with properties declared
+ * by interfaces or superclasses, with generic or otherwise inaccessible types are skipped and left to reflection.
+ * </p>
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(JsonbClassDescriptorProcessor.PACKAGES_OPTION)
+public class JsonbClassDescriptorProcessor extends AbstractProcessor {
+
+    /**
+     * Comma separated packages, whose classes are described.
+     */
+    public static final String PACKAGES_OPTION = "yasson.packages";
+
+    private static final String ANNOTATION_PACKAGE = "javax.json.bind.annotation";
+
+    private static final String JSONB_PROPERTY = ANNOTATION_PACKAGE + ".JsonbProperty";
+
+    private static final String JSONB_CREATOR = ANNOTATION_PACKAGE + ".JsonbCreator";
+
+    private static final String PROVIDER_INTERFACE = "org.eclipse.yasson.spi.JsonbClassDescriptorProvider";
+
+    private static final String DESCRIPTOR_CLASS = "org.eclipse.yasson.spi.JsonbClassDescriptor";
+
+    private final Set<String> processed = new HashSet<>();
+
+    private final Set<String> providers = new TreeSet<>();
+
+    /**
+     * Creates the processor.
+     */
+    public JsonbClassDescriptorProcessor() {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServices();
+            return false;
+        }
+        for (TypeElement type : findClasses(annotations, roundEnv)) {
+            //generated providers are root elements of the next round
+            final String name = type.getQualifiedName().toString();
+            if (!providers.contains(name) && processed.add(name)) {
+                describe(type);
+            }
+        }
+        //annotations are not claimed, other processors may handle them too
+        return false;
+    }
+
+    private Set<TypeElement> findClasses(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        final Set<TypeElement> classes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            final String name = annotation.getQualifiedName().toString();
+            if (!JSONB_PROPERTY.equals(name) && !JSONB_CREATOR.equals(name)) {
+                continue;
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                Element enclosing = element;
+                while (enclosing != null && !(enclosing instanceof TypeElement)) {
+                    enclosing = enclosing.getEnclosingElement();
+                }
+                if (enclosing != null) {
+                    classes.add((TypeElement) enclosing);
+                }
+            }
+        }
+        final Set<String> packages = getPackages();
+        if (!packages.isEmpty()) {
+            for (Element root : roundEnv.getRootElements()) {
+                if (root instanceof TypeElement
+                        && packages.contains(processingEnv.getElementUtils().getPackageOf(root).getQualifiedName().toString())) {
+                    collectMemberClasses((TypeElement) root, classes);
+                }
+            }
+        }
+        return classes;
+    }
+
+    private Set<String> getPackages() {
+        final String option = processingEnv.getOptions().get(PACKAGES_OPTION);
+        if (option == null) {
+            return Collections.emptySet();
+        }
+        final Set<String> packages = new HashSet<>();
+        for (String pkg : option.split(",")) {
+            if (!pkg.trim().isEmpty()) {
+                packages.add(pkg.trim());
+            }
+        }
+        return packages;
+    }
+
+    private static void collectMemberClasses(TypeElement type, Set<TypeElement> classes) {
+        classes.add(type);
+        for (Element member : type.getEnclosedElements()) {
+            if (member instanceof TypeElement) {
+                collectMemberClasses((TypeElement) member, classes);
+            }
+        }
+    }
+
+    private void describe(TypeElement type) {
+        try {
+            final String source = generateProvider(type);
+            final String providerName = providerName(type);
+            final Writer writer = processingEnv.getFiler().createSourceFile(providerName, type).openWriter();
+            try {
+                writer.write(source);
+            } finally {
+                writer.close();
+            }
+            providers.add(providerName);
+        } catch (UnsupportedClassException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                                                     "Class is left to reflection, " + e.getMessage(), type);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Cannot write class descriptor: " + e.getMessage(), type);
+        }
+    }
+
+    private void writeServices() {
+        if (providers.isEmpty()) {
+            return;
+        }
+        try {
+            final FileObject services = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + PROVIDER_INTERFACE);
+            final Writer writer = services.openWriter();
+            try {
+                for (String provider : providers) {
+                    writer.write(provider);
+                    writer.write('\n');
+                }
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Cannot register class descriptors: " + e.getMessage());
+        }
+    }
+
+    private String providerName(TypeElement type) {
+        final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        final String prefix = pkg.isUnnamed() ? "" : pkg.getQualifiedName() + ".";
+        final String className = type.getQualifiedName().toString().substring(prefix.length());
+        return prefix + className.replace('.', '_') + "_JsonbClassDescriptor";
+    }
+
+    private String generateProvider(TypeElement type) {
+        checkClass(type);
+        final Map<String, PropertyMembers> members = collectMembers(type);
+        checkInheritedMembers(type, members.keySet());
+
+        final String className = type.getQualifiedName().toString();
+        final String providerName = providerName(type);
+        final int dot = providerName.lastIndexOf('.');
+        final StringBuilder source = new StringBuilder();
+        if (dot > 0) {
+            source.append("package ").append(providerName, 0, dot).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Descriptor of {@link ").append(className).append("}, generated by ")
+                .append(getClass().getSimpleName()).append(".\n")
+                .append(" */\n")
+                .append("public final class ").append(providerName.substring(dot + 1))
+                .append(" implements ").append(PROVIDER_INTERFACE).append(" {\n\n")
+                .append("    @Override\n")
+                .append("    @SuppressWarnings(\"unchecked\")\n")
+                .append("    public java.util.Collection<").append(DESCRIPTOR_CLASS).append("<?>> getClassDescriptors() {\n")
+                .append("        return java.util.Collections.<").append(DESCRIPTOR_CLASS).append("<?>>singletonList(\n")
+                .append("                ").append(DESCRIPTOR_CLASS).append(".builder(").append(className).append(".class)");
+        for (Map.Entry<String, PropertyMembers> entry : members.entrySet()) {
+            entry.getValue().appendProperty(entry.getKey(), source);
+        }
+        source.append("\n                        .build());\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private void checkClass(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS) {
+            throw new UnsupportedClassException("it is not a class");
+        }
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL && type.getNestingKind() != NestingKind.MEMBER) {
+            throw new UnsupportedClassException("it is a local or anonymous class");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedClassException("it is generic");
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            throw new UnsupportedClassException("it is an inner class");
+        }
+        if (!isAccessible(type)) {
+            throw new UnsupportedClassException("it is private");
+        }
+        for (TypeMirror ifc : allInterfaces(type)) {
+            for (Element member : ((DeclaredType) ifc).asElement().getEnclosedElements()) {
+                if (member.getKind() == ElementKind.METHOD && propertyName((ExecutableElement) member) != null) {
+                    throw new UnsupportedClassException("its interface " + ifc + " declares property " + member);
+                }
+            }
+        }
+    }
+
+    private Map<String, PropertyMembers> collectMembers(TypeElement type) {
+        final Map<String, PropertyMembers> members = new LinkedHashMap<>();
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.FIELD) {
+                checkAnnotations(member);
+                members.computeIfAbsent(member.getSimpleName().toString(), name -> new PropertyMembers()).field =
+                        (VariableElement) member;
+            } else if (member.getKind() == ElementKind.METHOD) {
+                final ExecutableElement method = (ExecutableElement) member;
+                final String name = propertyName(method);
+                if (name == null) {
+                    continue;
+                }
+                checkAnnotations(method);
+                final PropertyMembers property = members.computeIfAbsent(name, n -> new PropertyMembers());
+                if (method.getParameters().isEmpty()) {
+                    if (property.getter != null) {
+                        throw new UnsupportedClassException("property " + name + " has more getters");
+                    }
+                    property.getter = method;
+                } else {
+                    if (property.setter != null) {
+                        throw new UnsupportedClassException("property " + name + " has more setters");
+                    }
+                    property.setter = method;
+                }
+            }
+        }
+        final String typePackage = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        for (Map.Entry<String, PropertyMembers> entry : members.entrySet()) {
+            entry.getValue().resolve(entry.getKey(), typePackage);
+        }
+        return members;
+    }
+
+    private void checkInheritedMembers(TypeElement type, Set<String> names) {
+        TypeMirror superclass = type.getSuperclass();
+        while (superclass.getKind() == TypeKind.DECLARED) {
+            final TypeElement parent = (TypeElement) ((DeclaredType) superclass).asElement();
+            if (Object.class.getName().contentEquals(parent.getQualifiedName())) {
+                return;
+            }
+            for (Element member : parent.getEnclosedElements()) {
+                final String name = member.getKind() == ElementKind.FIELD
+                        ? member.getSimpleName().toString()
+                        : member.getKind() == ElementKind.METHOD ? propertyName((ExecutableElement) member) : null;
+                if (name != null && names.contains(name)) {
+                    throw new UnsupportedClassException("property " + name + " is declared by superclass " + parent);
+                }
+            }
+            superclass = parent.getSuperclass();
+        }
+    }
+
+    private List<TypeMirror> allInterfaces(TypeElement type) {
+        final List<TypeMirror> interfaces = new ArrayList<>();
+        final List<TypeMirror> toScan = new ArrayList<>(type.getInterfaces());
+        while (!toScan.isEmpty()) {
+            final TypeMirror ifc = toScan.remove(0);
+            interfaces.add(ifc);
+            toScan.addAll(((TypeElement) ((DeclaredType) ifc).asElement()).getInterfaces());
+        }
+        return interfaces;
+    }
+
+    /**
+     * Name of a property accessed by a method, same as given by reflective parsing.
+     */
+    private static String propertyName(ExecutableElement method) {
+        final String name = method.getSimpleName().toString();
+        final int prefix;
+        if (name.startsWith("get") && method.getParameters().isEmpty()) {
+            prefix = 3;
+        } else if (name.startsWith("is") && method.getParameters().isEmpty()) {
+            prefix = 2;
+        } else if (name.startsWith("set") && method.getParameters().size() == 1) {
+            prefix = 3;
+        } else {
+            return null;
+        }
+        if (name.length() == prefix) {
+            return null;
+        }
+        return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+    }
+
+    private void checkAnnotations(Element member) {
+        for (AnnotationMirror annotation : member.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            final String name = annotationType.getQualifiedName().toString();
+            if (JSONB_PROPERTY.equals(name)) {
+                continue;
+            }
+            if (name.startsWith(ANNOTATION_PACKAGE + ".")) {
+                throw new UnsupportedClassException(member + " is annotated with " + name);
+            }
+            //annotations inherited by custom annotations are introspected too
+            for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+                if (meta.getAnnotationType().toString().startsWith(ANNOTATION_PACKAGE + ".")) {
+                    throw new UnsupportedClassException(member + " is annotated with " + name);
+                }
+            }
+        }
+    }
+
+    private static AnnotationMirror findJsonbProperty(Element member) {
+        if (member == null) {
+            return null;
+        }
+        for (AnnotationMirror annotation : member.getAnnotationMirrors()) {
+            if (JSONB_PROPERTY.equals(annotation.getAnnotationType().toString())) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private Object annotationValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAccessible(Element element) {
+        for (Element e = element; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPublic(Element element) {
+        return element.getModifiers().contains(Modifier.PUBLIC);
+    }
+
+    /**
+     * Source of an expression creating {@link java.lang.reflect.Type} of given type mirror.
+     */
+    private String typeExpression(TypeMirror type, String typePackage) {
+        switch (type.getKind()) {
+        case BOOLEAN:
+        case BYTE:
+        case SHORT:
+        case INT:
+        case LONG:
+        case CHAR:
+        case FLOAT:
+        case DOUBLE:
+            return type.getKind().name().toLowerCase() + ".class";
+        case ARRAY:
+            final TypeMirror component = ((ArrayType) type).getComponentType();
+            if (component.getKind() == TypeKind.DECLARED && !((DeclaredType) component).getTypeArguments().isEmpty()) {
+                throw new UnsupportedClassException("generic array type " + type + " is not supported");
+            }
+            return sourceName(type, typePackage) + ".class";
+        case DECLARED:
+            final DeclaredType declared = (DeclaredType) type;
+            final String raw = rawName(declared, typePackage) + ".class";
+            if (declared.getTypeArguments().isEmpty()) {
+                return raw;
+            }
+            final StringBuilder expression = new StringBuilder(DESCRIPTOR_CLASS).append(".parameterized(").append(raw);
+            for (TypeMirror argument : declared.getTypeArguments()) {
+                expression.append(", ").append(typeExpression(argument, typePackage));
+            }
+            return expression.append(')').toString();
+        default:
+            throw new UnsupportedClassException("type " + type + " is not supported");
+        }
+    }
+
+    /**
+     * Source name of a type, used in casts.
+     */
+    private String sourceName(TypeMirror type, String typePackage) {
+        switch (type.getKind()) {
+        case ARRAY:
+            return sourceName(((ArrayType) type).getComponentType(), typePackage) + "[]";
+        case DECLARED:
+            final DeclaredType declared = (DeclaredType) type;
+            final StringBuilder name = new StringBuilder(rawName(declared, typePackage));
+            if (!declared.getTypeArguments().isEmpty()) {
+                name.append('<');
+                for (int i = 0; i < declared.getTypeArguments().size(); i++) {
+                    name.append(i == 0 ? "" : ", ").append(sourceName(declared.getTypeArguments().get(i), typePackage));
+                }
+                name.append('>');
+            }
+            return name.toString();
+        default:
+            if (type.getKind().isPrimitive()) {
+                return type.getKind().name().toLowerCase();
+            }
+            throw new UnsupportedClassException("type " + type + " is not supported");
+        }
+    }
+
+    private String rawName(DeclaredType type, String typePackage) {
+        final TypeElement element = (TypeElement) type.asElement();
+        if (!isAccessible(element)) {
+            throw new UnsupportedClassException("type " + type + " is private");
+        }
+        final String elementPackage = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+        for (Element e = element; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (!isPublic(e) && !elementPackage.equals(typePackage)) {
+                throw new UnsupportedClassException("type " + type + " is not accessible");
+            }
+        }
+        return element.getQualifiedName().toString();
+    }
+
+    private static String boxedName(TypeMirror type, String sourceName) {
+        switch (type.getKind()) {
+        case INT:
+            return "Integer";
+        case CHAR:
+            return "Character";
+        default:
+            if (type.getKind().isPrimitive()) {
+                return Character.toUpperCase(sourceName.charAt(0)) + sourceName.substring(1);
+            }
+            return sourceName;
+        }
+    }
+
+    private static String quote(String value) {
+        final StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Members of a property and their resolved access, following default visibility of reflective parsing.
+     */
+    private final class PropertyMembers {
+
+        private VariableElement field;
+
+        private ExecutableElement getter;
+
+        private ExecutableElement setter;
+
+        private String typeExpression;
+
+        private String castType;
+
+        private String readAccess;
+
+        private String writeAccess;
+
+        private String jsonWriteName;
+
+        private String jsonReadName;
+
+        private Boolean nillable;
+
+        private void resolve(String name, String typePackage) {
+            final boolean fieldReadable = field == null
+                    || !field.getModifiers().contains(Modifier.TRANSIENT) && !field.getModifiers().contains(Modifier.STATIC);
+            final boolean fieldWritable = fieldReadable && (field == null || !field.getModifiers().contains(Modifier.FINAL));
+            final boolean getterVisible = getter != null && isPublic(getter) && !getter.getModifiers().contains(Modifier.STATIC);
+            final boolean setterVisible = setter != null && isPublic(setter) && !setter.getModifiers().contains(Modifier.STATIC);
+            final boolean fieldVisibleForRead = field != null && isPublic(field) && (getter == null || isPublic(getter));
+            final boolean fieldVisibleForWrite = field != null && isPublic(field) && (setter == null || isPublic(setter));
+
+            TypeMirror type = null;
+            if (fieldReadable && getterVisible) {
+                type = getter.getReturnType();
+                readAccess = "o -> o." + getter.getSimpleName() + "()";
+            } else if (fieldReadable && fieldVisibleForRead) {
+                type = field.asType();
+                readAccess = "o -> o." + field.getSimpleName();
+            }
+            if (fieldWritable && setterVisible) {
+                type = checkSameType(name, type, setter.getParameters().get(0).asType());
+                writeAccess = "(o, v) -> o." + setter.getSimpleName() + "((%s) v)";
+            } else if (fieldWritable && fieldVisibleForWrite) {
+                type = checkSameType(name, type, field.asType());
+                writeAccess = "(o, v) -> o." + field.getSimpleName() + " = (%s) v";
+            }
+            if (type == null) {
+                return;
+            }
+            if (field != null && (readAccess != null || writeAccess != null)) {
+                //reflective parsing uses type of field for the property
+                checkSameType(name, type, field.asType());
+            }
+            typeExpression = typeExpression(type, typePackage);
+            castType = boxedName(type, sourceName(type, typePackage));
+            resolveCustomization(name);
+        }
+
+        private TypeMirror checkSameType(String name, TypeMirror type, TypeMirror other) {
+            if (type != null && !processingEnv.getTypeUtils().isSameType(type, other)) {
+                throw new UnsupportedClassException("property " + name + " has accessors of different types");
+            }
+            return other;
+        }
+
+        private void resolveCustomization(String name) {
+            //same as reflective parsing, name on an accessor takes precedence over name on the field
+            final String fieldName = jsonName(findJsonbProperty(field));
+            final String getterName = jsonName(findJsonbProperty(getter));
+            final String setterName = jsonName(findJsonbProperty(setter));
+            jsonWriteName = getterName != null ? getterName : fieldName;
+            jsonReadName = setterName != null ? setterName : fieldName;
+            for (AnnotationMirror annotation : Arrays.asList(findJsonbProperty(field),
+                                                             findJsonbProperty(getter),
+                                                             findJsonbProperty(setter))) {
+                if (annotation == null) {
+                    continue;
+                }
+                final Boolean annotationNillable = (Boolean) annotationValue(annotation, "nillable");
+                if (nillable != null && !nillable.equals(annotationNillable)) {
+                    throw new UnsupportedClassException("property " + name + " has different nillability");
+                }
+                nillable = annotationNillable;
+            }
+        }
+
+        private String jsonName(AnnotationMirror annotation) {
+            final String value = annotation == null ? null : (String) annotationValue(annotation, "value");
+            return value == null || value.isEmpty() ? null : value;
+        }
+
+        private void appendProperty(String name, StringBuilder source) {
+            if (typeExpression == null) {
+                //neither readable nor writable
+                return;
+            }
+            source.append("\n                        .property(").append(quote(name))
+                    .append(",\n                                  ").append(typeExpression)
+                    .append(",\n                                  ").append(readAccess)
+                    .append(",\n                                  ")
+                    .append(writeAccess == null ? null : String.format(writeAccess, castType));
+            if (jsonWriteName != null || jsonReadName != null || nillable != null) {
+                source.append(",\n                                  ").append(jsonWriteName == null ? null : quote(jsonWriteName))
+                        .append(",\n                                  ").append(jsonReadName == null ? null : quote(jsonReadName))
+                        .append(",\n                                  ")
+                        .append(nillable == null ? null : "Boolean." + nillable.toString().toUpperCase());
+            }
+            source.append(')');
+        }
+    }
+
+    /**
+     * Class can't be described, it is left to reflective parsing.
+     */
+    private static final class UnsupportedClassException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private UnsupportedClassException(String message) {
+            super(message);
+        }
+    }
+}
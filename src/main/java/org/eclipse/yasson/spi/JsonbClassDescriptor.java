@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.spi;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Properties of a class, known before the class is used, typically generated at build time by
+ * {@code org.eclipse.yasson.processor.JsonbClassDescriptorProcessor}.
+ * <p>
+ * Yasson uses a descriptor in place of scanning fields and methods of the class and their annotations.
+ * Properties of a descriptor are the properties the class declares, which are read and written by given accessors.
+ * Annotations of the class itself, such as {@code JsonbPropertyOrder}, {@code JsonbNillable} or
+ * {@code JsonbCreator} on its constructors, are still introspected. Properties inherited from superclasses
+ * are taken from their own models.
+ * </p>
+ *
+ * @param <T> Described class.
+ */
+public final class JsonbClassDescriptor<T> {
+
+    private final Class<T> type;
+
+    private final List<Property<T>> properties;
+
+    private JsonbClassDescriptor(Class<T> type, List<Property<T>> properties) {
+        this.type = type;
+        this.properties = Collections.unmodifiableList(new ArrayList<>(properties));
+    }
+
+    /**
+     * Starts a descriptor of given class.
+     *
+     * @param type Described class.
+     * @param <T>  Described class.
+     * @return Builder of the descriptor.
+     */
+    public static <T> Builder<T> builder(Class<T> type) {
+        return new Builder<>(Objects.requireNonNull(type));
+    }
+
+    /**
+     * Creates a parameterized type, equal to the type of a declaration with given type arguments.
+     *
+     * @param rawType   Raw type.
+     * @param arguments Type arguments.
+     * @return Parameterized type.
+     */
+    public static ParameterizedType parameterized(Class<?> rawType, Type... arguments) {
+        return new DescribedParameterizedType(rawType, arguments.clone());
+    }
+
+    /**
+     * Described class.
+     *
+     * @return Class.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Properties declared by the class.
+     *
+     * @return Unmodifiable list of properties.
+     */
+    public List<Property<T>> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Property of a described class.
+     *
+     * @param <T> Described class.
+     */
+    public static final class Property<T> {
+
+        private final String name;
+
+        private final Type type;
+
+        private final Function<? super T, ?> getter;
+
+        private final BiConsumer<? super T, Object> setter;
+
+        private final String jsonWriteName;
+
+        private final String jsonReadName;
+
+        private final Boolean nillable;
+
+        private Property(String name,
+                         Type type,
+                         Function<? super T, ?> getter,
+                         BiConsumer<? super T, Object> setter,
+                         String jsonWriteName,
+                         String jsonReadName,
+                         Boolean nillable) {
+            this.name = Objects.requireNonNull(name);
+            this.type = Objects.requireNonNull(type);
+            this.getter = getter;
+            this.setter = setter;
+            this.jsonWriteName = jsonWriteName;
+            this.jsonReadName = jsonReadName;
+            this.nillable = nillable;
+        }
+
+        /**
+         * Java bean name of the property.
+         *
+         * @return Property name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Type of the property.
+         *
+         * @return Property type.
+         */
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * Reads the property.
+         *
+         * @return Getter or null if the property is not readable.
+         */
+        public Function<? super T, ?> getGetter() {
+            return getter;
+        }
+
+        /**
+         * Writes the property.
+         *
+         * @return Setter or null if the property is not writable.
+         */
+        public BiConsumer<? super T, Object> getSetter() {
+            return setter;
+        }
+
+        /**
+         * Name of the property in serialized JSON document, as customized by {@code JsonbProperty}
+         * on its getter or field.
+         *
+         * @return JSON name or null if it is derived from property name by naming strategy.
+         */
+        public String getJsonWriteName() {
+            return jsonWriteName;
+        }
+
+        /**
+         * Name of the property in deserialized JSON document, as customized by {@code JsonbProperty}
+         * on its setter or field.
+         *
+         * @return JSON name or null if it is derived from property name by naming strategy.
+         */
+        public String getJsonReadName() {
+            return jsonReadName;
+        }
+
+        /**
+         * Nillability of the property, as customized by {@code JsonbProperty}.
+         *
+         * @return Nillability or null if it is given by the class or configuration.
+         */
+        public Boolean getNillable() {
+            return nillable;
+        }
+    }
+
+    /**
+     * Builder of a class descriptor.
+     *
+     * @param <T> Described class.
+     */
+    public static final class Builder<T> {
+
+        private final Class<T> type;
+
+        private final List<Property<T>> properties = new ArrayList<>();
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        /**
+         * Adds a property with name given by naming strategy.
+         *
+         * @param name   Java bean name of the property.
+         * @param type   Type of the property.
+         * @param getter Reads the property, null if it is not readable.
+         * @param setter Writes the property, null if it is not writable.
+         * @return This builder.
+         */
+        public Builder<T> property(String name,
+                                   Type type,
+                                   Function<? super T, ?> getter,
+                                   BiConsumer<? super T, Object> setter) {
+            return property(name, type, getter, setter, null, null, null);
+        }
+
+        /**
+         * Adds a customized property.
+         *
+         * @param name          Java bean name of the property.
+         * @param type          Type of the property.
+         * @param getter        Reads the property, null if it is not readable.
+         * @param setter        Writes the property, null if it is not writable.
+         * @param jsonWriteName Name in serialized JSON document, null if it is given by naming strategy.
+         * @param jsonReadName  Name in deserialized JSON document, null if it is given by naming strategy.
+         * @param nillable      Nillability, null if it is given by the class or configuration.
+         * @return This builder.
+         */
+        public Builder<T> property(String name,
+                                   Type type,
+                                   Function<? super T, ?> getter,
+                                   BiConsumer<? super T, Object> setter,
+                                   String jsonWriteName,
+                                   String jsonReadName,
+                                   Boolean nillable) {
+            properties.add(new Property<>(name, type, getter, setter, jsonWriteName, jsonReadName, nillable));
+            return this;
+        }
+
+        /**
+         * Creates the descriptor.
+         *
+         * @return Class descriptor.
+         */
+        public JsonbClassDescriptor<T> build() {
+            return new JsonbClassDescriptor<>(type, properties);
+        }
+    }
+
+    /**
+     * Parameterized type equal to the ones of declarations.
+     */
+    private static final class DescribedParameterizedType implements ParameterizedType {
+
+        private final Class<?> rawType;
+
+        private final Type[] arguments;
+
+        private DescribedParameterizedType(Class<?> rawType, Type[] arguments) {
+            this.rawType = Objects.requireNonNull(rawType);
+            this.arguments = arguments;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return arguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return rawType.getDeclaringClass();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ParameterizedType)) {
+                return false;
+            }
+            ParameterizedType other = (ParameterizedType) o;
+            return rawType.equals(other.getRawType())
+                    && Objects.equals(getOwnerType(), other.getOwnerType())
+                    && Arrays.equals(arguments, other.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            //same as hash code of parameterized types of declarations
+            return Arrays.hashCode(arguments) ^ Objects.hashCode(getOwnerType()) ^ rawType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(rawType.getName()).append('<');
+            for (int i = 0; i < arguments.length; i++) {
+                builder.append(i == 0 ? "" : ", ").append(arguments[i].getTypeName());
+            }
+            return builder.append('>').toString();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.spi;
+
+import java.util.Collection;
+
+/**
+ * Provides descriptors of classes, which are used in place of reflective parsing of the classes.
+ *
+ * <p>
+ * Yasson loads all implementations using {@link java.util.ServiceLoader} when a Jsonb instance is created.
+ * Classes without a descriptor are parsed by reflection.
+ * </p>
+ */
+public interface JsonbClassDescriptorProvider {
+
+    /**
+     * Returns descriptors of classes.
+     *
+     * @return class descriptors
+     */
+    Collection<JsonbClassDescriptor<?>> getClassDescriptors();
+}
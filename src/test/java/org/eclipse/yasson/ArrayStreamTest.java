@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.json.Json;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests lazy deserialization of top level JSON arrays.
+ */
+public class ArrayStreamTest {
+
+    public static class Item {
+        public int id;
+        public String name;
+        public List<String> tags;
+    }
+
+    private static final YassonJsonb JSONB = (YassonJsonb) JsonbBuilder.create();
+
+    @Test
+    public void testObjects() {
+        String json = "[{\"id\":1,\"name\":\"first\",\"tags\":[\"a\"]}, null, {\"id\":2,\"tags\":[]}]";
+        List<Item> items = JSONB.<Item>fromJsonStream(new StringReader(json), Item.class).collect(Collectors.toList());
+        assertEquals(3, items.size());
+        assertEquals(1, items.get(0).id);
+        assertEquals("first", items.get(0).name);
+        assertEquals(Arrays.asList("a"), items.get(0).tags);
+        assertNull(items.get(1));
+        assertEquals(2, items.get(2).id);
+        assertTrue(items.get(2).tags.isEmpty());
+    }
+
+    @Test
+    public void testValuesAndStructures() {
+        assertEquals(Arrays.asList(1, 2, null, 3),
+                     JSONB.<Integer>fromJsonStream(new StringReader("[1,2,null,3]"), Integer.class).collect(Collectors.toList()));
+        List<Map<String, List<Integer>>> maps = JSONB.<Map<String, List<Integer>>>fromJsonStream(
+                new StringReader("[{\"a\":[1,2]},{\"b\":[]}]"),
+                new TestTypeToken<Map<String, List<Integer>>>() { }.getType()).collect(Collectors.toList());
+        assertEquals(Arrays.asList(1, 2), maps.get(0).get("a"));
+        assertTrue(maps.get(1).get("b").isEmpty());
+        assertEquals(0, JSONB.fromJsonStream(new StringReader(" [ ] "), String.class).count());
+    }
+
+    @Test
+    public void testLazyIterator() {
+        Iterator<Integer> iterator = JSONB.<Integer>fromJsonStream(new StringReader("[1,2,\"x\"]"), Integer.class).iterator();
+        assertEquals(Integer.valueOf(1), iterator.next());
+        assertTrue(iterator.hasNext());
+        assertEquals(Integer.valueOf(2), iterator.next());
+        assertThrows(JsonbException.class, iterator::next);
+    }
+
+    @Test
+    public void testIteratorEnd() {
+        Iterator<String> iterator = JSONB.<String>fromJsonStream(new StringReader("[\"a\"]"), String.class).iterator();
+        assertEquals("a", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testNotArray() {
+        assertThrows(JsonbException.class,
+                     () -> JSONB.fromJsonStream(new StringReader("{\"id\":1}"), Item.class).count());
+    }
+
+    @Test
+    public void testCloseInput() {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream input = new ByteArrayInputStream("[{\"id\":1},{\"id\":2}]".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        try (Stream<Item> stream = JSONB.fromJsonStream(input, Item.class)) {
+            assertEquals(1, stream.findFirst().get().id);
+            assertFalse(closed.get());
+        }
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testParserInput() {
+        JsonParser parser = Json.createParser(new StringReader("{\"items\":[{\"id\":5}]}"));
+        parser.next();
+        parser.next();
+        try (Stream<Item> stream = JSONB.fromJsonStream(parser, Item.class)) {
+            assertEquals(5, stream.findFirst().get().id);
+        }
+        assertEquals(JsonParser.Event.END_ARRAY, parser.next());
+    }
+}
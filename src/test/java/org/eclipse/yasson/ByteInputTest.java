@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.yasson.internal.JsonbUtf8Parser;
+import org.eclipse.yasson.internal.KeyNameCache;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests deserialization of byte arrays and byte buffers.
+ */
+public class ByteInputTest {
+
+    public static class Pojo {
+        public String name;
+        public String text;
+        public int number;
+        public long big;
+        public double ratio;
+        public BigDecimal decimal;
+        public boolean flag;
+        public Boolean missing;
+        public List<Integer> numbers;
+        public Map<String, Object> map;
+        public JsonObject json;
+        public Pojo child;
+    }
+
+    private static final String JSON = "﻿{\"name\":\"Ünïcödé 😀 €\",\"text\":\"line\\nbreak\\ttab \\\\ \\\" \\u0001 \\/\","
+            + "\"number\":-2147483648,\"big\":9223372036854775807,\"ratio\":-1.5E-10,\"decimal\":123.4500,"
+            + "\"flag\":true,\"missing\":null,\"numbers\":[1,-20,300],\"unknown\":{\"a\":[1,{\"b\":2}]},"
+            + "\"map\":{\"key\":\"value\",\"nested\":[true,false,null]},"
+            + "\"json\":{\"x\":1,\"y\":[2.5,\"z\"],\"w\":12345678901234567890},"
+            + "\"child\":{\"name\":\"child\",\"numbers\":[]}}";
+
+    private static final YassonJsonb JSONB = (YassonJsonb) JsonbBuilder.create();
+
+    @Test
+    public void testBytes() {
+        assertPojo(JSONB.fromJson(JSON.getBytes(StandardCharsets.UTF_8), 0,
+                                  JSON.getBytes(StandardCharsets.UTF_8).length, Pojo.class));
+    }
+
+    @Test
+    public void testBytesRange() {
+        byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[json.length + 10];
+        Arrays.fill(padded, (byte) '}');
+        System.arraycopy(json, 0, padded, 5, json.length);
+        assertPojo(JSONB.fromJson(padded, 5, json.length, Pojo.class));
+    }
+
+    @Test
+    public void testByteBuffer() {
+        byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heap = ByteBuffer.allocate(json.length + 3);
+        heap.put(new byte[] {'[', '[', '['});
+        heap.put(json);
+        heap.position(3);
+        assertPojo(JSONB.fromJson(heap, Pojo.class));
+        assertEquals(3, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+        direct.put(json);
+        direct.flip();
+        assertPojo(JSONB.fromJson(direct, Pojo.class));
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    public void testNonUtf8Encoding() {
+        YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(new JsonbConfig().withEncoding("UTF-16"));
+        byte[] json = "{\"name\":\"Ünïcödé\"}".getBytes(StandardCharsets.UTF_16);
+        assertEquals("Ünïcödé", jsonb.<Pojo>fromJson(json, 0, json.length, Pojo.class).name);
+    }
+
+    @Test
+    public void testRootValues() {
+        assertEquals("text", fromBytes("\"text\"", String.class));
+        assertEquals(Integer.valueOf(-12), fromBytes(" -12 ", Integer.class));
+        assertEquals(Boolean.FALSE, fromBytes("false", Boolean.class));
+        assertNull(fromBytes("null", String.class));
+        assertEquals(Arrays.asList(1.5, 2.0), fromBytes("[1.5,2e0]", new TestTypeToken<List<Double>>() { }.getType()));
+    }
+
+    @Test
+    public void testMalformedInput() {
+        for (String json : new String[] {"{\"name\":}", "{\"name\" \"a\"}", "{\"name\":\"a\",}", "[1,]", "[01]",
+                "{\"name\":\"a", "{\"name\":tru}", "[1.]", "{\"name\":\"a\tb\"}"}) {
+            assertThrows(JsonbException.class, () -> fromBytes(json, Pojo.class), json);
+        }
+    }
+
+    @Test
+    public void testEventsMatchProvider() {
+        String json = "{\"a\":[1,-2.5e3,\"\\u00e9\\ud83d\\ude00\",true,false,null,{}],\"b\":{\"c\":[[]]},\"é\":0}";
+        JsonProvider provider = JsonProvider.provider();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        assertEquals(events(provider.createParser(new StringReader(json))),
+                     events(new JsonbUtf8Parser(bytes, 0, bytes.length, provider, new KeyNameCache())));
+    }
+
+    @Test
+    public void testDirectBufferEventsMatchProvider() {
+        String json = "{\"a\":[1,-2.5e3,\"\\u00e9\\ud83d\\ude00\",true,false,null,{}],\"b\":{\"c\":[[]]},\"é\":0,\"a\":\"€\"}";
+        JsonProvider provider = JsonProvider.provider();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 6);
+        direct.put(new byte[] {'[', '[', '['}).put(bytes).put(new byte[] {']', ']', ']'});
+        direct.position(3).limit(3 + bytes.length);
+        assertEquals(events(provider.createParser(new StringReader(json))),
+                     events(new JsonbUtf8Parser(direct, provider, new KeyNameCache())));
+        assertEquals(3, direct.position());
+    }
+
+    @Test
+    public void testKeyNamesCached() {
+        byte[] bytes = "[{\"key\":1},{\"key\":2}]".getBytes(StandardCharsets.UTF_8);
+        JsonbUtf8Parser parser = new JsonbUtf8Parser(bytes, 0, bytes.length, JsonProvider.provider(), new KeyNameCache());
+        List<String> keys = new ArrayList<>();
+        while (parser.hasNext()) {
+            if (parser.next() == JsonParser.Event.KEY_NAME) {
+                keys.add(parser.getString());
+            }
+        }
+        assertEquals(2, keys.size());
+        assertSame(keys.get(0), keys.get(1));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        parser = new JsonbUtf8Parser(direct, JsonProvider.provider(), new KeyNameCache());
+        keys.clear();
+        while (parser.hasNext()) {
+            if (parser.next() == JsonParser.Event.KEY_NAME) {
+                keys.add(parser.getString());
+            }
+        }
+        assertEquals(2, keys.size());
+        assertSame(keys.get(0), keys.get(1));
+    }
+
+    private static List<String> events(JsonParser parser) {
+        List<String> events = new ArrayList<>();
+        while (parser.hasNext()) {
+            JsonParser.Event event = parser.next();
+            switch (event) {
+            case KEY_NAME:
+            case VALUE_STRING:
+                events.add(event + ":" + parser.getString());
+                break;
+            case VALUE_NUMBER:
+                events.add(event + ":" + parser.getBigDecimal() + ":" + parser.isIntegralNumber());
+                break;
+            default:
+                events.add(event.toString());
+            }
+        }
+        return events;
+    }
+
+    private static <T> T fromBytes(String json, java.lang.reflect.Type type) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return JSONB.fromJson(bytes, 0, bytes.length, type);
+    }
+
+    private static void assertPojo(Pojo pojo) {
+        assertEquals("Ünïcödé 😀 €", pojo.name);
+        assertEquals("line\nbreak\ttab \\ \" \u0001 /", pojo.text);
+        assertEquals(Integer.MIN_VALUE, pojo.number);
+        assertEquals(Long.MAX_VALUE, pojo.big);
+        assertEquals(-1.5e-10, pojo.ratio);
+        assertEquals(new BigDecimal("123.4500"), pojo.decimal);
+        assertTrue(pojo.flag);
+        assertNull(pojo.missing);
+        assertEquals(Arrays.asList(1, -20, 300), pojo.numbers);
+        assertEquals("value", pojo.map.get("key"));
+        assertEquals(Arrays.asList(true, false, null), pojo.map.get("nested"));
+        assertEquals(Json.createObjectBuilder()
+                             .add("x", 1)
+                             .add("y", Json.createArrayBuilder().add(2.5).add("z"))
+                             .add("w", new BigDecimal("12345678901234567890"))
+                             .build(), pojo.json);
+        assertEquals("child", pojo.child.name);
+        assertTrue(pojo.child.numbers.isEmpty());
+    }
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import static org.eclipse.yasson.Jsonbs.defaultJsonb;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+
+/**
+ * Tests detection of recursive references configured by {@link YassonProperties#CYCLE_DETECTION}.
+ */
+public class CycleDetectionTest {
+
+    public static class Node {
+        public String name;
+        public Node next;
+
+        public Node() {
+        }
+
+        public Node(String name, Node next) {
+            this.name = name;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Equal to any other instance.
+     */
+    public static class Value {
+        public Value inner;
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
+
+    @Test
+    public void testSelfReference() {
+        Node node = new Node("a", null);
+        node.next = node;
+        assertThrows(JsonbException.class, () -> defaultJsonb.toJson(node));
+    }
+
+    @Test
+    public void testLongCycle() {
+        Node first = new Node("0", null);
+        Node last = first;
+        for (int i = 1; i < 40; i++) {
+            last = new Node(String.valueOf(i), last);
+        }
+        first.next = last;
+        Node root = last;
+        assertThrows(JsonbException.class, () -> defaultJsonb.toJson(root));
+    }
+
+    @Test
+    public void testEqualObjectsAreNotCycle() {
+        Value root = new Value();
+        Value value = root;
+        for (int i = 0; i < 30; i++) {
+            value.inner = new Value();
+            value = value.inner;
+        }
+        String json = defaultJsonb.toJson(root);
+        assertEquals(31, json.split("inner", -1).length);
+    }
+
+    @Test
+    public void testMaxDepth() {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig()
+                .setProperty(YassonProperties.CYCLE_DETECTION, "depth")
+                .setProperty(YassonProperties.MAX_DEPTH, 3));
+        assertEquals("{\"name\":\"a\",\"next\":{\"name\":\"b\",\"next\":{\"name\":\"c\"}}}",
+                     jsonb.toJson(new Node("a", new Node("b", new Node("c", null)))));
+        assertThrows(JsonbException.class,
+                     () -> jsonb.toJson(new Node("a", new Node("b", new Node("c", new Node("d", null))))));
+    }
+
+    @Test
+    public void testDeepAcyclicGraph() throws Exception {
+        Node root = null;
+        for (int i = 0; i < 1500; i++) {
+            root = new Node(null, root);
+        }
+        Node deep = root;
+        String[] json = new String[1];
+        //deep graph needs larger stack than the default one
+        Thread thread = new Thread(null, () -> json[0] = defaultJsonb.toJson(deep), "deep", 64 * 1024 * 1024);
+        thread.start();
+        thread.join();
+        assertEquals(1500, json[0].split("next", -1).length);
+
+        Jsonb depthJsonb = JsonbBuilder.create(new JsonbConfig().setProperty(YassonProperties.CYCLE_DETECTION, "depth"));
+        Throwable e = assertThrows(JsonbException.class, () -> depthJsonb.toJson(deep));
+        while (e.getCause() != null) {
+            e = e.getCause();
+        }
+        assertTrue(e.getMessage().contains(YassonProperties.MAX_DEPTH));
+        assertTrue(e.getMessage().contains("1000"));
+    }
+
+    @Test
+    public void testOff() {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig()
+                .setProperty(YassonProperties.CYCLE_DETECTION, "OFF")
+                .setProperty(YassonProperties.MAX_DEPTH, 1));
+        assertEquals("{\"name\":\"a\",\"next\":{\"name\":\"b\"}}", jsonb.toJson(new Node("a", new Node("b", null))));
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertThrows(JsonbException.class, () -> JsonbBuilder.create(new JsonbConfig()
+                .setProperty(YassonProperties.CYCLE_DETECTION, "graph")));
+        assertThrows(JsonbException.class, () -> JsonbBuilder.create(new JsonbConfig()
+                .setProperty(YassonProperties.MAX_DEPTH, 0)));
+    }
+}
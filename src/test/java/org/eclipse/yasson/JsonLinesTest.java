@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Tests JSON Lines (newline delimited JSON) reading and writing.
+ */
+public class JsonLinesTest {
+
+    public static class Event {
+        public int id;
+        public String message;
+        public List<String> tags;
+
+        public Event() {
+        }
+
+        Event(int id, String message, String... tags) {
+            this.id = id;
+            this.message = message;
+            this.tags = Arrays.asList(tags);
+        }
+    }
+
+    private static final YassonJsonb JSONB = (YassonJsonb) JsonbBuilder.create(new JsonbConfig().withFormatting(true));
+
+    @Test
+    public void testWrite() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONB.toJsonLines(Arrays.asList(new Event(1, "first\nline", "a"), null, new Event(2, "čau")), out);
+        assertEquals("{\"id\":1,\"message\":\"first\\nline\",\"tags\":[\"a\"]}\nnull\n{\"id\":2,\"message\":\"čau\",\"tags\":[]}\n",
+                     new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testWriteEmpty() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONB.toJsonLines(Stream.empty(), out);
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    public void testRead() {
+        String lines = "{\"id\":1,\"message\":\"first\\nline\",\"tags\":[\"a\"]}\r\n\n  \n"
+                + "null\n{\"id\":2,\"message\":\"čau\"}";
+        List<Event> events = JSONB.<Event>fromJsonLines(input(lines, StandardCharsets.UTF_8), Event.class)
+                .collect(Collectors.toList());
+        assertEquals(3, events.size());
+        assertEquals("first\nline", events.get(0).message);
+        assertEquals(Arrays.asList("a"), events.get(0).tags);
+        assertNull(events.get(1));
+        assertEquals(2, events.get(2).id);
+        assertEquals("čau", events.get(2).message);
+    }
+
+    @Test
+    public void testRoundTripLongLines() {
+        List<Map<String, String>> values = new ArrayList<>();
+        IntStream.range(0, 200).forEach(i -> values.add(Collections.singletonMap("value" + i, pad(i * 97))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONB.toJsonLines(values.stream(), out);
+        List<Map<String, String>> read = JSONB.<Map<String, String>>fromJsonLines(
+                new ByteArrayInputStream(out.toByteArray()),
+                new TestTypeToken<Map<String, String>>() { }.getType()).collect(Collectors.toList());
+        assertEquals(values, read);
+    }
+
+    @Test
+    public void testOtherEncoding() {
+        YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(new JsonbConfig().withEncoding("UTF-16"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonb.toJsonLines(Arrays.asList(new Event(1, "čau"), new Event(2, null)), out);
+        assertEquals("{\"id\":1,\"message\":\"čau\",\"tags\":[]}\n{\"id\":2,\"tags\":[]}\n",
+                     new String(out.toByteArray(), StandardCharsets.UTF_16));
+        List<Event> events = jsonb.<Event>fromJsonLines(new ByteArrayInputStream(out.toByteArray()), Event.class)
+                .collect(Collectors.toList());
+        assertEquals(2, events.size());
+        assertEquals("čau", events.get(0).message);
+    }
+
+    @Test
+    public void testMalformedLine() {
+        Iterator<Event> iterator = JSONB.<Event>fromJsonLines(input("{\"id\":1}\n{\"id\":2} {}\n", StandardCharsets.UTF_8),
+                                                            Event.class).iterator();
+        assertEquals(1, iterator.next().id);
+        assertThrows(JsonbException.class, iterator::next);
+    }
+
+    private static ByteArrayInputStream input(String lines, Charset charset) {
+        return new ByteArrayInputStream(lines.getBytes(charset));
+    }
+
+    private static String pad(int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        return builder.toString();
+    }
+}
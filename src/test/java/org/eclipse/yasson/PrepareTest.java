@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests eager preparation of mapping.
+ */
+public class PrepareTest {
+
+    public static class Order {
+        public List<Line> lines;
+        public Map<String, Customer> customers;
+        public Address[] addresses;
+        public Optional<Note> note;
+        public String id;
+    }
+
+    public static class Line {
+        public int quantity;
+        public Order order;
+    }
+
+    public static class Customer {
+        public String name;
+    }
+
+    public static class Address {
+        public String city;
+    }
+
+    public static class Note {
+        public String text;
+    }
+
+    public interface Shape {
+        double getArea();
+    }
+
+    public static class Square implements Shape {
+        @Override
+        public double getArea() {
+            return 4.0;
+        }
+    }
+
+    public static class Drawing {
+        public Comparable<String> title = "sketch";
+        public Runnable onClick;
+        public Shape shape = new Square();
+    }
+
+    private static final String JSON = "{\"addresses\":[{\"city\":\"Prague\"}],\"customers\":{\"a\":{\"name\":\"Alice\"}},"
+            + "\"id\":\"1\",\"lines\":[{\"quantity\":2}],\"note\":{\"text\":\"fragile\"}}";
+
+    @Test
+    public void testPrepare() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create()) {
+            Map<Class<?>, Duration> timings = jsonb.prepare(Order.class);
+            assertEquals(new HashSet<>(Arrays.asList(Order.class, Line.class, Customer.class, Address.class, Note.class)),
+                         timings.keySet());
+            assertEquals(Order.class, timings.keySet().iterator().next());
+            assertRoundTrip(jsonb);
+        }
+    }
+
+    @Test
+    public void testPrepareInParallel() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create()) {
+            Map<Class<?>, Duration> timings = jsonb.prepare(pool, new TestTypeToken<List<Order>>() {}.getType());
+            assertEquals(new HashSet<>(Arrays.asList(Order.class, Line.class, Customer.class, Address.class, Note.class)),
+                         timings.keySet());
+            assertRoundTrip(jsonb);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testPrepareTypesProperty() throws Exception {
+        JsonbConfig config = new JsonbConfig().setProperty(YassonProperties.PREPARE_TYPES, Order.class.getName() + ", " + Note.class.getName());
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(config)) {
+            assertRoundTrip(jsonb);
+        }
+        config = new JsonbConfig().setProperty(YassonProperties.PREPARE_TYPES, Collections.singletonList(Order.class));
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(config)) {
+            assertRoundTrip(jsonb);
+        }
+        assertThrows(JsonbException.class, () -> JsonbBuilder.create(new JsonbConfig()
+                .setProperty(YassonProperties.PREPARE_TYPES, "org.eclipse.yasson.NoSuchClass")));
+        assertThrows(JsonbException.class, () -> JsonbBuilder.create(new JsonbConfig()
+                .setProperty(YassonProperties.PREPARE_TYPES, 1)));
+    }
+
+    @Test
+    public void testPrepareSerializedOnlyInterfaces() throws Exception {
+        JsonbConfig config = new JsonbConfig().setProperty(YassonProperties.PREPARE_TYPES, Drawing.class.getName());
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(config)) {
+            assertTrue(jsonb.prepare(Drawing.class).containsKey(Shape.class));
+            assertEquals("{\"shape\":{\"area\":4.0},\"title\":\"sketch\"}", jsonb.toJson(new Drawing()));
+            assertThrows(JsonbException.class, () -> jsonb.fromJson("{\"shape\":{\"area\":1.0}}", Drawing.class));
+        }
+    }
+
+    private static void assertRoundTrip(YassonJsonb jsonb) {
+        Order order = jsonb.fromJson(JSON, Order.class);
+        assertEquals("Alice", order.customers.get("a").name);
+        assertEquals("fragile", order.note.get().text);
+        assertEquals(JSON, jsonb.toJson(order));
+    }
+}
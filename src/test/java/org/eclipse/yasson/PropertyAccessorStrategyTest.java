@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+import javax.json.bind.config.PropertyVisibilityStrategy;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Tests property access with {@link YassonProperties#PROPERTY_ACCESSOR_STRATEGY}.
+ */
+public class PropertyAccessorStrategyTest {
+
+    public static class Pojo {
+        private int count;
+        private long total;
+        private boolean active;
+        private String name;
+        public double ratio;
+        private Integer boxed;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public void setTotal(long total) {
+            this.total = total;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        Integer getBoxed() {
+            return boxed;
+        }
+
+        void setBoxed(Integer boxed) {
+            this.boxed = boxed;
+        }
+    }
+
+    public static class FieldsOnlyStrategy implements PropertyVisibilityStrategy {
+        @Override
+        public boolean isVisible(Field field) {
+            return true;
+        }
+
+        @Override
+        public boolean isVisible(Method method) {
+            return false;
+        }
+    }
+
+    private final Jsonb jsonb = JsonbBuilder.create(new JsonbConfig()
+            .setProperty(YassonProperties.PROPERTY_ACCESSOR_STRATEGY, "generated"));
+
+    @Test
+    public void testGeneratedAccessors() {
+        Pojo pojo = new Pojo();
+        pojo.setCount(3);
+        pojo.setTotal(10L);
+        pojo.setActive(true);
+        pojo.setName("name");
+        pojo.ratio = 0.5;
+
+        String json = jsonb.toJson(pojo);
+        assertEquals("{\"active\":true,\"count\":3,\"name\":\"name\",\"ratio\":0.5,\"total\":10}", json);
+
+        Pojo result = jsonb.fromJson(json, Pojo.class);
+        assertEquals(3, result.getCount());
+        assertEquals(10L, result.getTotal());
+        assertTrue(result.isActive());
+        assertEquals("name", result.getName());
+        assertEquals(0.5, result.ratio);
+        assertNull(result.getBoxed());
+    }
+
+    @Test
+    public void testPrivateFields() {
+        Jsonb fieldJsonb = JsonbBuilder.create(new JsonbConfig()
+                .withPropertyVisibilityStrategy(new FieldsOnlyStrategy())
+                .setProperty(YassonProperties.PROPERTY_ACCESSOR_STRATEGY, "generated"));
+        Pojo pojo = new Pojo();
+        pojo.setBoxed(7);
+        pojo.setCount(2);
+
+        String json = fieldJsonb.toJson(pojo);
+        assertEquals("{\"active\":false,\"boxed\":7,\"count\":2,\"ratio\":0.0,\"total\":0}", json);
+
+        Pojo result = fieldJsonb.fromJson("{\"boxed\":8,\"count\":4}", Pojo.class);
+        assertEquals(Integer.valueOf(8), result.getBoxed());
+        assertEquals(4, result.getCount());
+    }
+
+    @Test
+    public void testUnknownStrategy() {
+        assertThrows(JsonbException.class, () -> JsonbBuilder.create(new JsonbConfig()
+                .setProperty(YassonProperties.PROPERTY_ACCESSOR_STRATEGY, "unknown")).toJson(new Pojo()));
+    }
+}
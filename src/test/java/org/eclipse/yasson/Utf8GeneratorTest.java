@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.annotation.JsonbNillable;
+import javax.json.bind.annotation.JsonbProperty;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests serialization with {@link YassonProperties#UTF8_GENERATOR}.
+ */
+public class Utf8GeneratorTest {
+
+    @JsonbNillable
+    public static class Pojo {
+        @JsonbProperty("näme \"quoted\"")
+        public String name;
+        public String text;
+        public String missing;
+        public int number;
+        public long big;
+        public double ratio;
+        public BigDecimal decimal;
+        public boolean flag;
+        public List<Integer> numbers;
+        public Map<String, Object> map;
+        public JsonObject json;
+    }
+
+    private static Pojo pojo() {
+        Pojo pojo = new Pojo();
+        pojo.name = "Ünïcödé 😀 €";
+        pojo.text = "line\nbreak\ttab \\ \" \u0001 /";
+        pojo.number = Integer.MIN_VALUE;
+        pojo.big = Long.MAX_VALUE;
+        pojo.ratio = -1.5e-10;
+        pojo.decimal = new BigDecimal("123.4500");
+        pojo.flag = true;
+        pojo.numbers = Arrays.asList(1, -20, 300);
+        pojo.map = new LinkedHashMap<>();
+        pojo.map.put("nested", Arrays.asList("a", null));
+        pojo.map.put("empty", new LinkedHashMap<>());
+        pojo.json = Json.createObjectBuilder().add("x", 1).add("y", Json.createArrayBuilder().add(true).addNull()).build();
+        return pojo;
+    }
+
+    private final YassonJsonb utf8Jsonb = (YassonJsonb) JsonbBuilder.create(new JsonbConfig()
+            .setProperty(YassonProperties.UTF8_GENERATOR, true));
+
+    @Test
+    public void testSameOutputAsJsonp() {
+        String expected = Jsonbs.defaultJsonb.toJson(pojo());
+        assertEquals(expected, new String(utf8Jsonb.toJsonBytes(pojo()), StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        utf8Jsonb.toJson(pojo(), stream);
+        assertEquals(expected, new String(stream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testValuesAndRuntimeType() {
+        assertEquals("\"str\"", new String(utf8Jsonb.toJsonBytes("str"), StandardCharsets.UTF_8));
+        assertEquals("-42", new String(utf8Jsonb.toJsonBytes(-42L), StandardCharsets.UTF_8));
+        assertEquals("[1,2]", new String(utf8Jsonb.toJsonBytes(Arrays.asList(1, 2), List.class), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testLargeOutput() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append("řádek ").append(i).append('\n');
+        }
+        String[] array = new String[20];
+        Arrays.fill(array, builder.toString());
+        String expected = Jsonbs.defaultJsonb.toJson(array);
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        utf8Jsonb.toJson(array, stream);
+        assertEquals(expected, new String(stream.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(expected, new String(utf8Jsonb.toJsonBytes(array), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testFormattingUsesJsonp() {
+        YassonJsonb formatting = (YassonJsonb) JsonbBuilder.create(new JsonbConfig()
+                .withFormatting(true)
+                .setProperty(YassonProperties.UTF8_GENERATOR, true));
+        assertEquals(formatting.toJson(Arrays.asList(1)), new String(formatting.toJsonBytes(Arrays.asList(1)),
+                                                                    StandardCharsets.UTF_8));
+    }
+}
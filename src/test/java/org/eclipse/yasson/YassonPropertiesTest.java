@@ -3,9 +3,16 @@ package org.eclipse.yasson;
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import static org.eclipse.yasson.YassonProperties.CYCLE_DETECTION;
 import static org.eclipse.yasson.YassonProperties.FAIL_ON_UNKNOWN_PROPERTIES;
+import static org.eclipse.yasson.YassonProperties.MAP_EXPECTED_SIZE;
+import static org.eclipse.yasson.YassonProperties.MAX_DEPTH;
+import static org.eclipse.yasson.YassonProperties.MODEL_CACHE_LIMIT;
 import static org.eclipse.yasson.YassonProperties.NULL_ROOT_SERIALIZER;
+import static org.eclipse.yasson.YassonProperties.PREPARE_TYPES;
+import static org.eclipse.yasson.YassonProperties.PROPERTY_ACCESSOR_STRATEGY;
 import static org.eclipse.yasson.YassonProperties.USER_TYPE_MAPPING;
+import static org.eclipse.yasson.YassonProperties.UTF8_GENERATOR;
 import static org.eclipse.yasson.YassonProperties.ZERO_TIME_PARSE_DEFAULTING;
 
 /**
@@ -34,4 +41,39 @@ public class YassonPropertiesTest {
     public void testNullRootSerializer() {
         assertEquals("yasson.null-root-serializer", NULL_ROOT_SERIALIZER);
     }
+
+    @Test
+    public void testPropertyAccessorStrategy() {
+        assertEquals("yasson.property-accessor-strategy", PROPERTY_ACCESSOR_STRATEGY);
+    }
+
+    @Test
+    public void testUtf8Generator() {
+        assertEquals("yasson.utf8-generator", UTF8_GENERATOR);
+    }
+
+    @Test
+    public void testCycleDetection() {
+        assertEquals("yasson.cycle-detection", CYCLE_DETECTION);
+    }
+
+    @Test
+    public void testMaxDepth() {
+        assertEquals("yasson.max-depth", MAX_DEPTH);
+    }
+
+    @Test
+    public void testMapExpectedSize() {
+        assertEquals("yasson.map-expected-size", MAP_EXPECTED_SIZE);
+    }
+
+    @Test
+    public void testPrepareTypes() {
+        assertEquals("yasson.prepare-types", PREPARE_TYPES);
+    }
+
+    @Test
+    public void testModelCacheLimit() {
+        assertEquals("yasson.model-cache-limit", MODEL_CACHE_LIMIT);
+    }
 }
@@ -5,9 +5,20 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.eclipse.yasson.Jsonbs.*;
 
 import org.eclipse.yasson.TestTypeToken;
+import org.eclipse.yasson.internal.serializer.EnumCodec;
 import org.eclipse.yasson.defaultmapping.collections.Language;
 import org.eclipse.yasson.defaultmapping.generics.model.ScalarValueWrapper;
 
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
 public class EnumTest {
 
     @Test
@@ -40,6 +51,60 @@ public class EnumTest {
         assertEquals(Binding.HARD_BACK, result.getValue());
     }
 
+    @Test
+    public void testUnknownConstant() {
+        JsonbException e = assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("\"German\"", Language.class));
+        assertTrue(e.getMessage().contains("German"), e.getMessage());
+        assertTrue(e.getMessage().contains("[English, Russian, Slovak, Czech]"), e.getMessage());
+    }
+
+    @Test
+    public void testCollidingNames() {
+        //"Aa" and "BB" have the same hash code
+        EnumCodec<Colliding> codec = new EnumCodec<>(Colliding.class);
+        for (Colliding constant : Colliding.values()) {
+            assertSame(constant, codec.getConstant(constant.name()));
+        }
+        assertNull(codec.getConstant("C"));
+        assertEquals(Colliding.BB, defaultJsonb.fromJson("\"BB\"", Colliding.class));
+        assertEquals("[\"Aa\",\"Ünïcödé\"]", defaultJsonb.toJson(new Colliding[] {Colliding.Aa, Colliding.Ünïcödé}));
+    }
+
+    @Test
+    public void testEnumSetAndEnumMap() throws Exception {
+        try (Jsonb formatting = JsonbBuilder.create(new JsonbConfig().withFormatting(true))) {
+            for (Jsonb jsonb : new Jsonb[] {defaultJsonb, formatting}) {
+                EnumSet<Language> set = EnumSet.of(Language.Russian, Language.Czech);
+                assertEquals(set, jsonb.fromJson(jsonb.toJson(set), new TestTypeToken<EnumSet<Language>>() { }.getType()));
+
+                EnumMap<Binding, Integer> map = new EnumMap<>(Binding.class);
+                map.put(Binding.HARD_BACK, 1);
+                EnumMap<Binding, Integer> result = jsonb.fromJson(jsonb.toJson(map),
+                                                                  new TestTypeToken<EnumMap<Binding, Integer>>() { }.getType());
+                assertEquals(map, result);
+            }
+        }
+        assertEquals("{\"HARD_BACK\":1}", defaultJsonb.toJson(new EnumMap<>(Collections.singletonMap(Binding.HARD_BACK, 1))));
+    }
+
+    @Test
+    public void testEnumMapKeys() {
+        Map<Language, String> map = new HashMap<>();
+        map.put(Language.Slovak, "sk");
+        map.put(Language.English, null);
+        Map<Language, String> result = nullableJsonb.fromJson(nullableJsonb.toJson(map),
+                                                              new TestTypeToken<Map<Language, String>>() { }.getType());
+        assertEquals(map, result);
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("{\"German\":\"de\"}",
+                                                                      new TestTypeToken<Map<Language, String>>() { }.getType()));
+    }
+
+    public enum Colliding {
+        Aa,
+        BB,
+        Ünïcödé
+    }
+
     public enum Binding {
         HARD_BACK {
             @Override
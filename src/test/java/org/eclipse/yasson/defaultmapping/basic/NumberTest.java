@@ -27,6 +27,7 @@ import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import javax.json.JsonWriter;
+import javax.json.bind.JsonbException;
 import javax.json.stream.JsonGenerator;
 
 import java.io.StringWriter;
@@ -35,6 +36,9 @@ import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 /**
  * @author Roman Grigoriadi
@@ -241,4 +245,31 @@ public class NumberTest {
         shouldFail(() -> defaultJsonb.toJson(obj),
                   msg -> msg.contains("mapProp") && msg.contains("NumberContainer"));
     }
+
+    @Test
+    public void testDeserializeNumberValues() {
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), defaultJsonb.fromJson("-2147483648", Integer.class));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), defaultJsonb.fromJson("9223372036854775807", Long.class));
+        assertEquals(Short.valueOf((short) -300), defaultJsonb.fromJson("-300", Short.class));
+        assertEquals(Byte.valueOf((byte) 127), defaultJsonb.fromJson("127", Byte.class));
+        assertEquals(Double.valueOf(-1.5e-10), defaultJsonb.fromJson("-1.5E-10", Double.class));
+        assertEquals(Double.valueOf(-0.0), defaultJsonb.fromJson("-0", Double.class));
+        assertEquals(Float.valueOf(0.35f), defaultJsonb.fromJson("0.35", Float.class));
+        assertEquals(new BigDecimal("1.50"), defaultJsonb.fromJson("1.50", BigDecimal.class));
+        assertEquals(new BigInteger("123456789012345678901234567890"),
+                     defaultJsonb.fromJson("123456789012345678901234567890", BigInteger.class));
+        assertEquals(OptionalInt.of(5), defaultJsonb.fromJson("5", OptionalInt.class));
+        assertEquals(OptionalLong.of(-5), defaultJsonb.fromJson("-5", OptionalLong.class));
+        assertEquals(OptionalDouble.of(2.5), defaultJsonb.fromJson("2.5", OptionalDouble.class));
+    }
+
+    @Test
+    public void testDeserializeInvalidNumberValues() {
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("2147483648", Integer.class));
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("1.5", Integer.class));
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("128", Byte.class));
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("18446744073709551616", Long.class));
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("1.5", BigInteger.class));
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("1.5", OptionalInt.class));
+    }
 }
@@ -19,6 +19,7 @@ import static org.eclipse.yasson.Jsonbs.*;
 
 import org.eclipse.yasson.TestTypeToken;
 
+import javax.json.bind.JsonbException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -193,6 +194,42 @@ public class ArrayTest {
         assertArrayEquals(doubleArr, nullableJsonb.fromJson("[-128.0, 127.0]", double[].class), 0d);
     }
 
+    @Test
+    public void testLargePrimitiveArrays() {
+        double[] doubleArr = new double[10000];
+        long[] longArr = new long[doubleArr.length];
+        for (int i = 0; i < doubleArr.length; i++) {
+            doubleArr[i] = i * 0.25 - 1000;
+            longArr[i] = Long.MAX_VALUE - i;
+        }
+        assertArrayEquals(doubleArr, nullableJsonb.fromJson(nullableJsonb.toJson(doubleArr), double[].class), 0d);
+        assertArrayEquals(longArr, nullableJsonb.fromJson(nullableJsonb.toJson(longArr), long[].class));
+        assertEquals(0, nullableJsonb.fromJson("[]", int[].class).length);
+    }
+
+    @Test
+    public void testPrimitiveArrayValues() {
+        assertArrayEquals(new int[] {1, -2, Integer.MAX_VALUE},
+                          nullableJsonb.fromJson("[1, \"-2\", 2147483647]", int[].class));
+        assertArrayEquals(new double[] {Double.NaN, Double.POSITIVE_INFINITY, 1e300, 1.5},
+                          nullableJsonb.fromJson("[\"NaN\", \"POSITIVE_INFINITY\", 1e300, \"1.5\"]", double[].class), 0d);
+        double[] zeros = nullableJsonb.fromJson("[-0.0, 0, -0]", double[].class);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(zeros[0]));
+        assertEquals(Double.doubleToLongBits(0.0), Double.doubleToLongBits(zeros[1]));
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(zeros[2]));
+    }
+
+    @Test
+    public void testPrimitiveArrayInvalidValues() {
+        assertThrows(JsonbException.class, () -> nullableJsonb.fromJson("[128]", byte[].class));
+        assertThrows(JsonbException.class, () -> nullableJsonb.fromJson("[2147483648]", int[].class));
+        assertThrows(JsonbException.class, () -> nullableJsonb.fromJson("[9223372036854775808]", long[].class));
+        assertThrows(JsonbException.class, () -> nullableJsonb.fromJson("[18446744073709551616]", long[].class));
+        assertThrows(JsonbException.class, () -> nullableJsonb.fromJson("[1.5]", long[].class));
+        assertThrows(JsonbException.class, () -> nullableJsonb.fromJson("[1, null]", int[].class));
+        assertThrows(JsonbException.class, () -> nullableJsonb.fromJson("[true]", double[].class));
+    }
+
     public static class KeyValue {
         public String field;
 
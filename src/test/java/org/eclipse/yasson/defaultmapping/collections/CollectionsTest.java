@@ -17,9 +17,18 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.eclipse.yasson.Jsonbs.*;
 
 import org.eclipse.yasson.TestTypeToken;
+import org.eclipse.yasson.YassonProperties;
+import org.eclipse.yasson.internal.JsonbConfigProperties;
 import org.eclipse.yasson.defaultmapping.generics.model.Circle;
 
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+import javax.json.bind.config.PropertyOrderStrategy;
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.*;
 
 /**
@@ -255,4 +264,94 @@ public class CollectionsTest {
         assertEquals("abc", result.get("first"));
         assertEquals("def", result.get("second"));
     }
+
+    @Test
+    public void testTypedMapKeys() {
+        Map<Long, String> longs = new HashMap<>();
+        longs.put(Long.MAX_VALUE, "max");
+        longs.put(-1L, "minus one");
+        longs.put(null, "null");
+        Map<Long, String> longResult = nullableJsonb.fromJson(nullableJsonb.toJson(longs),
+                                                              new TestTypeToken<Map<Long, String>>() {}.getType());
+        assertEquals(longs, longResult);
+
+        Map<UUID, Integer> uuids = Collections.singletonMap(UUID.fromString("0f14d0ab-9605-4a62-a9e4-5ed26688389b"), 1);
+        assertEquals(uuids, nullableJsonb.fromJson(nullableJsonb.toJson(uuids),
+                                                   new TestTypeToken<Map<UUID, Integer>>() {}.getType()));
+
+        Map<LocalDate, BigDecimal> dates = new TreeMap<>();
+        dates.put(LocalDate.of(2019, 1, 31), BigDecimal.ONE);
+        dates.put(LocalDate.of(10000, 1, 1), BigDecimal.TEN);
+        SortedMap<LocalDate, BigDecimal> dateResult = nullableJsonb.fromJson(nullableJsonb.toJson(dates),
+                                                                            new TestTypeToken<SortedMap<LocalDate, BigDecimal>>() {}.getType());
+        assertEquals(dates, dateResult);
+
+        Map<Double, String> doubles = nullableJsonb.fromJson("{\"1.5\":\"a\",\"NaN\":\"b\"}",
+                                                             new TestTypeToken<Map<Double, String>>() {}.getType());
+        assertEquals("a", doubles.get(1.5));
+        assertEquals("b", doubles.get(Double.NaN));
+    }
+
+    @Test
+    public void testInvalidTypedMapKey() {
+        JsonbException e = assertThrows(JsonbException.class, () -> nullableJsonb.fromJson("{\"1.5\":\"a\"}",
+                                                                                          new TestTypeToken<Map<Integer, String>>() {}.getType()));
+        assertTrue(e.getMessage().contains("1.5"));
+        assertThrows(JsonbException.class, () -> nullableJsonb.fromJson("{\"abc\":1}",
+                                                                        new TestTypeToken<Map<UUID, Integer>>() {}.getType()));
+    }
+
+    @Test
+    public void testMapImplementation() {
+        Jsonb lexicographical = JsonbBuilder.create(new JsonbConfig()
+                .withPropertyOrderStrategy(PropertyOrderStrategy.LEXICOGRAPHICAL)
+                .setProperty(YassonProperties.MAP_EXPECTED_SIZE,
+                             Collections.singletonMap(new TestTypeToken<LinkedHashMap<String, String>>() {}.getType(), 1000)));
+        Map<Integer, String> result = lexicographical.fromJson("{\"10\":\"ten\",\"2\":\"two\"}",
+                                                               new TestTypeToken<Map<Integer, String>>() {}.getType());
+        assertEquals(TreeMap.class, result.getClass());
+        assertEquals(Arrays.asList(2, 10), new ArrayList<>(result.keySet()));
+
+        Map<String, String> linked = lexicographical.fromJson("{\"b\":\"1\",\"a\":\"2\"}",
+                                                              new TestTypeToken<LinkedHashMap<String, String>>() {}.getType());
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(linked.keySet()));
+
+        assertEquals(HashMap.class, nullableJsonb.fromJson("{\"1\":1}", new TestTypeToken<Map<Integer, Integer>>() {}.getType()).getClass());
+        assertThrows(JsonbException.class,
+                     () -> JsonbBuilder.create(new JsonbConfig().setProperty(YassonProperties.MAP_EXPECTED_SIZE, 1000)));
+        assertThrows(JsonbException.class,
+                     () -> JsonbBuilder.create(new JsonbConfig().setProperty(YassonProperties.MAP_EXPECTED_SIZE,
+                                                                             Collections.singletonMap(HashMap.class, -1))));
+    }
+
+    @Test
+    public void testMapExpectedSizePerType() {
+        Type prices = new TestTypeToken<Map<String, BigDecimal>>() {}.getType();
+        JsonbConfigProperties config = new JsonbConfigProperties(new JsonbConfig().setProperty(
+                YassonProperties.MAP_EXPECTED_SIZE, Collections.singletonMap(prices, 1000)));
+        assertEquals(1000, config.getMapExpectedSize(prices));
+        assertEquals(0, config.getMapExpectedSize(new TestTypeToken<Map<String, String>>() {}.getType()));
+        assertEquals(0, config.getMapExpectedSize(Map.class));
+
+        config = new JsonbConfigProperties(new JsonbConfig().setProperty(
+                YassonProperties.MAP_EXPECTED_SIZE, Collections.singletonMap(Map.class, 50)));
+        assertEquals(50, config.getMapExpectedSize(prices));
+        assertEquals(0, config.getMapExpectedSize(HashMap.class));
+    }
+
+    @Test
+    public void testSortedMapNullKey() {
+        Jsonb lexicographical = JsonbBuilder.create(new JsonbConfig()
+                .withPropertyOrderStrategy(PropertyOrderStrategy.LEXICOGRAPHICAL));
+        JsonbException e = assertThrows(JsonbException.class, () -> lexicographical.fromJson("{\"1\":\"one\",\"null\":\"none\"}",
+                new TestTypeToken<Map<Integer, String>>() {}.getType()));
+        assertTrue(e.getMessage().contains(TreeMap.class.getName()));
+        e = assertThrows(JsonbException.class, () -> nullableJsonb.fromJson("[{\"key\":null,\"value\":\"none\"}]",
+                new TestTypeToken<SortedMap<Integer, String>>() {}.getType()));
+        assertTrue(e.getMessage().contains(TreeMap.class.getName()));
+
+        Map<Integer, String> unsorted = nullableJsonb.fromJson("{\"1\":\"one\",\"null\":\"none\"}",
+                new TestTypeToken<Map<Integer, String>>() {}.getType());
+        assertEquals("none", unsorted.get(null));
+    }
 }
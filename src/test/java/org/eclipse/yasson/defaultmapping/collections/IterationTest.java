@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.defaultmapping.collections;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.eclipse.yasson.Jsonbs.*;
+
+import org.eclipse.yasson.TestTypeToken;
+import org.eclipse.yasson.defaultmapping.generics.model.Circle;
+
+import javax.json.bind.JsonbException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Serialization of iterators, streams and spliterators.
+ */
+public class IterationTest {
+
+    public static class Team implements Iterable<String> {
+        public String name = "team";
+        public List<String> members = Arrays.asList("a", "b");
+
+        @Override
+        public Iterator<String> iterator() {
+            return members.iterator();
+        }
+    }
+
+    public static class Report {
+        public String name = "report";
+        public Stream<Integer> rows = Stream.of(1, 2, 3);
+        public Iterator<String> names = Arrays.asList("x", null).iterator();
+        public Spliterator<Circle> circles;
+    }
+
+    @Test
+    public void testRootSources() {
+        assertEquals("[1,2,3]", defaultJsonb.toJson(Stream.of(1, 2, 3)));
+        assertEquals("[1,2,3]", defaultJsonb.toJson(IntStream.rangeClosed(1, 3)));
+        assertEquals("[\"a\",null]", nullableJsonb.toJson(Arrays.asList("a", null).iterator()));
+        assertEquals("[1.5,true]", defaultJsonb.toJson(Arrays.asList(1.5, true).spliterator()));
+        assertEquals("[]", defaultJsonb.toJson(Stream.empty()));
+    }
+
+    @Test
+    public void testRuntimeType() {
+        Circle circle = new Circle();
+        circle.setRadius(2.0);
+        assertEquals("[{\"radius\":2.0}]",
+                     defaultJsonb.toJson(Stream.of(circle), new TestTypeToken<Stream<Circle>>() { }.getType()));
+    }
+
+    @Test
+    public void testProperties() {
+        Report report = new Report();
+        Circle circle = new Circle();
+        circle.setRadius(1.0);
+        List<Circle> circles = Arrays.asList(circle);
+        report.circles = circles.spliterator();
+        assertEquals("{\"circles\":[{\"radius\":1.0}],\"name\":\"report\",\"names\":[\"x\",null],\"rows\":[1,2,3]}",
+                     defaultJsonb.toJson(report));
+    }
+
+    @Test
+    public void testIterableIsMappedAsObject() {
+        assertEquals("{\"members\":[\"a\",\"b\"],\"name\":\"team\"}", defaultJsonb.toJson(new Team()));
+    }
+
+    @Test
+    public void testPath() {
+        //path is iterable over its own name elements, it is mapped as a class instead of recursing into them
+        assertThrows(JsonbException.class, () -> defaultJsonb.toJson(Paths.get("a", "b")));
+    }
+
+    @Test
+    public void testLargeStreamFlushes() {
+        int[] flushes = new int[1];
+        Writer writer = new StringWriter() {
+            @Override
+            public void flush() {
+                flushes[0]++;
+            }
+        };
+        defaultJsonb.toJson(IntStream.range(0, 5000).boxed(), writer);
+        String json = writer.toString();
+        assertTrue(json.startsWith("[0,1,2,"));
+        assertTrue(json.endsWith(",4998,4999]"));
+        assertTrue(flushes[0] >= 4);
+    }
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+
+package org.eclipse.yasson.internal;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.yasson.internal.model.ClassModel;
+
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+import javax.json.bind.annotation.JsonbProperty;
+import javax.json.bind.config.PropertyVisibilityStrategy;
+import javax.json.spi.JsonProvider;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests concurrent creation of class models in {@link MappingContext}.
+ */
+public class ClassModelConcurrencyTest {
+
+    public static class SlowBean {
+        public String value;
+    }
+
+    public static class FastBean {
+        public String value;
+    }
+
+    public static class ClashingBean {
+        @JsonbProperty("same")
+        public String first;
+        @JsonbProperty("same")
+        public String second;
+    }
+
+    /**
+     * Blocks parsing of {@link SlowBean} until released.
+     */
+    public static class BlockingVisibilityStrategy implements PropertyVisibilityStrategy {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public boolean isVisible(Field field) {
+            if (field.getDeclaringClass() == SlowBean.class) {
+                started.countDown();
+                try {
+                    released.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isVisible(Method method) {
+            return false;
+        }
+    }
+
+    @Test
+    public void testClassesAreParsedInParallel() throws Exception {
+        BlockingVisibilityStrategy strategy = new BlockingVisibilityStrategy();
+        MappingContext mappingContext = new JsonbContext(new JsonbConfig().withPropertyVisibilityStrategy(strategy),
+                                                         JsonProvider.provider()).getMappingContext();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ClassModel> slow = executor.submit(() -> mappingContext.getOrCreateClassModel(SlowBean.class));
+            assertTrue(strategy.started.await(10, TimeUnit.SECONDS));
+            Future<ClassModel> waiting = executor.submit(() -> mappingContext.getOrCreateClassModel(SlowBean.class));
+
+            //other classes are not blocked by the one being parsed
+            assertEquals(FastBean.class, mappingContext.getOrCreateClassModel(FastBean.class).getType());
+            assertNull(mappingContext.getClassModel(SlowBean.class));
+            assertFalse(waiting.isDone());
+
+            strategy.released.countDown();
+            assertSame(slow.get(10, TimeUnit.SECONDS), waiting.get(10, TimeUnit.SECONDS));
+            assertSame(slow.get(), mappingContext.getOrCreateClassModel(SlowBean.class));
+        } finally {
+            strategy.released.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailedParsingIsRepeated() {
+        MappingContext mappingContext = new JsonbContext(new JsonbConfig(), JsonProvider.provider()).getMappingContext();
+        assertThrows(JsonbException.class, () -> mappingContext.getOrCreateClassModel(ClashingBean.class));
+        assertThrows(JsonbException.class, () -> mappingContext.getOrCreateClassModel(ClashingBean.class));
+        assertNull(mappingContext.getClassModel(ClashingBean.class));
+    }
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.yasson.TestTypeToken;
+import org.eclipse.yasson.internal.serializer.ResolvedParameterizedType;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.adapter.JsonbAdapter;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Tests that classes mapped by a long living {@link Jsonb} instance can be unloaded.
+ */
+public class ClassUnloadingTest {
+
+    private static final String PET = "package sample;\n"
+            + "public class Pet {\n"
+            + "    public String name;\n"
+            + "    public java.util.List<String> tags;\n"
+            + "    public Toy toy;\n"
+            + "    public static class Toy { public String label; }\n"
+            + "}\n";
+
+    private static final String JSON = "{\"name\":\"Rex\",\"tags\":[\"a\"],\"toy\":{\"label\":\"ball\"}}";
+
+    public static class LocaleAdapter implements JsonbAdapter<Locale, String> {
+        @Override
+        public String adaptToJson(Locale obj) {
+            return obj.toLanguageTag();
+        }
+
+        @Override
+        public Locale adaptFromJson(String obj) {
+            return Locale.forLanguageTag(obj);
+        }
+    }
+
+    public enum Size {
+        SMALL, BIG
+    }
+
+    public static class Box {
+        public LocalDate date;
+        public Map<Size, List<Integer>> sizes;
+        public Optional<String> label;
+    }
+
+    private static final String BOX = "{\"date\":\"2019-05-01\",\"label\":\"l\",\"sizes\":{\"SMALL\":[1,2]}}";
+
+    private Path tempDir;
+
+    @BeforeEach
+    public void createTempDir() throws Exception {
+        tempDir = Files.createTempDirectory("yasson-unloading");
+    }
+
+    @AfterEach
+    public void deleteTempDir() throws Exception {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void testMappedClassLoaderIsCollected() throws Exception {
+        compile();
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withAdapters(new LocaleAdapter()))) {
+            WeakReference<ClassLoader> loader = mapInSeparateLoader(jsonb);
+            for (int i = 0; i < 50 && loader.get() != null; i++) {
+                System.gc();
+                Thread.sleep(20);
+            }
+            assertNull(loader.get());
+            assertEquals("\"en-US\"", jsonb.toJson(Locale.US));
+        }
+    }
+
+    @Test
+    public void testDroppedJsonbContextIsCollected() throws Exception {
+        WeakReference<JsonbContext> context = mapWithDroppedJsonb();
+        for (int i = 0; i < 50 && context.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(context.get());
+    }
+
+    private WeakReference<JsonbContext> mapWithDroppedJsonb() throws Exception {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withAdapters(new LocaleAdapter()));
+        //classes of the JDK are never unloaded, cached mappings held for them must not keep the context alive
+        assertEquals("[1,2]", jsonb.toJson(jsonb.fromJson("[1,2]", ArrayList.class)));
+        assertEquals("\"2019-05-01\"", jsonb.toJson(LocalDate.of(2019, 5, 1)));
+        assertEquals("\"en-US\"", jsonb.toJson(jsonb.fromJson("\"en-US\"", Locale.class)));
+        assertEquals(BOX, jsonb.toJson(jsonb.fromJson(BOX, Box.class)));
+        Field field = JsonBinding.class.getDeclaredField("jsonbContext");
+        field.setAccessible(true);
+        return new WeakReference<>((JsonbContext) field.get(jsonb));
+    }
+
+    private WeakReference<ClassLoader> mapInSeparateLoader(Jsonb jsonb) throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {tempDir.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> pet = loader.loadClass("sample.Pet");
+            ParameterizedType petList = new ResolvedParameterizedType(
+                    (ParameterizedType) new TestTypeToken<List<String>>() { }.getType(), new Type[] {pet});
+
+            assertEquals(JSON, jsonb.toJson(jsonb.fromJson(JSON, pet)));
+            assertEquals("[" + JSON + "]", jsonb.toJson(jsonb.fromJson("[" + JSON + "]", petList), petList));
+            return new WeakReference<>(loader);
+        }
+    }
+
+    private void compile() throws Exception {
+        Path source = tempDir.resolve("sample/Pet.java");
+        Files.createDirectories(source.getParent());
+        Files.write(source, PET.getBytes(StandardCharsets.UTF_8));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, "-d", tempDir.toString(), source.toString()));
+    }
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+
+package org.eclipse.yasson.internal;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.yasson.internal.components.SerializerBinding;
+
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.serializer.JsonbSerializer;
+import javax.json.bind.serializer.SerializationContext;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonGenerator;
+import java.util.Optional;
+
+/**
+ * Tests resolution of user components in {@link ComponentMatcher}.
+ */
+public class ComponentMatcherTest {
+
+    public interface Animal {
+    }
+
+    public interface Named {
+    }
+
+    public static class Dog implements Animal, Named {
+    }
+
+    public static class Cat implements Animal {
+    }
+
+    public static class Stone {
+    }
+
+    public static class AnimalSerializer implements JsonbSerializer<Animal> {
+        @Override
+        public void serialize(Animal obj, JsonGenerator generator, SerializationContext ctx) {
+            generator.write("animal");
+        }
+    }
+
+    public static class NamedSerializer implements JsonbSerializer<Named> {
+        @Override
+        public void serialize(Named obj, JsonGenerator generator, SerializationContext ctx) {
+            generator.write("named");
+        }
+    }
+
+    public static class DogSerializer implements JsonbSerializer<Dog> {
+        @Override
+        public void serialize(Dog obj, JsonGenerator generator, SerializationContext ctx) {
+            generator.write("dog");
+        }
+    }
+
+    private static ComponentMatcher matcher(JsonbSerializer<?>... serializers) {
+        return new JsonbContext(new JsonbConfig().withSerializers(serializers), JsonProvider.provider()).getComponentMatcher();
+    }
+
+    private static Class<?> serializerOf(ComponentMatcher matcher, Class<?> type) {
+        return matcher.getSerializerBinding(type, null).get().getComponentClass();
+    }
+
+    @Test
+    public void testExactBindingTakesPrecedence() {
+        ComponentMatcher matcher = matcher(new AnimalSerializer(), new DogSerializer());
+        assertEquals(DogSerializer.class, serializerOf(matcher, Dog.class));
+        assertEquals(AnimalSerializer.class, serializerOf(matcher, Cat.class));
+    }
+
+    @Test
+    public void testRegistrationOrderPrecedence() {
+        assertEquals(AnimalSerializer.class, serializerOf(matcher(new AnimalSerializer(), new NamedSerializer()), Dog.class));
+        assertEquals(NamedSerializer.class, serializerOf(matcher(new NamedSerializer(), new AnimalSerializer()), Dog.class));
+    }
+
+    @Test
+    public void testResolvedBindingsAreReused() {
+        ComponentMatcher matcher = matcher(new AnimalSerializer());
+        Optional<SerializerBinding<?>> binding = matcher.getSerializerBinding(Cat.class, null);
+        assertSame(binding, matcher.getSerializerBinding(Cat.class, null));
+        Optional<SerializerBinding<?>> none = matcher.getSerializerBinding(Stone.class, null);
+        assertFalse(none.isPresent());
+        assertSame(none, matcher.getSerializerBinding(Stone.class, null));
+        assertFalse(matcher.getDeserializerBinding(Cat.class, null).isPresent());
+        assertFalse(matcher.getSerializeAdapterBinding(Cat.class, null).isPresent());
+    }
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+
+package org.eclipse.yasson.internal;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.yasson.TestTypeToken;
+import org.eclipse.yasson.defaultmapping.generics.model.ScalarValueWrapper;
+
+import javax.json.bind.JsonbConfig;
+import javax.json.spi.JsonProvider;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests caching of deserializer plans in {@link MappingContext}.
+ */
+public class DeserializerPlanCacheTest {
+
+    private final JsonbContext jsonbContext = new JsonbContext(new JsonbConfig(), JsonProvider.provider());
+
+    private <T> T fromJson(String json, Type type) {
+        return new Unmarshaller(jsonbContext)
+                .deserialize(type, new JsonbRiParser(jsonbContext.getJsonProvider().createParser(new StringReader(json))));
+    }
+
+    @Test
+    public void testPlansAreReused() {
+        Type listType = new TestTypeToken<List<ScalarValueWrapper<String>>>(){}.getType();
+        List<ScalarValueWrapper<String>> first = fromJson("[{\"value\":\"a\"},{\"value\":\"b\"}]", listType);
+        assertEquals(2, first.size());
+        assertEquals("b", first.get(1).getValue());
+
+        int cacheSize = jsonbContext.getMappingContext().getDeserializerPlanCacheSize();
+        assertTrue(cacheSize > 0);
+
+        List<ScalarValueWrapper<String>> second = fromJson("[{\"value\":\"c\"},null,{\"value\":\"d\"}]", listType);
+        assertEquals(3, second.size());
+        assertEquals("c", second.get(0).getValue());
+        assertNull(second.get(1));
+        assertEquals("d", second.get(2).getValue());
+        assertEquals(cacheSize, jsonbContext.getMappingContext().getDeserializerPlanCacheSize());
+    }
+
+    @Test
+    public void testCachedPlansOfContainers() {
+        Type mapType = new TestTypeToken<Map<String, Integer[]>>(){}.getType();
+        Map<String, Integer[]> first = fromJson("{\"a\":[1,2],\"b\":[3]}", mapType);
+        Map<String, Integer[]> second = fromJson("{\"c\":[4,5,6]}", mapType);
+        assertArrayEquals(new Integer[] {1, 2}, first.get("a"));
+        assertArrayEquals(new Integer[] {3}, first.get("b"));
+        assertArrayEquals(new Integer[] {4, 5, 6}, second.get("c"));
+    }
+
+    @Test
+    public void testCachedPlansOfTypedKeyMaps() {
+        Type listType = new TestTypeToken<List<Map<Integer, String>>>(){}.getType();
+        List<Map<Integer, String>> first = fromJson("[{\"1\":\"a\"},{\"2\":\"b\",\"null\":\"c\"}]", listType);
+        int cacheSize = jsonbContext.getMappingContext().getDeserializerPlanCacheSize();
+        List<Map<Integer, String>> second = fromJson("[{\"3\":\"d\"}]", listType);
+        assertEquals("a", first.get(0).get(1));
+        assertEquals("b", first.get(1).get(2));
+        assertEquals("c", first.get(1).get(null));
+        assertEquals("d", second.get(0).get(3));
+        assertEquals(cacheSize, jsonbContext.getMappingContext().getDeserializerPlanCacheSize());
+    }
+}
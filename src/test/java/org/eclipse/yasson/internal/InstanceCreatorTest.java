@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+
+package org.eclipse.yasson.internal;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.eclipse.yasson.Jsonbs.*;
+
+import javax.json.bind.JsonbException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * Tests instantiators of {@link InstanceCreator}.
+ */
+public class InstanceCreatorTest {
+
+    public static class PublicBean {
+        public String value;
+    }
+
+    static class PackagePrivateBean {
+        public String value;
+
+        public PackagePrivateBean() {
+        }
+    }
+
+    public static class ProtectedConstructorBean {
+        public String value;
+
+        protected ProtectedConstructorBean() {
+        }
+    }
+
+    public static class FailingBean {
+        public FailingBean() {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+    @Test
+    public void testCreateInstance() {
+        assertEquals(PublicBean.class, InstanceCreator.createInstance(PublicBean.class).getClass());
+        assertEquals(PackagePrivateBean.class, InstanceCreator.createInstance(PackagePrivateBean.class).getClass());
+        assertEquals(ProtectedConstructorBean.class, InstanceCreator.createInstance(ProtectedConstructorBean.class).getClass());
+        assertEquals(LinkedBlockingDeque.class, InstanceCreator.createInstance(LinkedBlockingDeque.class).getClass());
+        assertNotSame(InstanceCreator.createInstance(PublicBean.class), InstanceCreator.createInstance(PublicBean.class));
+    }
+
+    @Test
+    public void testFailingConstructor() {
+        JsonbException e = assertThrows(JsonbException.class, () -> InstanceCreator.createInstance(FailingBean.class));
+        assertEquals(IllegalStateException.class, e.getCause().getClass());
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("{}", FailingBean.class));
+    }
+
+    @Test
+    public void testDeserializeBeans() {
+        assertEquals("a", defaultJsonb.fromJson("{\"value\":\"a\"}", PublicBean.class).value);
+        assertEquals("c", defaultJsonb.fromJson("{\"value\":\"c\"}", ProtectedConstructorBean.class).value);
+    }
+
+    @Test
+    public void testConcurrentCreation() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Object>> tasks = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                Class<?> type = i % 2 == 0 ? PublicBean.class : ArrayList.class;
+                tasks.add(() -> InstanceCreator.createInstance(type));
+            }
+            for (Future<Object> result : executor.invokeAll(tasks)) {
+                assertNotNull(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
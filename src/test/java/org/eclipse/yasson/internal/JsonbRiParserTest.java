@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests level tracking and number reading of {@link JsonbRiParser}.
+ */
+public class JsonbRiParserTest {
+
+    @Test
+    public void testLevels() {
+        JsonbRiParser parser = parser("{\"a\":{\"b\":1},\"c\":[{\"d\":2}]}");
+        JsonbRiParser.LevelContext root = parser.getCurrentLevel();
+        assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+        JsonbRiParser.LevelContext object = parser.getCurrentLevel();
+        assertSame(root, object.getParent());
+
+        parser.next();
+        assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+        JsonbRiParser.LevelContext first = parser.getCurrentLevel();
+        assertSame(object, first.getParent());
+        assertEquals("a", object.getLastKeyName());
+        parser.next();
+        assertEquals("b", first.getLastKeyName());
+        parser.next();
+        assertEquals(JsonParser.Event.END_OBJECT, parser.next());
+        assertTrue(first.isParsed());
+        assertSame(object, parser.getCurrentLevel());
+
+        parser.next();
+        assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+        //level of the same depth is reused
+        assertSame(first, parser.getCurrentLevel());
+        assertFalse(first.isParsed());
+        assertNull(first.getLastKeyName());
+        assertEquals("c", object.getLastKeyName());
+        assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+        assertEquals(first, parser.getCurrentLevel().getParent());
+    }
+
+    @Test
+    public void testSkippedKeysNotRead() {
+        byte[] json = "{\"a\":{\"b\":{\"c\":[1,{\"d\":2}]},\"e\":3},\"f\":4}".getBytes(StandardCharsets.UTF_8);
+        int[] keysRead = new int[1];
+        JsonbRiParser parser = new JsonbRiParser(new JsonbUtf8Parser(json, 0, json.length, JsonProvider.provider(), null) {
+            @Override
+            public String getString() {
+                keysRead[0]++;
+                return super.getString();
+            }
+        });
+        parser.next();
+        parser.next();
+        parser.next();
+        parser.skipJsonStructure();
+        assertEquals(1, keysRead[0]);
+        assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+        parser.next();
+        assertEquals("f", parser.getCurrentLevel().getLastKeyName());
+        assertEquals(2, keysRead[0]);
+        assertEquals(JsonParser.Event.END_OBJECT, parser.next());
+        assertTrue(parser.getCurrentLevel().getParent() == null);
+    }
+
+    @Test
+    public void testNumberValues() {
+        String json = "[0,-0,-12,9223372036854775807,-9223372036854775808,1234567890123456789,9007199254740993,"
+                + "16777217,1.5E-10,-0.0]";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for (JsonbRiParser parser : new JsonbRiParser[] {parser(json),
+                new JsonbRiParser(new JsonbUtf8Parser(bytes, 0, bytes.length, JsonProvider.provider(), null))}) {
+            parser.next();
+            assertNumber(parser, 0L, 0.0, 0f);
+            assertNumber(parser, 0L, -0.0, -0f);
+            assertNumber(parser, -12L, -12.0, -12f);
+            assertNumber(parser, Long.MAX_VALUE, 9.223372036854776E18, 9.223372E18f);
+            assertNumber(parser, Long.MIN_VALUE, -9.223372036854776E18, -9.223372E18f);
+            assertNumber(parser, 1234567890123456789L, 1.23456789012345677E18, 1.2345679E18f);
+            assertNumber(parser, 9007199254740993L, 9.007199254740992E15, 9.0071993E15f);
+            assertNumber(parser, 16777217L, 16777217.0, 16777216f);
+            parser.next();
+            assertThrows(ArithmeticException.class, parser::getLongValueExact);
+            assertEquals(1.5E-10, parser.getDoubleValue());
+            assertEquals(1.5E-10f, parser.getFloatValue());
+            parser.next();
+            assertEquals(-0.0, parser.getDoubleValue());
+            assertEquals(-0.0f, parser.getFloatValue());
+        }
+    }
+
+    @Test
+    public void testLongOverflow() {
+        String json = "[9223372036854775808,-9223372036854775809,18446744073709551616,123456789012345678901234567890]";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for (JsonbRiParser parser : new JsonbRiParser[] {parser(json),
+                new JsonbRiParser(new JsonbUtf8Parser(bytes, 0, bytes.length, JsonProvider.provider(), null))}) {
+            parser.next();
+            while (parser.next() == JsonParser.Event.VALUE_NUMBER) {
+                assertThrows(ArithmeticException.class, parser::getLongValueExact);
+            }
+        }
+    }
+
+    private static void assertNumber(JsonbRiParser parser, long longValue, double doubleValue, float floatValue) {
+        assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+        assertEquals(longValue, parser.getLongValueExact());
+        assertEquals(doubleValue, parser.getDoubleValue());
+        assertEquals(floatValue, parser.getFloatValue());
+    }
+
+    private static JsonbRiParser parser(String json) {
+        return new JsonbRiParser(JsonProvider.provider().createParser(new StringReader(json)));
+    }
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+
+package org.eclipse.yasson.internal;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.yasson.MappingFootprint;
+import org.eclipse.yasson.YassonJsonb;
+import org.eclipse.yasson.YassonProperties;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+import javax.json.spi.JsonProvider;
+
+/**
+ * Tests bounded class model storage and footprint reporting of {@link MappingContext}.
+ */
+public class MappingFootprintTest {
+
+    public static class First {
+        public String name;
+        public int count;
+    }
+
+    public static class Second {
+        public String name;
+    }
+
+    public static class Third {
+        public String name;
+    }
+
+    public static class Fourth {
+        public String name;
+    }
+
+    @Test
+    public void testFootprintOfUnboundedContext() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            MappingFootprint empty = ((YassonJsonb) jsonb).getMappingFootprint();
+            First first = new First();
+            first.name = "first";
+            first.count = 1;
+            assertEquals("{\"count\":1,\"name\":\"first\"}", jsonb.toJson(first));
+
+            MappingFootprint footprint = ((YassonJsonb) jsonb).getMappingFootprint();
+            assertTrue(footprint.getClassModels() > empty.getClassModels());
+            assertTrue(footprint.getPropertyModels() >= 2);
+            assertTrue(footprint.getEstimatedBytes() > empty.getEstimatedBytes());
+            assertEquals(0, footprint.getEvictedClassModels());
+        }
+    }
+
+    @Test
+    public void testColdModelsAreEvicted() {
+        MappingContext mappingContext = new JsonbContext(new JsonbConfig()
+                .setProperty(YassonProperties.MODEL_CACHE_LIMIT, 2), JsonProvider.provider()).getMappingContext();
+        mappingContext.getOrCreateClassModel(First.class);
+        mappingContext.getOrCreateClassModel(Second.class);
+        mappingContext.getOrCreateClassModel(Third.class);
+        mappingContext.getOrCreateClassModel(Fourth.class);
+
+        MappingFootprint footprint = mappingContext.getFootprint();
+        assertTrue(footprint.getClassModels() <= 2);
+        assertTrue(footprint.getEvictedClassModels() > 0);
+        assertNull(mappingContext.getClassModel(First.class));
+        assertNotNull(mappingContext.getClassModel(Fourth.class));
+
+        //evicted model is rebuilt on use
+        assertEquals(First.class, mappingContext.getOrCreateClassModel(First.class).getType());
+    }
+
+    @Test
+    public void testEvictedModelsAreRebuilt() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().setProperty(YassonProperties.MODEL_CACHE_LIMIT, 1))) {
+            for (int i = 0; i < 3; i++) {
+                assertEquals("second", jsonb.fromJson("{\"name\":\"second\"}", Second.class).name);
+                assertEquals("third", jsonb.fromJson("{\"name\":\"third\"}", Third.class).name);
+            }
+            assertTrue(((YassonJsonb) jsonb).getMappingFootprint().getEvictedClassModels() > 0);
+        }
+    }
+
+    @Test
+    public void testEvictionDropsSerializersAndPlans() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().setProperty(YassonProperties.MODEL_CACHE_LIMIT, 2))) {
+            assertEquals("{\"name\":\"second\"}", jsonb.toJson(jsonb.fromJson("{\"name\":\"second\"}", Second.class)));
+            MappingFootprint cached = ((YassonJsonb) jsonb).getMappingFootprint();
+            assertTrue(cached.getRootSerializers() > 0);
+            assertTrue(cached.getDeserializerPlans() > 0);
+
+            jsonb.fromJson("{\"name\":\"third\"}", Third.class);
+            jsonb.fromJson("{\"name\":\"fourth\"}", Fourth.class);
+            MappingFootprint evicted = ((YassonJsonb) jsonb).getMappingFootprint();
+            assertTrue(evicted.getEvictedClassModels() > 0);
+            assertEquals(0, evicted.getRootSerializers());
+            assertTrue(evicted.getClassModels() <= 2);
+        }
+    }
+
+    @Test
+    public void testInvalidLimit() {
+        assertThrows(JsonbException.class,
+                     () -> JsonbBuilder.create(new JsonbConfig().setProperty(YassonProperties.MODEL_CACHE_LIMIT, -1)));
+    }
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+
+package org.eclipse.yasson.internal;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.json.bind.JsonbConfig;
+import javax.json.spi.JsonProvider;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests caching of root serializers in {@link MappingContext}.
+ */
+public class RootSerializerCacheTest {
+
+    private final JsonbContext jsonbContext = new JsonbContext(new JsonbConfig(), JsonProvider.provider());
+
+    private String toJson(Object object) {
+        StringWriter writer = new StringWriter();
+        new Marshaller(jsonbContext).marshall(object, jsonbContext.getJsonProvider().createGenerator(writer));
+        return writer.toString();
+    }
+
+    @Test
+    public void testRootSerializerIsReused() {
+        MappingContext mappingContext = jsonbContext.getMappingContext();
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+
+        assertEquals("[\"a\",\"b\"]", toJson(list));
+        assertEquals(0, mappingContext.getRootSerializerCacheHits());
+        assertEquals(1, mappingContext.getRootSerializerCacheMisses());
+
+        assertEquals("[\"a\",\"b\"]", toJson(list));
+        assertEquals("[\"a\",\"b\"]", toJson(list));
+        assertEquals(2, mappingContext.getRootSerializerCacheHits());
+        assertEquals(1, mappingContext.getRootSerializerCacheMisses());
+        assertEquals(1, mappingContext.getRootSerializerCacheSize());
+    }
+
+    @Test
+    public void testCachedMapSerializerWithDifferentKeys() {
+        Map<Object, String> stringKeys = new HashMap<>();
+        stringKeys.put("first", "value");
+        assertEquals("{\"first\":\"value\"}", toJson(stringKeys));
+
+        Map<Object, String> mixedKeys = new LinkedHashMap<>();
+        mixedKeys.put("first", "value");
+        mixedKeys.put(1, "other");
+        Map<Object, String> mixedHashMap = new HashMap<>(mixedKeys);
+        String expected = mixedHashMap.keySet().iterator().next() instanceof String
+                ? "[{\"key\":\"first\",\"value\":\"value\"},{\"key\":1,\"value\":\"other\"}]"
+                : "[{\"key\":1,\"value\":\"other\"},{\"key\":\"first\",\"value\":\"value\"}]";
+        assertEquals(expected, toJson(mixedHashMap));
+        assertEquals(1, jsonbContext.getMappingContext().getRootSerializerCacheHits());
+    }
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+
+package org.eclipse.yasson.internal;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.annotation.JsonbNillable;
+import javax.json.bind.config.PropertyNamingStrategy;
+import javax.json.bind.config.PropertyVisibilityStrategy;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Tests metadata shared between Jsonb instances.
+ */
+public class SharedMetadataTest {
+
+    public interface Base extends Serializable {
+    }
+
+    @JsonbNillable
+    public interface Named {
+    }
+
+    public static class Secret {
+        private String hidden = "h";
+    }
+
+    public static class Pojo implements Named, Base {
+        public String firstName;
+
+        public Pojo() {
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+    }
+
+    @Test
+    public void testMembersAreShared() {
+        assertSame(SharedMetadata.getDeclaredFields(Pojo.class), SharedMetadata.getDeclaredFields(Pojo.class));
+        assertSame(SharedMetadata.getDeclaredMethods(Pojo.class), SharedMetadata.getDeclaredMethods(Pojo.class));
+        assertSame(SharedMetadata.getDeclaredConstructors(Pojo.class), SharedMetadata.getDeclaredConstructors(Pojo.class));
+        assertEquals(Arrays.asList(Named.class, Base.class, Serializable.class),
+                     Arrays.asList(SharedMetadata.getInterfaces(Pojo.class).toArray()));
+        assertEquals(Collections.emptySet(), SharedMetadata.getInterfaces(Object.class));
+        assertSame(SharedMetadata.getGenericInterfaces(Pojo.class), SharedMetadata.getGenericInterfaces(Pojo.class));
+        assertSame(SharedMetadata.getCollectedAnnotations(Pojo.class), SharedMetadata.getCollectedAnnotations(Pojo.class));
+        assertNotNull(SharedMetadata.getCollectedAnnotations(Pojo.class).getAnnotation(JsonbNillable.class));
+    }
+
+    @Test
+    public void testAccessibleMembersKeepVisibility() throws Exception {
+        PropertyVisibilityStrategy allFields = new PropertyVisibilityStrategy() {
+            @Override
+            public boolean isVisible(Field field) {
+                return true;
+            }
+
+            @Override
+            public boolean isVisible(Method method) {
+                return false;
+            }
+        };
+        try (Jsonb fieldJsonb = JsonbBuilder.create(new JsonbConfig().withPropertyVisibilityStrategy(allFields));
+                Jsonb defaultJsonb = JsonbBuilder.create()) {
+            Secret secret = new Secret();
+            assertEquals("{\"hidden\":\"h\"}", fieldJsonb.toJson(secret));
+            assertEquals("{}", defaultJsonb.toJson(secret));
+        }
+    }
+
+    @Test
+    public void testInstancesWithDifferentConfig() throws Exception {
+        try (Jsonb defaultJsonb = JsonbBuilder.create();
+                Jsonb underscoreJsonb = JsonbBuilder.create(new JsonbConfig()
+                        .withPropertyNamingStrategy(PropertyNamingStrategy.LOWER_CASE_WITH_UNDERSCORES))) {
+            Pojo pojo = new Pojo();
+            pojo.firstName = "Alice";
+            assertEquals("{\"firstName\":\"Alice\"}", defaultJsonb.toJson(pojo));
+            assertEquals("{\"first_name\":\"Alice\"}", underscoreJsonb.toJson(pojo));
+            assertEquals("Bob", underscoreJsonb.fromJson("{\"first_name\":\"Bob\"}", Pojo.class).firstName);
+            assertSame(SharedMetadata.getJsonProvider(), SharedMetadata.getJsonProvider());
+        }
+    }
+}
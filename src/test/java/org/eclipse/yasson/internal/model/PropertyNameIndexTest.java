@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+
+package org.eclipse.yasson.internal.model;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.yasson.internal.JsonbContext;
+
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.annotation.JsonbProperty;
+import javax.json.bind.config.PropertyNamingStrategy;
+import javax.json.spi.JsonProvider;
+
+/**
+ * Tests lookup of property models by JSON read name.
+ */
+public class PropertyNameIndexTest {
+
+    public static class Pojo {
+        public String first;
+        @JsonbProperty("renamed")
+        public String second;
+        public String camelCaseName;
+        public String value;
+        public String VALUE;
+    }
+
+    public static class UnderscorePojo {
+        @JsonbProperty("renamed")
+        public String second;
+        public String camelCaseName;
+    }
+
+    private static ClassModel classModel(JsonbConfig config) {
+        return classModel(config, Pojo.class);
+    }
+
+    private static ClassModel classModel(JsonbConfig config, Class<?> type) {
+        JsonbContext jsonbContext = new JsonbContext(config, JsonProvider.provider());
+        return jsonbContext.getMappingContext().getOrCreateClassModel(type);
+    }
+
+    @Test
+    public void testIdentityLookup() {
+        ClassModel model = classModel(new JsonbConfig());
+        assertEquals("first", model.findPropertyModelByJsonReadName("first").getPropertyName());
+        assertEquals("second", model.findPropertyModelByJsonReadName("renamed").getPropertyName());
+        assertNull(model.findPropertyModelByJsonReadName("second"));
+        assertEquals("value", model.findPropertyModelByJsonReadName("value").getPropertyName());
+        assertEquals("VALUE", model.findPropertyModelByJsonReadName("VALUE").getPropertyName());
+        assertNull(model.findPropertyModelByJsonReadName("Value"));
+        assertNull(model.findPropertyModelByJsonReadName("unknown"));
+    }
+
+    @Test
+    public void testNamingStrategyLookup() {
+        ClassModel model = classModel(new JsonbConfig()
+                .withPropertyNamingStrategy(PropertyNamingStrategy.LOWER_CASE_WITH_UNDERSCORES), UnderscorePojo.class);
+        assertEquals("camelCaseName", model.findPropertyModelByJsonReadName("camel_case_name").getPropertyName());
+        assertEquals("second", model.findPropertyModelByJsonReadName("renamed").getPropertyName());
+        assertNull(model.findPropertyModelByJsonReadName("camelCaseName"));
+    }
+
+    @Test
+    public void testCaseInsensitiveLookup() {
+        ClassModel model = classModel(new JsonbConfig().withPropertyNamingStrategy(PropertyNamingStrategy.CASE_INSENSITIVE));
+        assertEquals("first", model.findPropertyModelByJsonReadName("FiRsT").getPropertyName());
+        assertEquals("second", model.findPropertyModelByJsonReadName("RENAMED").getPropertyName());
+        assertEquals("camelCaseName", model.findPropertyModelByJsonReadName("camelcasename").getPropertyName());
+        //exact match is preferred over case insensitive one
+        assertEquals("value", model.findPropertyModelByJsonReadName("value").getPropertyName());
+        assertEquals("VALUE", model.findPropertyModelByJsonReadName("VALUE").getPropertyName());
+        assertNotNull(model.findPropertyModelByJsonReadName("vAlUe"));
+        assertNull(model.findPropertyModelByJsonReadName("firs"));
+    }
+
+    @Test
+    public void testManyNames() {
+        ClassModel model = classModel(new JsonbConfig());
+        PropertyModel[] properties = model.getSortedProperties();
+        PropertyModel[] many = new PropertyModel[properties.length * 40];
+        for (int i = 0; i < many.length; i++) {
+            many[i] = properties[i % properties.length];
+        }
+        PropertyNameIndex index = new PropertyNameIndex(many, false);
+        for (PropertyModel property : properties) {
+            assertSame(property, index.get(property.getReadName()));
+        }
+        assertNull(new PropertyNameIndex(new PropertyModel[0], true).get("first"));
+    }
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.eclipse.yasson.Jsonbs.*;
+
+import javax.json.bind.JsonbException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Random;
+
+/**
+ * Checks that ISO fast paths give the same results as {@link DateTimeFormatter}.
+ */
+public class IsoDateTimeFormatTest {
+
+    private static final int[] NANOS = {0, 1, 10, 100_000, 120_000_000, 123_000_000, 123_400_000, 123_456_000, 123_456_789};
+
+    @Test
+    public void testFormatMatchesFormatter() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            //four digit years only, other years are left to the formatters
+            long epochSecond = Math.floorMod(random.nextLong(), 253402300799L + 62167219200L) - 62167219200L;
+            Instant instant = Instant.ofEpochSecond(epochSecond, NANOS[random.nextInt(NANOS.length)]);
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds((random.nextInt(37) - 18) * 1800 + (random.nextInt(4) == 0 ? 30 : 0));
+            LocalDateTime dateTime = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+            OffsetDateTime offsetDateTime = OffsetDateTime.ofInstant(instant, offset);
+
+            assertEquals(DateTimeFormatter.ISO_INSTANT.format(instant), IsoDateTimeFormat.format(instant));
+            assertEquals(DateTimeFormatter.ISO_LOCAL_DATE.format(dateTime), IsoDateTimeFormat.format(dateTime.toLocalDate()));
+            assertEquals(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime), IsoDateTimeFormat.format(dateTime));
+            assertEquals(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(offsetDateTime), IsoDateTimeFormat.format(offsetDateTime));
+
+            assertEquals(instant, IsoDateTimeFormat.parseInstant(DateTimeFormatter.ISO_INSTANT.format(instant)));
+            assertEquals(dateTime.toLocalDate(), IsoDateTimeFormat.parseLocalDate(DateTimeFormatter.ISO_LOCAL_DATE.format(dateTime)));
+            assertEquals(dateTime, IsoDateTimeFormat.parseLocalDateTime(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime)));
+            assertEquals(offsetDateTime,
+                         IsoDateTimeFormat.parseOffsetDateTime(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(offsetDateTime)));
+        }
+    }
+
+    @Test
+    public void testUnsupportedShapes() {
+        assertNull(IsoDateTimeFormat.format(LocalDate.of(10000, 1, 1)));
+        assertNull(IsoDateTimeFormat.format(LocalDate.of(-1, 1, 1)));
+        assertNull(IsoDateTimeFormat.format(Instant.MAX));
+        assertNull(IsoDateTimeFormat.parseLocalDate("+10000-01-01"));
+        assertNull(IsoDateTimeFormat.parseLocalDateTime("2019-01-01t10:15"));
+        assertNull(IsoDateTimeFormat.parseLocalDateTime("2019-01-01T10:15:30."));
+        assertNull(IsoDateTimeFormat.parseOffsetDateTime("2019-01-01T10:15+0100"));
+        assertNull(IsoDateTimeFormat.parseInstant("2019-01-01T10:15Z"));
+        assertNull(IsoDateTimeFormat.parseInstant("2019-06-30T23:59:60Z"));
+        assertThrows(DateTimeException.class, () -> IsoDateTimeFormat.parseLocalDate("2019-02-30"));
+        assertThrows(DateTimeException.class, () -> IsoDateTimeFormat.parseLocalDateTime("2019-01-01T24:00"));
+    }
+
+    @Test
+    public void testDefaultFormats() {
+        assertEquals("\"2019-01-01T10:15:00.100Z\"", defaultJsonb.toJson(Instant.parse("2019-01-01T10:15:00.1Z")));
+        assertEquals("\"2019-01-01T10:15:00.1\"", defaultJsonb.toJson(LocalDateTime.of(2019, 1, 1, 10, 15, 0, 100_000_000)));
+        assertEquals("\"+10000-01-01\"", defaultJsonb.toJson(LocalDate.of(10000, 1, 1)));
+        assertEquals(Instant.parse("2016-12-31T23:59:59Z"), defaultJsonb.fromJson("\"2016-12-31T23:59:60Z\"", Instant.class));
+        assertEquals(OffsetDateTime.of(2019, 1, 1, 10, 15, 0, 0, ZoneOffset.ofHours(1)),
+                     defaultJsonb.fromJson("\"2019-01-01T10:15+01:00\"", OffsetDateTime.class));
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("\"2019-13-01\"", LocalDate.class));
+    }
+
+    @Test
+    public void testDateWithAndWithoutZone() {
+        assertEquals(new Date(Instant.parse("2019-01-01T10:15:30Z").toEpochMilli()),
+                     defaultJsonb.fromJson("\"2019-01-01T10:15:30\"", Date.class));
+        assertEquals(new Date(Instant.parse("2019-01-01T09:15:30Z").toEpochMilli()),
+                     defaultJsonb.fromJson("\"2019-01-01T10:15:30+01:00\"", Date.class));
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("\"2019-01-01\"", Date.class));
+    }
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Tests that cached and fixed decimal number formats produce the same output as {@link DecimalFormat}.
+ */
+public class NumberFormatCacheTest {
+
+    private static final String[] PATTERNS = {"#0.00", "0.00", "0", "000.0", "#,##0.00", "#,##0", "0.0000"};
+
+    private static final Locale[] LOCALES = {Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("ar", "EG"),
+            Locale.forLanguageTag("sv-SE")};
+
+    @Test
+    public void testSameAsDecimalFormat() {
+        NumberFormatCache cache = new NumberFormatCache();
+        for (String pattern : PATTERNS) {
+            for (Locale locale : LOCALES) {
+                DecimalFormat expected = (DecimalFormat) NumberFormat.getInstance(locale);
+                expected.applyPattern(pattern);
+                for (Number number : numbers()) {
+                    assertEquals(expected.format(number), cache.format(number, pattern, locale),
+                                 () -> number + " " + pattern + " " + locale);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFixedPatterns() {
+        for (String pattern : PATTERNS) {
+            assertNotNull(FixedDecimalFormat.create(pattern, new DecimalFormat(pattern)), pattern);
+        }
+        for (String pattern : new String[] {"#.##", "0.0#", "0.00E0", "#0.00%", "'$'0.00", "#.00"}) {
+            assertNull(FixedDecimalFormat.create(pattern, new DecimalFormat(pattern)), pattern);
+        }
+    }
+
+    @Test
+    public void testParseFormatPerThread() throws Exception {
+        NumberFormatCache cache = new NumberFormatCache();
+        NumberFormat integerFormat = cache.getFormat("#,##0.00", Locale.US, true);
+        assertSame(integerFormat, cache.getFormat("#,##0.00", Locale.US, true));
+        assertNotSame(integerFormat, cache.getFormat("#,##0.00", Locale.US, false));
+        assertEquals(1234L, integerFormat.parse("1,234.56"));
+        assertEquals(1234.56, cache.getFormat("#,##0.00", Locale.US, false).parse("1,234.56"));
+
+        NumberFormat[] otherThread = new NumberFormat[1];
+        Thread thread = new Thread(() -> otherThread[0] = cache.getFormat("#,##0.00", Locale.US, true));
+        thread.start();
+        thread.join();
+        assertNotSame(integerFormat, otherThread[0]);
+    }
+
+    private static List<Number> numbers() {
+        List<Number> numbers = new ArrayList<>();
+        double[] doubles = {0.0, -0.0, 0.5, 1.5, 2.5, -2.5, 0.125, 0.135, 1.005, 1.015, 2.675, -0.001, 0.045, 1e23,
+                123456789.125, 1e-20, 9.995, 99999.995, Double.MAX_VALUE, Double.MIN_VALUE, Double.NaN,
+                Double.POSITIVE_INFINITY};
+        for (double d : doubles) {
+            numbers.add(d);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 300; i++) {
+            numbers.add((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12)));
+            numbers.add(Math.round(random.nextDouble() * 100000) / 1000.0);
+            numbers.add((float) (random.nextDouble() * 1000));
+            numbers.add(random.nextLong());
+        }
+        numbers.add(Long.MIN_VALUE);
+        numbers.add(0);
+        numbers.add((short) -7);
+        numbers.add((byte) 5);
+        numbers.add(new BigDecimal("-1234567.8949"));
+        numbers.add(new BigDecimal("0.005"));
+        numbers.add(new BigDecimal("1E+3"));
+        numbers.add(new BigInteger("-123456789012345678901234567890"));
+        return numbers;
+    }
+}
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ ******************************************************************************/
+package org.eclipse.yasson.processor;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.yasson.internal.JsonbContext;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.spi.JsonProvider;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Tests class descriptors generated by {@link JsonbClassDescriptorProcessor}.
+ */
+public class JsonbClassDescriptorProcessorTest {
+
+    private static final String PET = "package sample;\n"
+            + "import javax.json.bind.annotation.JsonbProperty;\n"
+            + "public class Pet {\n"
+            + "    @JsonbProperty(\"pet_name\") private String name;\n"
+            + "    public int age;\n"
+            + "    private java.util.List<String> tags;\n"
+            + "    @JsonbProperty(nillable = true) public String owner;\n"
+            + "    public transient String ignored;\n"
+            + "    public final String constant = \"c\";\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = name; }\n"
+            + "    private String nick;\n"
+            + "    @JsonbProperty(\"renamed\") public String getNick() { return nick; }\n"
+            + "    public void setNick(String nick) { this.nick = nick; }\n"
+            + "    public java.util.List<String> getTags() { return tags; }\n"
+            + "    public void setTags(java.util.List<String> tags) { this.tags = tags; }\n"
+            + "    public static class Toy { public String label; }\n"
+            + "}\n";
+
+    private static final String SKIPPED = "package sample;\n"
+            + "import javax.json.bind.annotation.*;\n"
+            + "public class Skipped {\n"
+            + "    @JsonbProperty(\"x\") public String x;\n"
+            + "    @JsonbTransient public String secret;\n"
+            + "}\n";
+
+    private static final String BASE = "package sample;\n"
+            + "import javax.json.bind.annotation.JsonbProperty;\n"
+            + "public class Base {\n"
+            + "    @JsonbProperty(\"id\") private String id;\n"
+            + "    public String other;\n"
+            + "    public String getId() { return id; }\n"
+            + "    public void setId(String id) { this.id = id; }\n"
+            + "}\n";
+
+    private static final String CHILD = "package sample;\n"
+            + "public class Child extends Base {\n"
+            + "    @Override public void setId(String id) { super.setId(id); }\n"
+            + "}\n";
+
+    private static final String JSON = "{\"age\":3,\"constant\":\"c\",\"owner\":null,\"pet_name\":\"Rex\","
+            + "\"renamed\":\"Max\",\"tags\":[\"a\",\"b\"]}";
+
+    private static final Map<String, String> SOURCES = new HashMap<>();
+
+    static {
+        SOURCES.put("Pet", PET);
+        SOURCES.put("Skipped", SKIPPED);
+        SOURCES.put("Base", BASE);
+        SOURCES.put("Child", CHILD);
+    }
+
+    private Path tempDir;
+
+    @BeforeEach
+    public void createTempDir() throws Exception {
+        tempDir = Files.createTempDirectory("yasson-processor");
+    }
+
+    @AfterEach
+    public void deleteTempDir() throws Exception {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void testGeneratedDescriptor() throws Exception {
+        Path described = compile("described", "-processor", JsonbClassDescriptorProcessor.class.getName());
+        Path reflected = compile("reflected", "-proc:none");
+
+        String services = new String(Files.readAllBytes(
+                described.resolve("META-INF/services/org.eclipse.yasson.spi.JsonbClassDescriptorProvider")),
+                                     StandardCharsets.UTF_8);
+        assertEquals("sample.Pet_JsonbClassDescriptor\n", services);
+        assertFalse(Files.exists(described.resolve("sample/Skipped_JsonbClassDescriptor.class")));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {described.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> pet = loader.loadClass("sample.Pet");
+            withContextClassLoader(loader, () -> {
+                JsonbContext context = new JsonbContext(new JsonbConfig(), JsonProvider.provider());
+                assertNotNull(context.getClassDescriptor(pet));
+                assertNull(context.getClassDescriptor(loader.loadClass("sample.Skipped")));
+                assertEquals(JSON, roundTrip(pet));
+                return null;
+            });
+        }
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {reflected.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> pet = loader.loadClass("sample.Pet");
+            assertEquals(JSON, withContextClassLoader(loader, () -> roundTrip(pet)));
+        }
+    }
+
+    @Test
+    public void testPackagesOption() throws Exception {
+        Path described = compile("packages", "-processor", JsonbClassDescriptorProcessor.class.getName(),
+                                 "-A" + JsonbClassDescriptorProcessor.PACKAGES_OPTION + "=sample");
+        assertTrue(Files.exists(described.resolve("sample/Pet_JsonbClassDescriptor.class")));
+        assertTrue(Files.exists(described.resolve("sample/Pet_Toy_JsonbClassDescriptor.class")));
+        assertFalse(Files.exists(described.resolve("sample/Skipped_JsonbClassDescriptor.class")));
+    }
+
+    @Test
+    public void testReflectedChildOfDescribedParent() throws Exception {
+        Path described = compile("inherited", Arrays.asList("Base", "Child"),
+                                  "-processor", JsonbClassDescriptorProcessor.class.getName());
+        assertTrue(Files.exists(described.resolve("sample/Base_JsonbClassDescriptor.class")));
+        assertFalse(Files.exists(described.resolve("sample/Child_JsonbClassDescriptor.class")));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {described.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> child = loader.loadClass("sample.Child");
+            String json = withContextClassLoader(loader, () -> {
+                try (Jsonb jsonb = JsonbBuilder.create()) {
+                    return jsonb.toJson(jsonb.fromJson("{\"id\":\"x\",\"other\":\"o\"}", child));
+                }
+            });
+            //getter of described parent is kept for property, which setter is overridden by child
+            assertEquals("{\"id\":\"x\",\"other\":\"o\"}", json);
+        }
+    }
+
+    private static String roundTrip(Class<?> type) throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            //name on getter only applies to serialization
+            String input = "{\"age\":3,\"owner\":null,\"pet_name\":\"Rex\",\"nick\":\"Max\",\"renamed\":\"Bad\","
+                    + "\"tags\":[\"a\",\"b\"],\"ignored\":\"i\"}";
+            return jsonb.toJson(jsonb.fromJson(input, type));
+        }
+    }
+
+    private Path compile(String name, String... options) throws Exception {
+        return compile(name, Arrays.asList("Pet", "Skipped"), options);
+    }
+
+    private Path compile(String name, List<String> classNames, String... options) throws Exception {
+        Path sources = Files.createDirectories(tempDir.resolve(name + "-src/sample"));
+        Path classes = Files.createDirectories(tempDir.resolve(name));
+        List<String> sourceFiles = new ArrayList<>();
+        for (String className : classNames) {
+            Path source = sources.resolve(className + ".java");
+            Files.write(source, SOURCES.get(className).getBytes(StandardCharsets.UTF_8));
+            sourceFiles.add(source.toString());
+        }
+
+        List<String> arguments = new ArrayList<>(Arrays.asList(options));
+        String classPath = System.getProperty("java.class.path");
+        String modulePath = System.getProperty("jdk.module.path");
+        if (modulePath != null) {
+            classPath = classPath + File.pathSeparator + modulePath;
+        }
+        arguments.addAll(Arrays.asList("-classpath", classPath, "-d", classes.toString()));
+        arguments.addAll(sourceFiles);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+        return classes;
+    }
+
+    private static <T> T withContextClassLoader(ClassLoader loader, TestAction<T> action) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            return action.run();
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    private interface TestAction<T> {
+        T run() throws Exception;
+    }
+}
@@ -18,9 +18,12 @@ import javax.json.bind.JsonbConfig;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -58,4 +61,61 @@ public class MapToObjectSerializerTest {
             assertTrue(json.contains(e.name()), "Enumeration not well serialized");
         }
     }
+
+    /**
+     * Enum keys are written by name also when they are not the first key of a map.
+     */
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void testSerializeEnumKeyAfterOtherKey() throws Exception {
+        Map map = new HashMap();
+        map.put(null, "n");
+        map.put(TestEnum.TWO, "t");
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            assertEquals("{\"null\":\"n\",\"TWO\":\"t\"}", jsonb.toJson(map));
+        }
+    }
+
+    public static class TypedKeys {
+        public Map<Long, String> longs = new LinkedHashMap<>();
+        public Map<String, Integer> strings = new LinkedHashMap<>();
+        public Map<TestEnum, Byte> enums = new LinkedHashMap<>();
+    }
+
+    /**
+     * Maps with String, final Number and enum keys declared are serialized as JSON object without checking keys.
+     */
+    @Test
+    public void testSerializeTypedKeysToObject() throws Exception {
+        TypedKeys typedKeys = new TypedKeys();
+        typedKeys.longs.put(Long.MIN_VALUE, "min");
+        typedKeys.longs.put(-1L, "minus one");
+        typedKeys.longs.put(null, "null");
+        typedKeys.strings.put("a\"b", 1);
+        typedKeys.strings.put("c", null);
+        typedKeys.enums.put(TestEnum.TWO, (byte) 2);
+        typedKeys.enums.put(null, (byte) 0);
+        String expected = "{\"enums\":{\"TWO\":2,\"null\":0},"
+                + "\"longs\":{\"-9223372036854775808\":\"min\",\"-1\":\"minus one\",\"null\":\"null\"},"
+                + "\"strings\":{\"a\\\"b\":1}}";
+        try (Jsonb jsonb = JsonbBuilder.create(); Jsonb nullable = JsonbBuilder.create(new JsonbConfig().withNullValues(true))) {
+            assertEquals(expected, jsonb.toJson(typedKeys));
+            assertTrue(nullable.toJson(typedKeys).contains("\"strings\":{\"a\\\"b\":1,\"c\":null}"));
+        }
+    }
+
+    /**
+     * Null key of a map with declared enum keys is written as "null" at any position. When declared key type is unknown,
+     * the map with a null key is written as an array of entries with null key.
+     */
+    @Test
+    public void testSerializeNullEnumKey() throws Exception {
+        Map<TestEnum, Integer> map = new LinkedHashMap<>();
+        map.put(TestEnum.ONE, 1);
+        map.put(null, 2);
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            assertEquals("{\"ONE\":1,\"null\":2}", jsonb.toJson(map, TypedKeys.class.getField("enums").getGenericType()));
+            assertEquals("[{\"key\":\"ONE\",\"value\":1},{\"key\":null,\"value\":2}]", jsonb.toJson(map));
+        }
+    }
 }